@@ -1,13 +1,20 @@
 package io.quarkiverse.cxf.deployment;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import org.apache.cxf.Bus;
 import org.apache.cxf.common.spi.GeneratedClassClassLoaderCapture;
+import org.apache.cxf.databinding.DataBinding;
+import org.apache.cxf.endpoint.Client;
 import org.apache.cxf.endpoint.Server;
+import org.apache.cxf.jaxb.JAXBDataBinding;
 import org.apache.cxf.jaxws.JaxWsClientFactoryBean;
 import org.apache.cxf.jaxws.JaxWsServerFactoryBean;
 import org.jboss.jandex.AnnotationInstance;
@@ -16,8 +23,12 @@ import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.IndexView;
+import org.jboss.logging.Logger;
+
+import io.quarkiverse.cxf.ServiceModelSnapshot;
 
 public class CxfDeploymentUtils {
+    private static final Logger log = Logger.getLogger(CxfDeploymentUtils.class);
 
     private CxfDeploymentUtils() {
     }
@@ -79,15 +90,18 @@ public class CxfDeploymentUtils {
      *
      * @param sei the fully qualified name of the service class for which the server should be created
      * @param bus the bus to use with {@link GeneratedClassClassLoaderCapture} set properly.
+     * @return a {@link ServiceModelSnapshot} of the created server or {@code null} if none could be taken
      */
-    public static void createServer(String sei, String path, Bus bus) {
+    public static ServiceModelSnapshot createServer(String sei, String path, Bus bus) {
         JaxWsServerFactoryBean factoryBean = new JaxWsServerFactoryBean();
         factoryBean.setBus(bus);
         try {
             factoryBean.setServiceClass(Thread.currentThread().getContextClassLoader().loadClass(sei));
             factoryBean.setAddress(path);
             Server server = factoryBean.create();
+            final ServiceModelSnapshot result = snapshot(sei, server.getEndpoint().getService());
             server.destroy();
+            return result;
         } catch (ClassNotFoundException e) {
             throw new RuntimeException("Could not load " + sei, e);
         }
@@ -99,19 +113,63 @@ public class CxfDeploymentUtils {
      *
      * @param sei the fully qualified name of the service class for which the client should be created
      * @param bus the bus to use with {@link GeneratedClassClassLoaderCapture} set properly.
+     * @return a {@link ServiceModelSnapshot} of the created client or {@code null} if none could be taken
      */
-    public static void createClient(String sei, Bus bus) {
+    public static ServiceModelSnapshot createClient(String sei, Bus bus) {
 
         JaxWsClientFactoryBean factoryBean = new JaxWsClientFactoryBean();
         factoryBean.setBus(bus);
         try {
             factoryBean.setServiceClass(Thread.currentThread().getContextClassLoader().loadClass(sei));
-            factoryBean.create();
+            final Client client = factoryBean.create();
+            return snapshot(sei, client.getEndpoint().getService());
         } catch (ClassNotFoundException e) {
             throw new RuntimeException("Could not load " + sei, e);
         }
     }
 
+    /**
+     * @param sei the fully qualified name of the service interface
+     * @param service the service initialized at build time
+     * @return a {@link ServiceModelSnapshot} of the JAXB context of the given {@code service} or {@code null} if the
+     *         service does not use a plain {@link JAXBDataBinding}
+     */
+    static ServiceModelSnapshot snapshot(String sei, org.apache.cxf.service.Service service) {
+        final DataBinding dataBinding = service.getDataBinding();
+        if (dataBinding == null || dataBinding.getClass() != JAXBDataBinding.class) {
+            return null;
+        }
+        final JAXBDataBinding jaxb = (JAXBDataBinding) dataBinding;
+        if (jaxb.getContextProperties() != null && !jaxb.getContextProperties().isEmpty()) {
+            /* Cannot pass arbitrary objects to runtime */
+            return null;
+        }
+        try {
+            /* JAXBContextCache does not cache the contexts with type references */
+            final Field typeRefsField = JAXBDataBinding.class.getDeclaredField("typeRefs");
+            typeRefsField.setAccessible(true);
+            final Collection<?> typeRefs = (Collection<?>) typeRefsField.get(jaxb);
+            if (typeRefs != null && !typeRefs.isEmpty()) {
+                return null;
+            }
+            /* The default namespace is a part of the JAXB context but not of the JAXBContextCache key */
+            final Method getNamespaceToUse = JAXBDataBinding.class.getDeclaredMethod("getNamespaceToUse",
+                    org.apache.cxf.service.Service.class);
+            getNamespaceToUse.setAccessible(true);
+            final String defaultNamespace = (String) getNamespaceToUse.invoke(jaxb, service);
+
+            final Set<Class<?>> contextClasses = jaxb.getContextClasses();
+            final List<String> classNames = new ArrayList<>(contextClasses.size());
+            for (Class<?> cl : contextClasses) {
+                classNames.add(cl.getName());
+            }
+            return new ServiceModelSnapshot(sei, classNames, defaultNamespace);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.debugf(e, "Could not take a service model snapshot of %s", sei);
+            return null;
+        }
+    }
+
     public static String getNameSpaceFromClassInfo(ClassInfo wsClassInfo) {
         String pkg = wsClassInfo.name().toString();
         int idx = pkg.lastIndexOf('.');
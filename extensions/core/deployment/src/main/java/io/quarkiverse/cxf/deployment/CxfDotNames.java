@@ -28,4 +28,5 @@ public class CxfDotNames {
     static final DotName INJECT = DotName.createSimple(Inject.class.getName());
     static final DotName WEBSERVICE_CONTEXT = DotName.createSimple(jakarta.xml.ws.WebServiceContext.class.getName());
     static final DotName JAVA_LANG_OBJECT = DotName.createSimple(Object.class.getName());
+    static final DotName RUN_ON_VIRTUAL_THREAD = DotName.createSimple("io.smallrye.common.annotation.RunOnVirtualThread");
 }
@@ -14,6 +14,7 @@ public final class CxfEndpointImplementationBuildItem extends AbstractEndpointBu
     private final boolean provider;
     private final String relativePath;
     private final BeanLookupStrategy beanLookupStrategy;
+    private final boolean runOnVirtualThread;
 
     public CxfEndpointImplementationBuildItem(
             String sei,
@@ -23,13 +24,15 @@ public final class CxfEndpointImplementationBuildItem extends AbstractEndpointBu
             String wsName,
             boolean provider,
             String relativePath,
-            BeanLookupStrategy beanLookupStrategy) {
+            BeanLookupStrategy beanLookupStrategy,
+            boolean runOnVirtualThread) {
         super(soapBinding, wsNamespace, wsName);
         this.sei = sei;
         this.implementor = Objects.requireNonNull(implementor, "implementor cannot be null");
         this.provider = provider;
         this.relativePath = relativePath;
         this.beanLookupStrategy = beanLookupStrategy;
+        this.runOnVirtualThread = runOnVirtualThread;
     }
 
     public String getSei() {
@@ -57,4 +60,12 @@ public final class CxfEndpointImplementationBuildItem extends AbstractEndpointBu
         return beanLookupStrategy;
     }
 
+    /**
+     * @return {@code true} if the service implementation class is annotated with
+     *         {@code @io.smallrye.common.annotation.RunOnVirtualThread}; {@code false} otherwise
+     */
+    public boolean isRunOnVirtualThread() {
+        return runOnVirtualThread;
+    }
+
 }
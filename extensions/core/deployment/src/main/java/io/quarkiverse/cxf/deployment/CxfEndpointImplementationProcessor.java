@@ -29,6 +29,7 @@ import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.arc.deployment.BeanDefiningAnnotationBuildItem;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.Consume;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
@@ -192,12 +193,14 @@ public class CxfEndpointImplementationProcessor {
                         wsName,
                         hasWebServiceProviderAnnotation,
                         relativePathFromCxfEndpointAnnotation,
-                        beanLookupStrategy));
+                        beanLookupStrategy,
+                        wsClassInfo.hasDeclaredAnnotation(CxfDotNames.RUN_ON_VIRTUAL_THREAD)));
         serviceSeis.produce(new ServiceSeiBuildItem(impl));
     }
 
     @BuildStep
     @Record(ExecutionTime.RUNTIME_INIT)
+    @Consume(ServiceModelsPrimedBuildItem.class)
     CXFServletInfosBuildItem startRoute(CXFRecorder recorder,
             BuildProducer<RouteBuildItem> routes,
             BeanContainerBuildItem beanContainer,
@@ -228,7 +231,8 @@ public class CxfEndpointImplementationProcessor {
                             cl.loadClass(cxfWebService.getImplementor()),
                             cxfWebService.isProvider(),
                             cxfWebService.getRelativePath(),
-                            cxfWebService.getBeanLookupStrategy());
+                            cxfWebService.getBeanLookupStrategy(),
+                            cxfWebService.isRunOnVirtualThread());
                     requestors.add(cxfWebService.getImplementor());
                 } catch (ClassNotFoundException e) {
                     throw new RuntimeException(e);
@@ -239,6 +243,15 @@ public class CxfEndpointImplementationProcessor {
             final Handler<RoutingContext> handler = recorder.initServer(infos, beanContainer.getValue(), fixedConfig);
             final String mappingPath = getMappingPath(fixedConfig.path());
             LOGGER.infof("Mapping a Vert.x handler for CXF to %s as requested by %s", mappingPath, requestors);
+            /*
+             * Endpoints dispatched to the event loop or to virtual threads are served by a non-blocking route in front
+             * of the blocking one; it passes all other requests on and it is disabled if no endpoint needs it
+             */
+            routes.produce(RouteBuildItem.builder()
+                    .routeFunction(mappingPath, recorder.nonBlockingDispatcherRoute(handler))
+                    .handler(recorder.initNonBlockingDispatcher(handler))
+                    .handlerType(HandlerType.NORMAL)
+                    .build());
             routes.produce(RouteBuildItem.builder()
                     .route(mappingPath)
                     .handler(handler)
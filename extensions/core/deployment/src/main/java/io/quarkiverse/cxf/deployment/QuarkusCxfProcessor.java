@@ -75,15 +75,19 @@ import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 
 import io.quarkiverse.cxf.CXFRecorder;
+import io.quarkiverse.cxf.EagerInitializer;
 import io.quarkiverse.cxf.QuarkusBusFactory;
+import io.quarkiverse.cxf.ServiceModelSnapshot;
 import io.quarkiverse.cxf.deployment.CxfBuildTimeConfig.Wsdl2JavaParameterSet;
 import io.quarkiverse.cxf.deployment.codegen.Wsdl2JavaCodeGen;
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.GeneratedBeanBuildItem;
 import io.quarkus.arc.deployment.GeneratedBeanGizmoAdaptor;
 import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Produce;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.ExtensionSslNativeSupportBuildItem;
@@ -115,6 +119,11 @@ class QuarkusCxfProcessor {
         return QuarkusCxfFeature.CXF.asFeature();
     }
 
+    @BuildStep
+    AdditionalBeanBuildItem eagerInitializer() {
+        return AdditionalBeanBuildItem.unremovableOf(EagerInitializer.class);
+    }
+
     @BuildStep
     public void filterLogging(BuildProducer<LogCleanupFilterBuildItem> logCleanupProducer) {
         logCleanupProducer.produce(
@@ -217,13 +226,15 @@ class QuarkusCxfProcessor {
             List<ClientSeiBuildItem> clients,
             List<ServiceSeiBuildItem> endpointImplementations,
             BuildProducer<GeneratedBeanBuildItem> generatedBeans,
-            BuildProducer<ReflectiveClassBuildItem> reflectiveClasses) {
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClasses,
+            BuildProducer<ServiceModelSnapshotBuildItem> snapshots) {
 
         QuarkusCapture capture = new QuarkusCapture(new GeneratedBeanGizmoAdaptor(generatedBeans));
         final Bus bus = busBuildItem.getBus();
         final GeneratedClassClassLoaderCapture oldCapture = bus.getExtension(GeneratedClassClassLoaderCapture.class);
         bus.setExtension(capture, GeneratedClassClassLoaderCapture.class);
         try {
+            final Map<String, ServiceModelSnapshot> snapshotsBySei = new LinkedHashMap<>();
             final Random rnd = new Random(System.currentTimeMillis());
             endpointImplementations.stream()
                     .map(ServiceSeiBuildItem::getSei)
@@ -236,7 +247,10 @@ class QuarkusCxfProcessor {
                          */
                         final String path = "/QuarkusCxfProcessor/dummy-" + rnd.nextLong();
                         final int oldCnt = capture.getGeneratedClassesCount();
-                        CxfDeploymentUtils.createServer(sei, path, bus);
+                        final ServiceModelSnapshot snapshot = CxfDeploymentUtils.createServer(sei, path, bus);
+                        if (snapshot != null) {
+                            snapshotsBySei.putIfAbsent(sei, snapshot);
+                        }
                         LOGGER.infof("Generated %d ancillary classes for service %s",
                                 (capture.getGeneratedClassesCount() - oldCnt), sei);
                     });
@@ -247,7 +261,10 @@ class QuarkusCxfProcessor {
                     .forEach(sei -> {
                         LOGGER.debugf("Generating ancillary classes for client %s", sei);
                         final int oldCnt = capture.getGeneratedClassesCount();
-                        CxfDeploymentUtils.createClient(sei, bus);
+                        final ServiceModelSnapshot snapshot = CxfDeploymentUtils.createClient(sei, bus);
+                        if (snapshot != null) {
+                            snapshotsBySei.putIfAbsent(sei, snapshot);
+                        }
                         LOGGER.infof("Generated %d ancillary classes for client %s",
                                 (capture.getGeneratedClassesCount() - oldCnt), sei);
                     });
@@ -257,6 +274,18 @@ class QuarkusCxfProcessor {
                             .builder(capture.getGeneratedClasses())
                             .fields()
                             .build());
+
+            final Set<String> snapshotClasses = new LinkedHashSet<>();
+            for (ServiceModelSnapshot snapshot : snapshotsBySei.values()) {
+                snapshots.produce(new ServiceModelSnapshotBuildItem(snapshot));
+                snapshot.getContextClasses().stream()
+                        .filter(cl -> cl.indexOf('.') >= 0 && cl.charAt(0) != '[')
+                        .forEach(snapshotClasses::add);
+            }
+            if (!snapshotClasses.isEmpty()) {
+                /* So that ServiceModelSnapshot can load them by name in native mode */
+                reflectiveClasses.produce(ReflectiveClassBuildItem.builder(snapshotClasses.toArray(new String[0])).build());
+            }
         } finally {
             /*
              * The capture is only valid only while the supplied GeneratedBeanBuildItem producer is alive anyway
@@ -686,12 +715,27 @@ class QuarkusCxfProcessor {
 
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    @Produce(ServiceModelsPrimedBuildItem.class)
+    void primeServiceModels(
+            CXFRecorder recorder,
+            List<ServiceModelSnapshotBuildItem> snapshots,
+            ShutdownContextBuildItem shutdownContext) {
+        if (!snapshots.isEmpty()) {
+            recorder.primeServiceModels(snapshots.stream()
+                    .map(ServiceModelSnapshotBuildItem::getSnapshot)
+                    .collect(Collectors.toList()), shutdownContext);
+        }
+    }
+
     @BuildStep
     @Record(ExecutionTime.RUNTIME_INIT)
     void shutDown(
             CXFRecorder recorder,
             ShutdownContextBuildItem shutdownContext) {
         recorder.resetDestinationRegistry(shutdownContext);
+        recorder.clearClientServiceModelCache(shutdownContext);
     }
 
     @BuildStep
@@ -0,0 +1,23 @@
+package io.quarkiverse.cxf.deployment;
+
+import java.util.Objects;
+
+import io.quarkiverse.cxf.ServiceModelSnapshot;
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * Holds a {@link ServiceModelSnapshot} of a service interface captured while generating ancillary classes at build
+ * time.
+ */
+public final class ServiceModelSnapshotBuildItem extends MultiBuildItem {
+    private final ServiceModelSnapshot snapshot;
+
+    public ServiceModelSnapshotBuildItem(ServiceModelSnapshot snapshot) {
+        super();
+        this.snapshot = Objects.requireNonNull(snapshot, "snapshot cannot be null");
+    }
+
+    public ServiceModelSnapshot getSnapshot() {
+        return snapshot;
+    }
+}
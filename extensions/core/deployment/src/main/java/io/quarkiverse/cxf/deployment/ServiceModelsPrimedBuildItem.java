@@ -0,0 +1,10 @@
+package io.quarkiverse.cxf.deployment;
+
+import io.quarkus.builder.item.EmptyBuildItem;
+
+/**
+ * Signals that the JAXB contexts described by {@link ServiceModelSnapshotBuildItem}s are created at runtime before
+ * the steps consuming this build item.
+ */
+public final class ServiceModelsPrimedBuildItem extends EmptyBuildItem {
+}
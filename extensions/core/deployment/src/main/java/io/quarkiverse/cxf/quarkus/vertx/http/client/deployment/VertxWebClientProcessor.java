@@ -4,6 +4,7 @@ import java.util.List;
 
 import io.quarkiverse.cxf.vertx.http.client.HttpClientPool;
 import io.quarkiverse.cxf.vertx.http.client.HttpClientPool.HttpClientPoolRecorder;
+import io.quarkiverse.cxf.vertx.http.client.HttpClientWarmup;
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
@@ -15,6 +16,7 @@ public class VertxWebClientProcessor {
     @BuildStep
     void additionalBeans(BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
         additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(HttpClientPool.class));
+        additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(HttpClientWarmup.class));
     }
 
     @BuildStep
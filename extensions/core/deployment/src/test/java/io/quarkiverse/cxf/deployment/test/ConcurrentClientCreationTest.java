@@ -0,0 +1,162 @@
+package io.quarkiverse.cxf.deployment.test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Instance;
+import jakarta.jws.WebMethod;
+import jakarta.jws.WebService;
+
+import org.apache.cxf.BusFactory;
+import org.apache.cxf.transport.http.HTTPConduitFactory;
+import org.assertj.core.api.Assertions;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.cxf.QuarkusHTTPConduitFactory;
+import io.quarkiverse.cxf.annotation.CXFClient;
+import io.quarkus.test.QuarkusUnitTest;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.ext.web.Router;
+
+/**
+ * Make sure that clients fetching their WSDL over HTTP can be created in parallel and that each of them fetches its
+ * WSDL with its own HTTP configuration rather than through the {@link HTTPConduitFactory} of the shared Bus.
+ */
+public class ConcurrentClientCreationTest {
+
+    private static final int CLIENT_COUNT = 8;
+
+    /* WSDL requests per client name that came with the credentials of the given client */
+    private static final Map<String, AtomicInteger> authorizedWsdlRequests = new ConcurrentHashMap<>();
+    private static final AtomicInteger unauthorizedWsdlRequests = new AtomicInteger();
+    /* Whether any client-specific HTTPConduitFactory was set on the Bus while a WSDL was being fetched */
+    private static final AtomicBoolean busConduitFactorySwapped = new AtomicBoolean();
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(HelloService.class, HelloServiceImpl.class))
+            .overrideConfigKey("quarkus.cxf.endpoint.\"/hello\".implementor", HelloServiceImpl.class.getName())
+
+            .overrideConfigKey("quarkus.cxf.client.vertx.client-endpoint-url", "http://localhost:8081/services/hello")
+            .overrideConfigKey("quarkus.cxf.client.vertx.wsdl", "http://localhost:8081/wsdl/vertx")
+            .overrideConfigKey("quarkus.cxf.client.vertx.service-interface", HelloService.class.getName())
+            .overrideConfigKey("quarkus.cxf.client.vertx.http-conduit-factory", "VertxHttpClientHTTPConduitFactory")
+            .overrideConfigKey("quarkus.cxf.client.vertx.auth.username", "vertx")
+            .overrideConfigKey("quarkus.cxf.client.vertx.auth.password", password("vertx"))
+            .overrideConfigKey("quarkus.cxf.client.vertx.secure-wsdl-access", "true")
+
+            .overrideConfigKey("quarkus.cxf.client.urlConnection.client-endpoint-url",
+                    "http://localhost:8081/services/hello")
+            .overrideConfigKey("quarkus.cxf.client.urlConnection.wsdl", "http://localhost:8081/wsdl/urlConnection")
+            .overrideConfigKey("quarkus.cxf.client.urlConnection.service-interface", HelloService.class.getName())
+            .overrideConfigKey("quarkus.cxf.client.urlConnection.http-conduit-factory",
+                    "URLConnectionHTTPConduitFactory")
+            .overrideConfigKey("quarkus.cxf.client.urlConnection.auth.username", "urlConnection")
+            .overrideConfigKey("quarkus.cxf.client.urlConnection.auth.password", password("urlConnection"))
+            .overrideConfigKey("quarkus.cxf.client.urlConnection.secure-wsdl-access", "true");
+
+    @CXFClient("vertx")
+    Instance<HelloService> vertxClients;
+
+    @CXFClient("urlConnection")
+    Instance<HelloService> urlConnectionClients;
+
+    @Test
+    void concurrentCreation() throws InterruptedException, ExecutionException, TimeoutException {
+        final ExecutorService executor = Executors.newFixedThreadPool(CLIENT_COUNT);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < CLIENT_COUNT; i++) {
+                final Instance<HelloService> clients = i % 2 == 0 ? vertxClients : urlConnectionClients;
+                final String person = "Joe" + i;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return clients.get().hello(person);
+                }));
+            }
+            start.countDown();
+            for (int i = 0; i < CLIENT_COUNT; i++) {
+                Assertions.assertThat(results.get(i).get(10, TimeUnit.SECONDS)).isEqualTo("Hello Joe" + i);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        /* Each client fetched its WSDL with its own credentials */
+        Assertions.assertThat(unauthorizedWsdlRequests.get()).isZero();
+        Assertions.assertThat(authorizedWsdlRequests.get("vertx")).isNotNull().hasPositiveValue();
+        Assertions.assertThat(authorizedWsdlRequests.get("urlConnection")).isNotNull().hasPositiveValue();
+        /* ... and not by swapping the HTTPConduitFactory of the shared Bus */
+        Assertions.assertThat(busConduitFactorySwapped.get()).isFalse();
+    }
+
+    static String password(String clientName) {
+        return clientName + "-secret";
+    }
+
+    /**
+     * Serve the WSDL of {@code /services/hello} under {@code /wsdl/<client-name>} only to requests carrying the
+     * credentials of the given client.
+     */
+    void init(@Observes Router router) {
+        router.get("/wsdl/:client").handler(ctx -> {
+            if (BusFactory.getDefaultBus().getExtension(HTTPConduitFactory.class) instanceof QuarkusHTTPConduitFactory) {
+                busConduitFactorySwapped.set(true);
+            }
+            final String clientName = ctx.pathParam("client");
+            final String expected = "Basic " + Base64.getEncoder()
+                    .encodeToString((clientName + ":" + password(clientName)).getBytes(StandardCharsets.UTF_8));
+            if (!expected.equals(ctx.request().getHeader("Authorization"))) {
+                unauthorizedWsdlRequests.incrementAndGet();
+                ctx.response().setStatusCode(401).putHeader("WWW-Authenticate", "Basic realm=\"wsdl\"").end();
+                return;
+            }
+            authorizedWsdlRequests.computeIfAbsent(clientName, k -> new AtomicInteger()).incrementAndGet();
+            final HttpClient client = ctx.vertx().createHttpClient();
+            client.request(HttpMethod.GET, 8081, "localhost", "/services/hello?wsdl")
+                    .compose(req -> req.send().compose(HttpClientResponse::body))
+                    .onComplete(ar -> client.close())
+                    .onSuccess(body -> ctx.response().putHeader("Content-Type", "text/xml").end(body))
+                    .onFailure(ctx::fail);
+        });
+    }
+
+    @WebService
+    public interface HelloService {
+
+        @WebMethod
+        String hello(String person);
+
+    }
+
+    @WebService(endpointInterface = "io.quarkiverse.cxf.deployment.test.ConcurrentClientCreationTest$HelloService", serviceName = "HelloService")
+    public static class HelloServiceImpl implements HelloService {
+
+        @Override
+        public String hello(String person) {
+            return "Hello " + person;
+        }
+    }
+
+}
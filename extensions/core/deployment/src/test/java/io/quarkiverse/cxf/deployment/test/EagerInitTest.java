@@ -0,0 +1,56 @@
+package io.quarkiverse.cxf.deployment.test;
+
+import jakarta.jws.WebMethod;
+import jakarta.jws.WebService;
+
+import org.assertj.core.api.Assertions;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.cxf.annotation.CXFClient;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class EagerInitTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(HelloService.class, HelloServiceImpl.class))
+            .overrideConfigKey("quarkus.cxf.eager-init.enabled", "true")
+            .overrideConfigKey("quarkus.cxf.endpoint.\"/hello\".implementor", HelloServiceImpl.class.getName())
+            .overrideConfigKey("quarkus.cxf.client.hello.client-endpoint-url", "http://localhost:8081/services/hello")
+            .overrideConfigKey("quarkus.cxf.client.hello.service-interface", HelloService.class.getName())
+            .setLogRecordPredicate(r -> r.getLoggerName().contains("EagerInitializer"))
+            .assertLogRecords(records -> Assertions.assertThat(records)
+                    .anyMatch(r -> r.getMessage().startsWith("Eager initialization finished")
+                            && r.getParameters()[2].equals(1)
+                            && r.getParameters()[3].equals(1)));
+
+    @CXFClient("hello")
+    HelloService hello;
+
+    @Test
+    void eagerInit() {
+        Assertions.assertThat(hello.hello("Joe")).isEqualTo("Hello Joe");
+    }
+
+    @WebService
+    public interface HelloService {
+
+        @WebMethod
+        String hello(String person);
+
+    }
+
+    @WebService(endpointInterface = "io.quarkiverse.cxf.deployment.test.EagerInitTest$HelloService", serviceName = "HelloService")
+    public static class HelloServiceImpl implements HelloService {
+
+        @Override
+        public String hello(String person) {
+            return "Hello " + person;
+        }
+    }
+
+}
@@ -0,0 +1,204 @@
+package io.quarkiverse.cxf.deployment.test;
+
+import jakarta.inject.Inject;
+import jakarta.jws.WebMethod;
+import jakarta.jws.WebService;
+
+import org.assertj.core.api.Assertions;
+import org.hamcrest.CoreMatchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.cxf.annotation.CXFClient;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import io.vertx.core.Context;
+
+public class EndpointDispatchTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(HelloService.class, HelloServiceImpl.class, VirtualThreadHelloServiceImpl.class,
+                            RepeatService.class, RepeatServiceImpl.class))
+            .overrideConfigKey("quarkus.cxf.endpoint.\"/worker\".implementor", HelloServiceImpl.class.getName())
+            .overrideConfigKey("quarkus.cxf.endpoint.\"/event-loop\".implementor", HelloServiceImpl.class.getName())
+            .overrideConfigKey("quarkus.cxf.endpoint.\"/event-loop\".dispatch", "event-loop")
+            .overrideConfigKey("quarkus.http.limits.max-body-size", "4K")
+            .overrideConfigKey("quarkus.cxf.endpoint.\"/event-loop-repeat\".implementor", RepeatServiceImpl.class.getName())
+            .overrideConfigKey("quarkus.cxf.endpoint.\"/event-loop-repeat\".dispatch", "event-loop")
+            .overrideConfigKey("quarkus.cxf.endpoint.\"/event-loop-capped\".implementor", RepeatServiceImpl.class.getName())
+            .overrideConfigKey("quarkus.cxf.endpoint.\"/event-loop-capped\".dispatch", "event-loop")
+            .overrideConfigKey("quarkus.cxf.endpoint.\"/event-loop-capped\".event-loop-max-response-size", "16K")
+            .overrideConfigKey("quarkus.cxf.endpoint.\"/virtual-thread\".implementor", HelloServiceImpl.class.getName())
+            .overrideConfigKey("quarkus.cxf.endpoint.\"/virtual-thread\".dispatch", "virtual-thread")
+            .overrideConfigKey("quarkus.cxf.endpoint.\"/annotated\".implementor",
+                    VirtualThreadHelloServiceImpl.class.getName())
+
+            .overrideConfigKey("quarkus.cxf.client.worker.client-endpoint-url", "http://localhost:8081/services/worker")
+            .overrideConfigKey("quarkus.cxf.client.worker.service-interface", HelloService.class.getName())
+
+            .overrideConfigKey("quarkus.cxf.client.eventLoop.client-endpoint-url",
+                    "http://localhost:8081/services/event-loop")
+            .overrideConfigKey("quarkus.cxf.client.eventLoop.service-interface", HelloService.class.getName())
+
+            .overrideConfigKey("quarkus.cxf.client.eventLoopRepeat.client-endpoint-url",
+                    "http://localhost:8081/services/event-loop-repeat")
+            .overrideConfigKey("quarkus.cxf.client.eventLoopRepeat.service-interface", RepeatService.class.getName())
+
+            .overrideConfigKey("quarkus.cxf.client.virtualThread.client-endpoint-url",
+                    "http://localhost:8081/services/virtual-thread")
+            .overrideConfigKey("quarkus.cxf.client.virtualThread.service-interface", HelloService.class.getName())
+
+            .overrideConfigKey("quarkus.cxf.client.annotated.client-endpoint-url",
+                    "http://localhost:8081/services/annotated")
+            .overrideConfigKey("quarkus.cxf.client.annotated.service-interface", HelloService.class.getName());
+
+    @Inject
+    @CXFClient("worker")
+    HelloService worker;
+
+    @Inject
+    @CXFClient("eventLoop")
+    HelloService eventLoop;
+
+    @Inject
+    @CXFClient("eventLoopRepeat")
+    RepeatService eventLoopRepeat;
+
+    @Inject
+    @CXFClient("virtualThread")
+    HelloService virtualThread;
+
+    @Inject
+    @CXFClient("annotated")
+    HelloService annotated;
+
+    @Test
+    public void worker() {
+        Assertions.assertThat(worker.hello("Joe")).isEqualTo("Hello Joe from worker");
+    }
+
+    @Test
+    public void eventLoop() {
+        Assertions.assertThat(eventLoop.hello("Joe")).isEqualTo("Hello Joe from event-loop");
+    }
+
+    @Test
+    public void eventLoopBodyTooLarge() {
+        final String person = "x".repeat(8 * 1024);
+        RestAssured.given()
+                .header("Content-Type", "text/xml")
+                .body("<s11:Envelope xmlns:s11=\"http://schemas.xmlsoap.org/soap/envelope/\">"
+                        + "<s11:Body><ns1:hello xmlns:ns1=\"http://test.deployment.cxf.quarkiverse.io/\">"
+                        + "<arg0>" + person + "</arg0>"
+                        + "</ns1:hello></s11:Body></s11:Envelope>")
+                .post("/services/event-loop")
+                .then()
+                .statusCode(413);
+    }
+
+    @Test
+    public void eventLoopResponseLargerThanWriteQueue() {
+        /* Much more than the 64K write queue of the response */
+        final int count = 200_000;
+        final String result = eventLoopRepeat.repeat("0123456789", count);
+        Assertions.assertThat(result).hasSize(10 * count + " from event-loop".length());
+        Assertions.assertThat(result).startsWith("0123456789").endsWith("0123456789 from event-loop");
+    }
+
+    @Test
+    public void eventLoopResponseTooLarge() {
+        RestAssured.given()
+                .header("Content-Type", "text/xml")
+                .body("<s11:Envelope xmlns:s11=\"http://schemas.xmlsoap.org/soap/envelope/\">"
+                        + "<s11:Body><ns1:repeat xmlns:ns1=\"http://test.deployment.cxf.quarkiverse.io/\">"
+                        + "<arg0>0123456789</arg0><arg1>10000</arg1>"
+                        + "</ns1:repeat></s11:Body></s11:Envelope>")
+                .post("/services/event-loop-capped")
+                .then()
+                .statusCode(500);
+
+        /* Small responses pass */
+        RestAssured.given()
+                .header("Content-Type", "text/xml")
+                .body("<s11:Envelope xmlns:s11=\"http://schemas.xmlsoap.org/soap/envelope/\">"
+                        + "<s11:Body><ns1:repeat xmlns:ns1=\"http://test.deployment.cxf.quarkiverse.io/\">"
+                        + "<arg0>0123456789</arg0><arg1>10</arg1>"
+                        + "</ns1:repeat></s11:Body></s11:Envelope>")
+                .post("/services/event-loop-capped")
+                .then()
+                .statusCode(200)
+                .body(CoreMatchers.containsString("0123456789 from event-loop</return>"));
+    }
+
+    @Test
+    public void virtualThread() {
+        Assertions.assertThat(virtualThread.hello("Joe")).isEqualTo("Hello Joe from " + expectedVirtualThreadKind());
+    }
+
+    @Test
+    public void runOnVirtualThreadAnnotation() {
+        Assertions.assertThat(annotated.hello("Joe")).isEqualTo("Hello Joe from " + expectedVirtualThreadKind());
+    }
+
+    static String expectedVirtualThreadKind() {
+        /* Quarkus falls back to the worker pool on Java versions without virtual threads */
+        return Runtime.version().feature() >= 21 ? "virtual-thread" : "worker";
+    }
+
+    static String threadKind() {
+        if (Context.isOnEventLoopThread()) {
+            return "event-loop";
+        }
+        return Thread.currentThread().getName().startsWith("quarkus-virtual-thread") ? "virtual-thread" : "worker";
+    }
+
+    @WebService
+    public interface HelloService {
+
+        @WebMethod
+        String hello(String person);
+
+    }
+
+    @WebService(endpointInterface = "io.quarkiverse.cxf.deployment.test.EndpointDispatchTest$HelloService", serviceName = "HelloService")
+    public static class HelloServiceImpl implements HelloService {
+
+        @Override
+        public String hello(String person) {
+            return "Hello " + person + " from " + threadKind();
+        }
+    }
+
+    @WebService(endpointInterface = "io.quarkiverse.cxf.deployment.test.EndpointDispatchTest$HelloService", serviceName = "HelloService")
+    @RunOnVirtualThread
+    public static class VirtualThreadHelloServiceImpl implements HelloService {
+
+        @Override
+        public String hello(String person) {
+            return "Hello " + person + " from " + threadKind();
+        }
+    }
+
+    @WebService
+    public interface RepeatService {
+
+        @WebMethod
+        String repeat(String text, int count);
+
+    }
+
+    @WebService(endpointInterface = "io.quarkiverse.cxf.deployment.test.EndpointDispatchTest$RepeatService", serviceName = "RepeatService")
+    public static class RepeatServiceImpl implements RepeatService {
+
+        @Override
+        public String repeat(String text, int count) {
+            return text.repeat(count) + " from " + threadKind();
+        }
+    }
+
+}
@@ -0,0 +1,87 @@
+package io.quarkiverse.cxf.deployment.test;
+
+import jakarta.jws.WebMethod;
+import jakarta.jws.WebService;
+
+import org.hamcrest.CoreMatchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+/**
+ * Make sure that multiple endpoints sharing a service endpoint interface are all registered and served.
+ */
+public class ParallelEndpointInitTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(HelloService.class, HelloServiceImpl1.class, HelloServiceImpl2.class,
+                            HelloServiceImpl3.class, HelloServiceImpl4.class))
+            .overrideConfigKey("quarkus.cxf.endpoint.\"/hello1\".implementor", HelloServiceImpl1.class.getName())
+            .overrideConfigKey("quarkus.cxf.endpoint.\"/hello2\".implementor", HelloServiceImpl2.class.getName())
+            .overrideConfigKey("quarkus.cxf.endpoint.\"/hello3\".implementor", HelloServiceImpl3.class.getName())
+            .overrideConfigKey("quarkus.cxf.endpoint.\"/hello4\".implementor", HelloServiceImpl4.class.getName());
+
+    @Test
+    void allEndpointsServed() {
+        for (int i = 1; i <= 4; i++) {
+            RestAssured.given()
+                    .header("Content-Type", "text/xml")
+                    .body("<s11:Envelope xmlns:s11=\"http://schemas.xmlsoap.org/soap/envelope/\">\n"
+                            + "  <s11:Body>\n"
+                            + "    <ns1:hello xmlns:ns1=\"http://test.deployment.cxf.quarkiverse.io/\">\n"
+                            + "      <arg0>Joe</arg0>\n"
+                            + "    </ns1:hello>\n"
+                            + "  </s11:Body>\n"
+                            + "</s11:Envelope>")
+                    .post("/services/hello" + i)
+                    .then()
+                    .statusCode(200)
+                    .body(CoreMatchers.containsString("<return>Hello " + i + " Joe</return>"));
+        }
+    }
+
+    @WebService(targetNamespace = "http://test.deployment.cxf.quarkiverse.io/")
+    public interface HelloService {
+        @WebMethod
+        String hello(String name);
+    }
+
+    @WebService(serviceName = "HelloService1", endpointInterface = "io.quarkiverse.cxf.deployment.test.ParallelEndpointInitTest$HelloService", targetNamespace = "http://test.deployment.cxf.quarkiverse.io/")
+    public static class HelloServiceImpl1 implements HelloService {
+        @Override
+        public String hello(String name) {
+            return "Hello 1 " + name;
+        }
+    }
+
+    @WebService(serviceName = "HelloService2", endpointInterface = "io.quarkiverse.cxf.deployment.test.ParallelEndpointInitTest$HelloService", targetNamespace = "http://test.deployment.cxf.quarkiverse.io/")
+    public static class HelloServiceImpl2 implements HelloService {
+        @Override
+        public String hello(String name) {
+            return "Hello 2 " + name;
+        }
+    }
+
+    @WebService(serviceName = "HelloService3", endpointInterface = "io.quarkiverse.cxf.deployment.test.ParallelEndpointInitTest$HelloService", targetNamespace = "http://test.deployment.cxf.quarkiverse.io/")
+    public static class HelloServiceImpl3 implements HelloService {
+        @Override
+        public String hello(String name) {
+            return "Hello 3 " + name;
+        }
+    }
+
+    @WebService(serviceName = "HelloService4", endpointInterface = "io.quarkiverse.cxf.deployment.test.ParallelEndpointInitTest$HelloService", targetNamespace = "http://test.deployment.cxf.quarkiverse.io/")
+    public static class HelloServiceImpl4 implements HelloService {
+        @Override
+        public String hello(String name) {
+            return "Hello 4 " + name;
+        }
+    }
+
+}
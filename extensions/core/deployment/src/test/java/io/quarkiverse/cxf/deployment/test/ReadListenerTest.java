@@ -0,0 +1,95 @@
+package io.quarkiverse.cxf.deployment.test;
+
+import java.io.IOException;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.servlet.ReadListener;
+
+import org.hamcrest.CoreMatchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.cxf.transport.VertxServletInputStream;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.vertx.core.Context;
+import io.vertx.ext.web.Router;
+
+/**
+ * Make sure that the {@link ReadListener} callbacks of {@link VertxServletInputStream} get called on the event loop
+ * and that they see the whole request body.
+ */
+public class ReadListenerTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class));
+
+    @Test
+    void largeBody() {
+        final String body = "0123456789".repeat(100_000);
+        RestAssured.given()
+                .body(body)
+                .post("/read-listener")
+                .then()
+                .statusCode(200)
+                .body(CoreMatchers.is("bytes: " + body.length()
+                        + ", onDataAvailable called: true"
+                        + ", all callbacks on event loop: true"));
+    }
+
+    @Test
+    void emptyBody() {
+        RestAssured.given()
+                .body("")
+                .post("/read-listener")
+                .then()
+                .statusCode(200)
+                /* onDataAvailable() may or may not be called depending on whether the request ended already */
+                .body(CoreMatchers.allOf(
+                        CoreMatchers.startsWith("bytes: 0, "),
+                        CoreMatchers.endsWith(", all callbacks on event loop: true")));
+    }
+
+    void init(@Observes Router router) {
+        router.post("/read-listener").handler(ctx -> {
+            /* A tiny read-ahead buffer so that the request gets paused and resumed many times */
+            final VertxServletInputStream in = new VertxServletInputStream(ctx, 10000, 64);
+            in.setReadListener(new ReadListener() {
+                private final byte[] buffer = new byte[32];
+                private long bytes;
+                private boolean dataAvailableCalled;
+                private boolean allOnEventLoop = true;
+
+                @Override
+                public void onDataAvailable() throws IOException {
+                    dataAvailableCalled = true;
+                    allOnEventLoop &= Context.isOnEventLoopThread();
+                    while (in.isReady() && !in.isFinished()) {
+                        final int n = in.read(buffer);
+                        if (n < 0) {
+                            break;
+                        }
+                        bytes += n;
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() throws IOException {
+                    allOnEventLoop &= Context.isOnEventLoopThread();
+                    ctx.response().end("bytes: " + bytes
+                            + ", onDataAvailable called: " + dataAvailableCalled
+                            + ", all callbacks on event loop: " + allOnEventLoop);
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    ctx.response().setStatusCode(500).end(t.toString());
+                }
+            });
+        });
+    }
+
+}
@@ -0,0 +1,139 @@
+package io.quarkiverse.cxf.deployment.test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+import jakarta.jws.WebMethod;
+import jakarta.jws.WebService;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.Assumptions;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.cxf.annotation.CXFClient;
+import io.quarkus.test.QuarkusUnitTest;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+
+public class RequestBodyReadAheadTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(LengthService.class, LengthServiceImpl.class))
+            /* A tiny read-ahead buffer so that the request gets paused and resumed many times */
+            .overrideConfigKey("quarkus.cxf.input-read-ahead-size", "64")
+            .overrideConfigKey("quarkus.cxf.endpoint.\"/worker\".implementor", LengthServiceImpl.class.getName())
+            .overrideConfigKey("quarkus.cxf.endpoint.\"/virtual-thread\".implementor", LengthServiceImpl.class.getName())
+            .overrideConfigKey("quarkus.cxf.endpoint.\"/virtual-thread\".dispatch", "virtual-thread")
+
+            .overrideConfigKey("quarkus.cxf.client.worker.client-endpoint-url", "http://localhost:8081/services/worker")
+            .overrideConfigKey("quarkus.cxf.client.worker.service-interface", LengthService.class.getName())
+            .overrideConfigKey("quarkus.cxf.client.virtualThread.client-endpoint-url",
+                    "http://localhost:8081/services/virtual-thread")
+            .overrideConfigKey("quarkus.cxf.client.virtualThread.service-interface", LengthService.class.getName());
+
+    @Inject
+    @CXFClient("worker")
+    LengthService worker;
+
+    @Inject
+    @CXFClient("virtualThread")
+    LengthService virtualThread;
+
+    @Test
+    public void smallBody() {
+        Assertions.assertThat(worker.length("foo")).isEqualTo(3);
+        Assertions.assertThat(virtualThread.length("foo")).isEqualTo(3);
+    }
+
+    @Test
+    public void largeBody() {
+        final String payload = "0123456789".repeat(100_000);
+        Assertions.assertThat(worker.length(payload)).isEqualTo(payload.length());
+        Assertions.assertThat(virtualThread.length(payload)).isEqualTo(payload.length());
+    }
+
+    /**
+     * A blocking read on a virtual thread must not pin the carrier thread while waiting for the next chunk of the
+     * request body.
+     */
+    @Test
+    public void largeBodyOnVirtualThreadDoesNotPin() throws Exception {
+        Assumptions.assumeThat(Runtime.version().feature()).isGreaterThanOrEqualTo(21);
+        final String payload = "0123456789".repeat(100_000);
+        final Path jfrFile = Files.createTempFile("RequestBodyReadAheadTest", ".jfr");
+        try {
+            try (Recording recording = new Recording()) {
+                recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+                recording.start();
+                final ExecutorService executor = Executors.newFixedThreadPool(4);
+                try {
+                    final List<Future<Integer>> results = new ArrayList<>();
+                    for (int i = 0; i < 4; i++) {
+                        results.add(executor.submit(() -> virtualThread.length(payload)));
+                    }
+                    for (Future<Integer> result : results) {
+                        Assertions.assertThat(result.get(30, TimeUnit.SECONDS)).isEqualTo(payload.length());
+                    }
+                } finally {
+                    executor.shutdownNow();
+                }
+                recording.stop();
+                recording.dump(jfrFile);
+            }
+            final List<String> pinnedIn = new ArrayList<>();
+            for (RecordedEvent event : RecordingFile.readAllEvents(jfrFile)) {
+                if (event.getStackTrace() == null) {
+                    continue;
+                }
+                for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+                    final String className = frame.getMethod().getType().getName();
+                    if (className.startsWith("io.quarkiverse.cxf.transport.VertxServletInputStream")) {
+                        pinnedIn.add(className + "." + frame.getMethod().getName());
+                        break;
+                    }
+                }
+            }
+            Assertions.assertThat(pinnedIn).isEmpty();
+        } finally {
+            try {
+                Files.deleteIfExists(jfrFile);
+            } catch (IOException e) {
+                /* ignore */
+            }
+        }
+    }
+
+    @WebService
+    public interface LengthService {
+
+        @WebMethod
+        int length(String payload);
+
+    }
+
+    @WebService(endpointInterface = "io.quarkiverse.cxf.deployment.test.RequestBodyReadAheadTest$LengthService", serviceName = "LengthService")
+    public static class LengthServiceImpl implements LengthService {
+
+        @Override
+        public int length(String payload) {
+            return payload.length();
+        }
+    }
+
+}
@@ -0,0 +1,59 @@
+package io.quarkiverse.cxf.deployment.test;
+
+import java.util.List;
+
+import jakarta.jws.WebMethod;
+import jakarta.jws.WebService;
+
+import org.apache.cxf.BusFactory;
+import org.apache.cxf.endpoint.Server;
+import org.apache.cxf.endpoint.ServerRegistry;
+import org.apache.cxf.jaxb.JAXBDataBinding;
+import org.assertj.core.api.Assertions;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.cxf.ServiceModelSnapshot;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Make sure that the service endpoints use the JAXB contexts created by {@link ServiceModelSnapshot#prime(List)}
+ * rather than creating new ones.
+ */
+public class ServiceModelPrimingTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(HelloService.class, HelloServiceImpl.class))
+            .overrideConfigKey("quarkus.cxf.endpoint.\"/hello\".implementor", HelloServiceImpl.class.getName());
+
+    @Test
+    void primedContextReused() {
+        final ServerRegistry registry = BusFactory.getDefaultBus().getExtension(ServerRegistry.class);
+        final List<Server> servers = registry.getServers();
+        Assertions.assertThat(servers).hasSize(1);
+        final JAXBDataBinding dataBinding = (JAXBDataBinding) servers.get(0).getEndpoint().getService().getDataBinding();
+
+        Assertions.assertThat(ServiceModelSnapshot.primed(HelloService.class.getName())).isNotNull();
+        Assertions.assertThat(dataBinding.getContext())
+                .isSameAs(ServiceModelSnapshot.primed(HelloService.class.getName()).getContext());
+    }
+
+    @WebService(targetNamespace = "http://test.deployment.cxf.quarkiverse.io/")
+    public interface HelloService {
+        @WebMethod
+        String hello(String name);
+    }
+
+    @WebService(serviceName = "HelloService", endpointInterface = "io.quarkiverse.cxf.deployment.test.ServiceModelPrimingTest$HelloService", targetNamespace = "http://test.deployment.cxf.quarkiverse.io/")
+    public static class HelloServiceImpl implements HelloService {
+        @Override
+        public String hello(String name) {
+            return "Hello " + name;
+        }
+    }
+
+}
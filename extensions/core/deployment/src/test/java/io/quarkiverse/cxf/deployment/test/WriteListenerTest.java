@@ -0,0 +1,92 @@
+package io.quarkiverse.cxf.deployment.test;
+
+import java.io.IOException;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.servlet.WriteListener;
+
+import org.assertj.core.api.Assertions;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.cxf.transport.VertxServletOutputStream;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import io.vertx.core.Context;
+import io.vertx.ext.web.Router;
+
+/**
+ * Make sure that the {@link WriteListener} callbacks of {@link VertxServletOutputStream} get called on the event loop
+ * and that the whole response body arrives at the client even if it is much larger than the response write queue.
+ */
+public class WriteListenerTest {
+
+    private static final String CHUNK = "0123456789abcdefghijklmnopqrstuvwxyz";
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class));
+
+    @Test
+    void largeBody() {
+        /* About 7 MB, much more than the tiny write queue set below */
+        assertBody(200_000);
+    }
+
+    @Test
+    void emptyBody() {
+        assertBody(0);
+    }
+
+    static void assertBody(int chunks) {
+        final ExtractableResponse<Response> response = RestAssured.given()
+                .queryParam("chunks", chunks)
+                .get("/write-listener")
+                .then()
+                .statusCode(200)
+                .extract();
+        Assertions.assertThat(response.body().asString()).isEqualTo(CHUNK.repeat(chunks));
+    }
+
+    void init(@Observes Router router) {
+        router.get("/write-listener").handler(ctx -> {
+            final int chunks = Integer.parseInt(ctx.request().getParam("chunks"));
+            /* A tiny write queue so that isReady() returns false many times for larger bodies */
+            ctx.response().setWriteQueueMaxSize(1024);
+            final VertxServletOutputStream out = new VertxServletOutputStream(ctx, 128, 512);
+            final byte[] chunk = CHUNK.getBytes();
+            out.setWriteListener(new WriteListener() {
+                private int written;
+
+                @Override
+                public void onWritePossible() throws IOException {
+                    if (!Context.isOnEventLoopThread()) {
+                        throw new IllegalStateException("onWritePossible() not called on the event loop");
+                    }
+                    while (out.isReady()) {
+                        if (written == chunks) {
+                            out.close();
+                            return;
+                        }
+                        out.write(chunk);
+                        written++;
+                    }
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    if (!ctx.response().headWritten()) {
+                        ctx.response().setStatusCode(500).end(t.toString());
+                    } else {
+                        ctx.response().reset();
+                    }
+                }
+            });
+        });
+    }
+
+}
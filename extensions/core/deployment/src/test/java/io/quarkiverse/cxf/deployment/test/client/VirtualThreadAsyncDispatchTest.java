@@ -0,0 +1,160 @@
+package io.quarkiverse.cxf.deployment.test.client;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+import jakarta.jws.WebService;
+import jakarta.xml.ws.AsyncHandler;
+import jakarta.xml.ws.Response;
+
+import org.assertj.core.api.Assertions;
+import org.awaitility.Awaitility;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.cxf.annotation.CXFClient;
+import io.quarkiverse.cxf.deployment.test.client.model.HelloResponse;
+import io.quarkiverse.cxf.deployment.test.client.model.HelloService;
+import io.quarkiverse.cxf.mutiny.CxfMutinyUtils;
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.test.QuarkusUnitTest;
+import io.vertx.core.Vertx;
+
+public class VirtualThreadAsyncDispatchTest {
+
+    private static final int MAX_THREADS = 4;
+    private static final int REQUEST_COUNT = 32;
+    private static final long DELAY = 200;
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addPackage(HelloService.class.getPackage())
+                    .addClasses(RequestScopedGreeting.class))
+            .overrideConfigKey("quarkus.cxf.client.async-dispatch", "virtual-thread")
+            /* The dispatch timeout would be hit easily with such a small pool if we were dispatching to workers */
+            .overrideConfigKey("quarkus.cxf.client.worker-dispatch-timeout", "100")
+            .overrideConfigKey("quarkus.thread-pool.max-threads", String.valueOf(MAX_THREADS))
+
+            .overrideConfigKey("quarkus.cxf.endpoint.\"/hello\".implementor", HelloServiceImpl.class.getName())
+            .overrideConfigKey("quarkus.cxf.endpoint.\"/hello\".dispatch", "virtual-thread")
+            .overrideConfigKey("quarkus.cxf.client.hello.client-endpoint-url", "http://localhost:8081/services/hello")
+            .overrideConfigKey("quarkus.cxf.client.hello.service-interface", HelloService.class.getName());
+
+    @CXFClient("hello")
+    HelloService hello;
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    RequestScopedGreeting greeting;
+
+    @Test
+    public void asyncHandler() {
+        final List<String> results = new CopyOnWriteArrayList<>();
+        final Set<String> callbackThreads = ConcurrentHashMap.newKeySet();
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            final String person = "Joe" + i;
+            vertx.runOnContext(v -> hello.helloAsync(person, resp -> {
+                callbackThreads.add(Thread.currentThread().getName());
+                try {
+                    results.add(resp.get().getReturn());
+                } catch (Exception e) {
+                    results.add(e.toString());
+                }
+            }));
+        }
+        Awaitility.waitAtMost(20, TimeUnit.SECONDS).until(() -> results.size() == REQUEST_COUNT);
+
+        Assertions.assertThat(results).allMatch(r -> r.startsWith("Hello Joe"));
+        if (Runtime.version().feature() >= 21) {
+            Assertions.assertThat(callbackThreads).allMatch(name -> name.startsWith("quarkus-virtual-thread"));
+        }
+    }
+
+    @Test
+    public void cxfMutinyUtils() {
+        final List<String> results = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            final String person = "Joe" + i;
+            vertx.runOnContext(v -> CxfMutinyUtils
+                    .<HelloResponse> toUni(handler -> hello.helloAsync(person, handler))
+                    .map(HelloResponse::getReturn)
+                    .subscribe()
+                    .with(results::add, e -> results.add(e.toString())));
+        }
+        Awaitility.waitAtMost(20, TimeUnit.SECONDS).until(() -> results.size() == REQUEST_COUNT);
+
+        Assertions.assertThat(results).allMatch(r -> r.startsWith("Hello Joe"));
+    }
+
+    @Test
+    public void requestContextPropagated() {
+        final ManagedContext requestContext = Arc.container().requestContext();
+        requestContext.activate();
+        try {
+            greeting.setText("Hi");
+            final List<String> results = new CopyOnWriteArrayList<>();
+            hello.helloAsync("Joe", resp -> {
+                try {
+                    /* Fails with ContextNotActiveException unless the request context is propagated */
+                    results.add(greeting.getText() + " " + resp.get().getReturn());
+                } catch (Exception e) {
+                    results.add(e.toString());
+                }
+            });
+            Awaitility.waitAtMost(10, TimeUnit.SECONDS).until(() -> results.size() == 1);
+            Assertions.assertThat(results).containsExactly("Hi Hello Joe");
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    @RequestScoped
+    public static class RequestScopedGreeting {
+        private String text;
+
+        public String getText() {
+            return text;
+        }
+
+        public void setText(String text) {
+            this.text = text;
+        }
+    }
+
+    @WebService(serviceName = "HelloService")
+    public static class HelloServiceImpl implements HelloService {
+
+        @Override
+        public Response<HelloResponse> helloAsync(String person) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<?> helloAsync(String arg0, AsyncHandler<HelloResponse> asyncHandler) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String hello(String person) {
+            try {
+                Thread.sleep(DELAY);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "Hello " + person;
+        }
+    }
+
+}
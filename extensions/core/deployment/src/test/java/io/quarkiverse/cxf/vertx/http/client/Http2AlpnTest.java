@@ -0,0 +1,108 @@
+package io.quarkiverse.cxf.vertx.http.client;
+
+import jakarta.annotation.Resource;
+import jakarta.jws.WebMethod;
+import jakarta.jws.WebService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.xml.ws.WebServiceContext;
+import jakarta.xml.ws.handler.MessageContext;
+
+import org.assertj.core.api.Assertions;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.cxf.annotation.CXFClient;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.certs.Format;
+import io.smallrye.certs.junit5.Certificate;
+import io.smallrye.certs.junit5.Certificates;
+
+/**
+ * Make sure that {@code version = auto} with {@code vertx.http2.auto-negotiate = true} selects HTTP/2 via ALPN for
+ * {@code https} endpoints, while an explicit {@code version = 2} keeps working with the ALPN settings of the TLS
+ * configuration.
+ */
+@Certificates(baseDir = "target/classes", //
+        certificates = @Certificate( //
+                name = "localhost", //
+                password = "secret", //
+                formats = { Format.PKCS12 }))
+public class Http2AlpnTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(ProtocolService.class, ProtocolServiceImpl.class))
+            .overrideConfigKey("quarkus.tls.key-store.p12.path", "localhost-keystore.p12")
+            .overrideConfigKey("quarkus.tls.key-store.p12.password", "secret")
+            .overrideConfigKey("quarkus.tls.soap-clients-tls.trust-store.p12.path", "localhost-truststore.p12")
+            .overrideConfigKey("quarkus.tls.soap-clients-tls.trust-store.p12.password", "secret")
+            .overrideConfigKey("quarkus.cxf.endpoint.\"/protocol\".implementor", ProtocolServiceImpl.class.getName())
+
+            .overrideConfigKey("quarkus.cxf.client.alpn.client-endpoint-url", "https://localhost:8444/services/protocol")
+            .overrideConfigKey("quarkus.cxf.client.alpn.service-interface", ProtocolService.class.getName())
+            .overrideConfigKey("quarkus.cxf.client.alpn.http-conduit-factory", "VertxHttpClientHTTPConduitFactory")
+            .overrideConfigKey("quarkus.cxf.client.alpn.tls-configuration-name", "soap-clients-tls")
+            .overrideConfigKey("quarkus.cxf.client.alpn.vertx.http2.auto-negotiate", "true")
+
+            .overrideConfigKey("quarkus.cxf.client.noNegotiation.client-endpoint-url",
+                    "https://localhost:8444/services/protocol")
+            .overrideConfigKey("quarkus.cxf.client.noNegotiation.service-interface", ProtocolService.class.getName())
+            .overrideConfigKey("quarkus.cxf.client.noNegotiation.http-conduit-factory", "VertxHttpClientHTTPConduitFactory")
+            .overrideConfigKey("quarkus.cxf.client.noNegotiation.tls-configuration-name", "soap-clients-tls")
+
+            .overrideConfigKey("quarkus.cxf.client.explicit.client-endpoint-url", "https://localhost:8444/services/protocol")
+            .overrideConfigKey("quarkus.cxf.client.explicit.service-interface", ProtocolService.class.getName())
+            .overrideConfigKey("quarkus.cxf.client.explicit.http-conduit-factory", "VertxHttpClientHTTPConduitFactory")
+            .overrideConfigKey("quarkus.cxf.client.explicit.tls-configuration-name", "soap-clients-tls")
+            .overrideConfigKey("quarkus.cxf.client.explicit.version", "2");
+
+    @CXFClient("alpn")
+    ProtocolService alpn;
+
+    @CXFClient("noNegotiation")
+    ProtocolService noNegotiation;
+
+    @CXFClient("explicit")
+    ProtocolService explicit;
+
+    @Test
+    void alpn() {
+        Assertions.assertThat(alpn.protocol()).isEqualTo("h2");
+    }
+
+    @Test
+    void autoWithoutNegotiation() {
+        Assertions.assertThat(noNegotiation.protocol()).isEqualTo("http/1.1");
+    }
+
+    @Test
+    void explicitVersion2() {
+        Assertions.assertThat(explicit.protocol()).isEqualTo("h2");
+    }
+
+    @WebService
+    public interface ProtocolService {
+
+        @WebMethod
+        String protocol();
+
+    }
+
+    @WebService(serviceName = "ProtocolService", endpointInterface = "io.quarkiverse.cxf.vertx.http.client.Http2AlpnTest$ProtocolService")
+    public static class ProtocolServiceImpl implements ProtocolService {
+
+        @Resource
+        WebServiceContext wsContext;
+
+        @Override
+        public String protocol() {
+            final HttpServletRequest req = (HttpServletRequest) wsContext.getMessageContext()
+                    .get(MessageContext.SERVLET_REQUEST);
+            return req.getProtocol();
+        }
+    }
+
+}
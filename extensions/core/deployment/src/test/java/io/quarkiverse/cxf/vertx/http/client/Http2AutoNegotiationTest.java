@@ -0,0 +1,115 @@
+package io.quarkiverse.cxf.vertx.http.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.Resource;
+import jakarta.jws.WebMethod;
+import jakarta.jws.WebService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.xml.ws.WebServiceContext;
+import jakarta.xml.ws.handler.MessageContext;
+
+import org.assertj.core.api.Assertions;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.cxf.annotation.CXFClient;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class Http2AutoNegotiationTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(ProtocolService.class, ProtocolServiceImpl.class))
+            .overrideConfigKey("quarkus.cxf.endpoint.\"/protocol\".implementor", ProtocolServiceImpl.class.getName())
+
+            .overrideConfigKey("quarkus.cxf.client.auto.client-endpoint-url", "http://localhost:8081/services/protocol")
+            .overrideConfigKey("quarkus.cxf.client.auto.service-interface", ProtocolService.class.getName())
+            .overrideConfigKey("quarkus.cxf.client.auto.http-conduit-factory", "VertxHttpClientHTTPConduitFactory")
+
+            .overrideConfigKey("quarkus.cxf.client.h2.client-endpoint-url", "http://localhost:8081/services/protocol")
+            .overrideConfigKey("quarkus.cxf.client.h2.service-interface", ProtocolService.class.getName())
+            .overrideConfigKey("quarkus.cxf.client.h2.http-conduit-factory", "VertxHttpClientHTTPConduitFactory")
+            .overrideConfigKey("quarkus.cxf.client.h2.vertx.http2.auto-negotiate", "true")
+            .overrideConfigKey("quarkus.cxf.client.h2.vertx.http2.clear-text", "prior-knowledge")
+            .overrideConfigKey("quarkus.cxf.client.h2.vertx.http2.multiplexing-limit", "4")
+            .overrideConfigKey("quarkus.cxf.client.h2.vertx.http2.initial-window-size", "1048576")
+            .overrideConfigKey("quarkus.cxf.client.h2.vertx.http2.connection-window-size", "4194304")
+
+            .overrideConfigKey("quarkus.cxf.client.upgrade.client-endpoint-url", "http://localhost:8081/services/protocol")
+            .overrideConfigKey("quarkus.cxf.client.upgrade.service-interface", ProtocolService.class.getName())
+            .overrideConfigKey("quarkus.cxf.client.upgrade.http-conduit-factory", "VertxHttpClientHTTPConduitFactory")
+            .overrideConfigKey("quarkus.cxf.client.upgrade.vertx.http2.auto-negotiate", "true")
+            .overrideConfigKey("quarkus.cxf.client.upgrade.vertx.http2.clear-text", "upgrade");
+
+    @CXFClient("auto")
+    ProtocolService auto;
+
+    @CXFClient("h2")
+    ProtocolService h2;
+
+    @CXFClient("upgrade")
+    ProtocolService upgrade;
+
+    @Test
+    void autoWithoutNegotiation() {
+        Assertions.assertThat(auto.protocol()).isEqualTo("http/1.1");
+    }
+
+    @Test
+    void autoNegotiated() throws Exception {
+        Assertions.assertThat(h2.protocol()).isEqualTo("h2");
+
+        /* More concurrent requests than the multiplexing limit */
+        final ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            final List<Future<String>> responses = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                responses.add(executor.submit(h2::protocol));
+            }
+            for (Future<String> r : responses) {
+                Assertions.assertThat(r.get(10, TimeUnit.SECONDS)).isEqualTo("h2");
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void h2cUpgrade() {
+        /* The first request carries the Upgrade: h2c header, the subsequent ones reuse the upgraded connection */
+        upgrade.protocol();
+        Assertions.assertThat(upgrade.protocol()).isEqualTo("h2");
+    }
+
+    @WebService
+    public interface ProtocolService {
+
+        @WebMethod
+        String protocol();
+
+    }
+
+    @WebService(serviceName = "ProtocolService", endpointInterface = "io.quarkiverse.cxf.vertx.http.client.Http2AutoNegotiationTest$ProtocolService")
+    public static class ProtocolServiceImpl implements ProtocolService {
+
+        @Resource
+        WebServiceContext wsContext;
+
+        @Override
+        public String protocol() {
+            final HttpServletRequest req = (HttpServletRequest) wsContext.getMessageContext()
+                    .get(MessageContext.SERVLET_REQUEST);
+            return req.getProtocol();
+        }
+    }
+
+}
@@ -81,6 +81,62 @@ public class RequestBodyOutputStreamTest {
                         new ExpectedEvent("4567", RequestBodyEventType.FINAL_CHUNK)));
     }
 
+    @Test
+    void chunkedBuffersOwnedByReceiver() throws IOException {
+        final List<RequestBodyEvent> events = new ArrayList<>();
+        try (RequestBodyOutputStream out = new RequestBodyOutputStream(4, events::add)) {
+            out.write("abcdefghij".getBytes(StandardCharsets.UTF_8));
+            out.write('k');
+        }
+        Assertions.assertThat(events).hasSize(3);
+        assertReleasable(events.get(0), "abcd", RequestBodyEventType.NON_FINAL_CHUNK);
+        assertReleasable(events.get(1), "efgh", RequestBodyEventType.NON_FINAL_CHUNK);
+        assertReleasable(events.get(2), "ijk", RequestBodyEventType.FINAL_CHUNK);
+    }
+
+    @Test
+    void completeBodyOwnedByReceiver() throws IOException {
+        final List<RequestBodyEvent> events = new ArrayList<>();
+        try (RequestBodyOutputStream out = new RequestBodyOutputStream(0, events::add)) {
+            for (int i = 0; i < 1000; i++) {
+                out.write("abcdefghij".getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        Assertions.assertThat(events).hasSize(1);
+        final RequestBodyEvent event = events.get(0);
+        Assertions.assertThat(event.eventType()).isEqualTo(RequestBodyEventType.COMPLETE_BODY);
+        Assertions.assertThat(event.buffer().length()).isEqualTo(10000);
+        Assertions.assertThat(event.byteBuf().release()).isTrue();
+    }
+
+    @Test
+    void abort() throws IOException {
+        final List<RequestBodyEvent> events = new ArrayList<>();
+        final RequestBodyOutputStream out = new RequestBodyOutputStream(4, events::add);
+        out.write("abcdef".getBytes(StandardCharsets.UTF_8));
+        Assertions.assertThat(events).hasSize(1);
+        assertReleasable(events.get(0), "abcd", RequestBodyEventType.NON_FINAL_CHUNK);
+
+        /* The pending "ef" gets released and never sent */
+        Assertions.assertThat(out.abort()).isTrue();
+        Assertions.assertThat(out.abort()).isFalse();
+        out.close();
+        Assertions.assertThat(events).hasSize(1);
+        Assertions.assertThatThrownBy(() -> out.write('g')).isInstanceOf(IOException.class);
+
+        /* Aborting a stream that was never written to is a no-op */
+        Assertions.assertThat(new RequestBodyOutputStream(4, events::add).abort()).isTrue();
+        Assertions.assertThat(events).hasSize(1);
+    }
+
+    static void assertReleasable(RequestBodyEvent event, String expectedBody, RequestBodyEventType expectedType) {
+        Assertions.assertThat(event.eventType()).isEqualTo(expectedType);
+        Assertions.assertThat(bufToString(event.buffer())).isEqualTo(expectedBody);
+        Assertions.assertThat(event.byteBuf().refCnt()).isEqualTo(1);
+        /* The receiver of the event is responsible for releasing the buffer */
+        Assertions.assertThat(event.byteBuf().release()).isTrue();
+    }
+
     static List<String> singleByteWrites(int length) {
         List<String> result = new ArrayList<>(length);
         for (int i = 0; i < length; i++) {
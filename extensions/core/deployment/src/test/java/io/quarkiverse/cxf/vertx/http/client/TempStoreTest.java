@@ -137,9 +137,16 @@ public class TempStoreTest {
             Files.write(p, new byte[] { 42 });
             Assertions.assertThat(p).isRegularFile();
 
+            final long filesBefore = TempStore.getStats().files();
+
             /* Check the direct deletion works */
             tempPath.discard().toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
             Assertions.assertThat(p).doesNotExist();
+            Assertions.assertThat(TempStore.getStats().files()).isEqualTo(filesBefore - 1);
+
+            /* Deleting again must not decrement the gauges again */
+            Assertions.assertThat(tempPath.delete()).isFalse();
+            Assertions.assertThat(TempStore.getStats().files()).isEqualTo(filesBefore - 1);
         }
 
         {
@@ -172,6 +179,9 @@ public class TempStoreTest {
             });
             final TempPath tp2 = VertxTestUtil.assertSuccess(tempPathCF2.get(5, TimeUnit.SECONDS));
 
+            /* Make sure both paths are stale */
+            Thread.sleep(FILE_DELAY * 5);
+
             /* Invoke gc() manually, so that we do not need to mess with waiting for the timer */
             initialized.result().gc();
 
@@ -237,6 +247,48 @@ public class TempStoreTest {
 
     }
 
+    @Test
+    void gcRetriesFailedDeletion() throws InterruptedException, ExecutionException, TimeoutException, IOException {
+        Log.info("TempPathTest.gcRetriesFailedDeletion()");
+        final Path tempDir = Path.of("target", TempStoreTest.class.getSimpleName() + "-" + UUID.randomUUID(), "temp");
+
+        final CompletableFuture<AsyncResult<InitializedTempStore>> initializedCF = new CompletableFuture<>();
+        final CompletableFuture<AsyncResult<TempPath>> tempPathCF = new CompletableFuture<>();
+        vertx.runOnContext(v -> {
+            final ContextInternal ct = (ContextInternal) vertx.getOrCreateContext();
+            final Future<InitializedTempStore> initialized = TempStore
+                    .fromContext(ct, Optional.of(tempDir.toString()), GC_DELAY, FILE_DELAY, true)
+                    .andThen(initializedCF::complete);
+            initialized.compose(i -> i.newTempPath())
+                    .andThen(tempPathCF::complete);
+        });
+        final InitializedTempStore initialized = VertxTestUtil.assertSuccess(initializedCF.get(5, TimeUnit.SECONDS));
+        final TempPath tp = VertxTestUtil.assertSuccess(tempPathCF.get(5, TimeUnit.SECONDS));
+
+        /* A non-empty directory cannot be deleted by Files.deleteIfExists() */
+        final Path p = tp.getPath();
+        final Path blocker = p.resolve("blocker");
+        Files.createDirectories(p);
+        Files.write(blocker, new byte[] { 42 });
+
+        /* Make sure the path is stale */
+        Thread.sleep(FILE_DELAY * 5);
+        final long filesBefore = TempStore.getStats().files();
+        initialized.gc();
+        /* Give the failing deletion some time to happen */
+        Thread.sleep(500);
+        Assertions.assertThat(p).isDirectory();
+        Assertions.assertThat(TempStore.getStats().files()).isEqualTo(filesBefore);
+
+        /* Once the obstacle is gone, the next gc() must delete the path it failed to delete before */
+        Files.delete(blocker);
+        initialized.gc();
+        Awaitility.await()
+                .atMost(10, TimeUnit.SECONDS)
+                .until(() -> !Files.exists(p));
+        Assertions.assertThat(TempStore.getStats().files()).isEqualTo(filesBefore - 1);
+    }
+
     @Test
     void closeWithoutDelete() throws InterruptedException, ExecutionException, TimeoutException, IOException {
         Log.info("TempPathTest.closeWithoutDelete()");
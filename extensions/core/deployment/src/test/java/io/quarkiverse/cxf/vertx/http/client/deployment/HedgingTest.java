@@ -0,0 +1,115 @@
+package io.quarkiverse.cxf.vertx.http.client.deployment;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.jws.WebMethod;
+import jakarta.jws.WebService;
+
+import org.assertj.core.api.Assertions;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.cxf.annotation.CXFClient;
+import io.quarkus.test.QuarkusUnitTest;
+import io.vertx.ext.web.Router;
+
+public class HedgingTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(HelloService.class, HelloServiceImpl.class, SlowHelloServiceImpl.class))
+            .overrideConfigKey("quarkus.cxf.endpoint.\"/hello\".implementor", HelloServiceImpl.class.getName())
+            .overrideConfigKey("quarkus.cxf.endpoint.\"/slow-hello\".implementor", SlowHelloServiceImpl.class.getName())
+
+            .overrideConfigKey("quarkus.cxf.client.hedged.client-endpoint-url", "http://localhost:8081/services/hello")
+            .overrideConfigKey("quarkus.cxf.client.hedged.service-interface", HelloService.class.getName())
+            .overrideConfigKey("quarkus.cxf.client.hedged.http-conduit-factory", "VertxHttpClientHTTPConduitFactory")
+            .overrideConfigKey("quarkus.cxf.client.hedged.vertx.hedging.operations", "hello")
+            .overrideConfigKey("quarkus.cxf.client.hedged.vertx.hedging.initial-delay", "200ms")
+            .overrideConfigKey("quarkus.cxf.client.hedged.vertx.hedging.budget", "1")
+
+            .overrideConfigKey("quarkus.cxf.client.balanced.service-interface", HelloService.class.getName())
+            .overrideConfigKey("quarkus.cxf.client.balanced.http-conduit-factory", "VertxHttpClientHTTPConduitFactory")
+            .overrideConfigKey("quarkus.cxf.client.balanced.vertx.load-balancing.addresses",
+                    "http://localhost:8081/slowly-unavailable,http://localhost:8081/services/slow-hello")
+            .overrideConfigKey("quarkus.cxf.client.balanced.vertx.hedging.operations", "hello")
+            .overrideConfigKey("quarkus.cxf.client.balanced.vertx.hedging.initial-delay", "200ms")
+            .overrideConfigKey("quarkus.cxf.client.balanced.vertx.hedging.budget", "1");
+
+    @CXFClient("hedged")
+    HelloService hedged;
+
+    @CXFClient("balanced")
+    HelloService balanced;
+
+    void init(@Observes Router router) {
+        router.post("/slowly-unavailable").handler(ctx -> ctx.vertx().setTimer(
+                SlowHelloServiceImpl.DELAY_MS,
+                id -> ctx.response().setStatusCode(503).end()));
+    }
+
+    @Test
+    void slowFirstResponse() {
+        final long start = System.currentTimeMillis();
+        Assertions.assertThat(hedged.hello("Joe")).isEqualTo("Hello Joe");
+        Assertions.assertThat(System.currentTimeMillis() - start).isLessThan(HelloServiceImpl.SLOW_RESPONSE_MS);
+        Assertions.assertThat(HelloServiceImpl.invocations.get()).isEqualTo(2);
+    }
+
+    @Test
+    void failureStatusDoesNotWin() {
+        /*
+         * The first request goes to the first address. The duplicate sent after 200 ms must go to the other one.
+         * The 503 from the first one arrives earlier than the successful response from the second one
+         * and it must not decide the race
+         */
+        Assertions.assertThat(balanced.hello("Joe")).isEqualTo("Slow hello Joe");
+    }
+
+    @WebService
+    public interface HelloService {
+
+        @WebMethod
+        String hello(String person);
+
+    }
+
+    @WebService(endpointInterface = "io.quarkiverse.cxf.vertx.http.client.deployment.HedgingTest$HelloService", serviceName = "HelloService")
+    public static class HelloServiceImpl implements HelloService {
+        static final long SLOW_RESPONSE_MS = 5000;
+        static final AtomicInteger invocations = new AtomicInteger();
+
+        @Override
+        public String hello(String person) {
+            if (invocations.incrementAndGet() == 1) {
+                /* Simulate a GC pause */
+                try {
+                    Thread.sleep(SLOW_RESPONSE_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return "Hello " + person;
+        }
+    }
+
+    @WebService(endpointInterface = "io.quarkiverse.cxf.vertx.http.client.deployment.HedgingTest$HelloService", serviceName = "HelloService")
+    public static class SlowHelloServiceImpl implements HelloService {
+        static final long DELAY_MS = 400;
+
+        @Override
+        public String hello(String person) {
+            try {
+                Thread.sleep(DELAY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "Slow hello " + person;
+        }
+    }
+
+}
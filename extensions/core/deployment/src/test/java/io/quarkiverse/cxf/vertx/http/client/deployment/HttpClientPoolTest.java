@@ -0,0 +1,106 @@
+package io.quarkiverse.cxf.vertx.http.client.deployment;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+import jakarta.jws.WebMethod;
+import jakarta.jws.WebService;
+
+import org.assertj.core.api.Assertions;
+import org.awaitility.Awaitility;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.cxf.annotation.CXFClient;
+import io.quarkiverse.cxf.vertx.http.client.HttpClientPool;
+import io.quarkiverse.cxf.vertx.http.client.ResponseCache;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class HttpClientPoolTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(HelloService.class, HelloServiceImpl.class))
+            .overrideConfigKey("quarkus.cxf.http-client-pool.share-identical-options", "true")
+            .overrideConfigKey("quarkus.cxf.http-client-pool.idle-timeout", "2s")
+            .overrideConfigKey("quarkus.cxf.endpoint.\"/hello\".implementor", HelloServiceImpl.class.getName())
+
+            .overrideConfigKey("quarkus.cxf.client.tenant1.client-endpoint-url", "http://localhost:8081/services/hello")
+            .overrideConfigKey("quarkus.cxf.client.tenant1.service-interface", HelloService.class.getName())
+            .overrideConfigKey("quarkus.cxf.client.tenant2.client-endpoint-url", "http://localhost:8081/services/hello")
+            .overrideConfigKey("quarkus.cxf.client.tenant2.service-interface", HelloService.class.getName())
+            .overrideConfigKey("quarkus.cxf.client.other.client-endpoint-url", "http://localhost:8081/services/hello")
+            .overrideConfigKey("quarkus.cxf.client.other.service-interface", HelloService.class.getName())
+            .overrideConfigKey("quarkus.cxf.client.other.vertx.connection-pool.http1-max-size", "3")
+            .overrideConfigKey("quarkus.cxf.client.other.vertx.response-cache.hello.ttl", "1h");
+
+    @CXFClient("tenant1")
+    HelloService tenant1;
+
+    @CXFClient("tenant2")
+    HelloService tenant2;
+
+    @CXFClient("other")
+    HelloService other;
+
+    @Inject
+    HttpClientPool pool;
+
+    @Test
+    void shareAndEvict() {
+        Assertions.assertThat(tenant1.hello("Joe")).isEqualTo("Hello Joe");
+        Assertions.assertThat(tenant2.hello("Joe")).isEqualTo("Hello Joe");
+        Assertions.assertThat(other.hello("Joe")).isEqualTo("Hello Joe");
+
+        final HttpClientPool.Stats stats = pool.getStats();
+        /* tenant1 and tenant2 share a client, other has different options */
+        Assertions.assertThat(stats.configKeys()).isEqualTo(3);
+        Assertions.assertThat(stats.liveClients()).isEqualTo(2);
+        Assertions.assertThat(stats.openConnections()).isGreaterThan(0);
+        Assertions.assertThat(pool.getResponseCacheStats("other", "hello").misses()).isGreaterThan(0);
+
+        Awaitility.waitAtMost(10, TimeUnit.SECONDS).until(() -> pool.getStats().liveClients() == 0);
+        Assertions.assertThat(pool.getStats().configKeys()).isEqualTo(0);
+        /* The per config key state is dropped together with the last client of the given config key */
+        Assertions.assertThat(pool.getResponseCacheStats("other", "hello")).isEqualTo(ResponseCache.Stats.EMPTY);
+
+        /* Evicted clients get re-created transparently */
+        Assertions.assertThat(tenant1.hello("Joe")).isEqualTo("Hello Joe");
+        Assertions.assertThat(pool.getStats().liveClients()).isEqualTo(1);
+    }
+
+    @Test
+    void noIdleEvictionWhileInFlight() {
+        /* The response takes longer than the idle timeout; the client must not be closed while waiting for it */
+        Assertions.assertThat(other.hello("slow")).isEqualTo("Hello slow");
+        Awaitility.waitAtMost(10, TimeUnit.SECONDS).until(() -> pool.getStats().inFlightRequests() == 0);
+    }
+
+    @WebService
+    public interface HelloService {
+
+        @WebMethod
+        String hello(String person);
+
+    }
+
+    @WebService(endpointInterface = "io.quarkiverse.cxf.vertx.http.client.deployment.HttpClientPoolTest$HelloService", serviceName = "HelloService")
+    public static class HelloServiceImpl implements HelloService {
+
+        @Override
+        public String hello(String person) {
+            if ("slow".equals(person)) {
+                try {
+                    Thread.sleep(5000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return "Hello " + person;
+        }
+    }
+
+}
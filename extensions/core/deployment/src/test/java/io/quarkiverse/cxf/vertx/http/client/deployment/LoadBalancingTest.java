@@ -0,0 +1,119 @@
+package io.quarkiverse.cxf.vertx.http.client.deployment;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.jws.WebMethod;
+import jakarta.jws.WebService;
+
+import org.assertj.core.api.Assertions;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.cxf.annotation.CXFClient;
+import io.quarkus.test.QuarkusUnitTest;
+import io.vertx.ext.web.Router;
+
+public class LoadBalancingTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(HelloService.class, HelloServiceA.class, HelloServiceB.class))
+            .overrideConfigKey("quarkus.cxf.endpoint.\"/hello-a\".implementor", HelloServiceA.class.getName())
+            .overrideConfigKey("quarkus.cxf.endpoint.\"/hello-b\".implementor", HelloServiceB.class.getName())
+
+            .overrideConfigKey("quarkus.cxf.client.roundRobin.service-interface", HelloService.class.getName())
+            .overrideConfigKey("quarkus.cxf.client.roundRobin.http-conduit-factory", "VertxHttpClientHTTPConduitFactory")
+            .overrideConfigKey("quarkus.cxf.client.roundRobin.vertx.load-balancing.addresses",
+                    "http://localhost:8081/services/hello-a,http://localhost:8081/services/hello-b")
+
+            .overrideConfigKey("quarkus.cxf.client.ejecting.service-interface", HelloService.class.getName())
+            .overrideConfigKey("quarkus.cxf.client.ejecting.http-conduit-factory", "VertxHttpClientHTTPConduitFactory")
+            .overrideConfigKey("quarkus.cxf.client.ejecting.vertx.load-balancing.addresses",
+                    "http://localhost:8081/unavailable,http://localhost:8081/services/hello-a")
+            .overrideConfigKey("quarkus.cxf.client.ejecting.vertx.load-balancing.strategy", "least-in-flight")
+
+            .overrideConfigKey("quarkus.cxf.client.ewma.service-interface", HelloService.class.getName())
+            .overrideConfigKey("quarkus.cxf.client.ewma.http-conduit-factory", "VertxHttpClientHTTPConduitFactory")
+            .overrideConfigKey("quarkus.cxf.client.ewma.receive-timeout", "1000")
+            .overrideConfigKey("quarkus.cxf.client.ewma.vertx.load-balancing.addresses",
+                    "http://localhost:8081/hanging,http://localhost:8081/services/hello-a")
+            .overrideConfigKey("quarkus.cxf.client.ewma.vertx.load-balancing.strategy", "ewma");
+
+    @CXFClient("roundRobin")
+    HelloService roundRobin;
+
+    @CXFClient("ejecting")
+    HelloService ejecting;
+
+    @CXFClient("ewma")
+    HelloService ewma;
+
+    void init(@Observes Router router) {
+        router.post("/unavailable").handler(ctx -> ctx.response()
+                .setStatusCode(503)
+                .end());
+        /* Never responds */
+        router.post("/hanging").handler(ctx -> {
+        });
+    }
+
+    @Test
+    void roundRobin() {
+        Assertions.assertThat(roundRobin.hello("Joe")).isEqualTo("Hello A Joe");
+        Assertions.assertThat(roundRobin.hello("Joe")).isEqualTo("Hello B Joe");
+        Assertions.assertThat(roundRobin.hello("Joe")).isEqualTo("Hello A Joe");
+        Assertions.assertThat(roundRobin.hello("Joe")).isEqualTo("Hello B Joe");
+    }
+
+    @Test
+    void serviceNotAvailableEjects() {
+        /* The first request goes to the first address */
+        Assertions.assertThatThrownBy(() -> ejecting.hello("Joe"))
+                .hasStackTraceContaining("503");
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertThat(ejecting.hello("Joe")).isEqualTo("Hello A Joe");
+        }
+    }
+
+    @Test
+    void hangingTargetAvoided() {
+        /* The first request probes the first address, which never responds */
+        Assertions.assertThatThrownBy(() -> ewma.hello("Joe"))
+                .hasStackTraceContaining("Timeout");
+        /* The timeout must not leave the hanging target with the best score */
+        for (int i = 0; i < 4; i++) {
+            final long start = System.currentTimeMillis();
+            Assertions.assertThat(ewma.hello("Joe")).isEqualTo("Hello A Joe");
+            Assertions.assertThat(System.currentTimeMillis() - start).isLessThan(1000);
+        }
+    }
+
+    @WebService
+    public interface HelloService {
+
+        @WebMethod
+        String hello(String person);
+
+    }
+
+    @WebService(endpointInterface = "io.quarkiverse.cxf.vertx.http.client.deployment.LoadBalancingTest$HelloService", serviceName = "HelloService")
+    public static class HelloServiceA implements HelloService {
+
+        @Override
+        public String hello(String person) {
+            return "Hello A " + person;
+        }
+    }
+
+    @WebService(endpointInterface = "io.quarkiverse.cxf.vertx.http.client.deployment.LoadBalancingTest$HelloService", serviceName = "HelloService")
+    public static class HelloServiceB implements HelloService {
+
+        @Override
+        public String hello(String person) {
+            return "Hello B " + person;
+        }
+    }
+
+}
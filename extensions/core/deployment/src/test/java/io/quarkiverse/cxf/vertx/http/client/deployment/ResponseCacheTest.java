@@ -0,0 +1,104 @@
+package io.quarkiverse.cxf.vertx.http.client.deployment;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+import jakarta.jws.WebMethod;
+import jakarta.jws.WebService;
+
+import org.assertj.core.api.Assertions;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.cxf.annotation.CXFClient;
+import io.quarkiverse.cxf.vertx.http.client.HttpClientPool;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ResponseCacheTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(HelloService.class, HelloServiceImpl.class))
+            .overrideConfigKey("quarkus.cxf.endpoint.\"/hello\".implementor", HelloServiceImpl.class.getName())
+
+            .overrideConfigKey("quarkus.cxf.client.cached.client-endpoint-url", "http://localhost:8081/services/hello")
+            .overrideConfigKey("quarkus.cxf.client.cached.service-interface", HelloService.class.getName())
+            .overrideConfigKey("quarkus.cxf.client.cached.http-conduit-factory", "VertxHttpClientHTTPConduitFactory")
+            .overrideConfigKey("quarkus.cxf.client.cached.vertx.response-cache.hello.ttl", "1h")
+
+            .overrideConfigKey("quarkus.cxf.client.balanced.service-interface", HelloService.class.getName())
+            .overrideConfigKey("quarkus.cxf.client.balanced.http-conduit-factory", "VertxHttpClientHTTPConduitFactory")
+            .overrideConfigKey("quarkus.cxf.client.balanced.vertx.load-balancing.addresses",
+                    "http://localhost:8081/services/hello,http://127.0.0.1:8081/services/hello")
+            .overrideConfigKey("quarkus.cxf.client.balanced.vertx.response-cache.hello.ttl", "1h");
+
+    @CXFClient("cached")
+    HelloService cached;
+
+    @CXFClient("balanced")
+    HelloService balanced;
+
+    @Inject
+    HttpClientPool httpClientPool;
+
+    @Test
+    void cacheHit() {
+        final int before = HelloServiceImpl.invocations.get();
+        Assertions.assertThat(cached.hello("Joe")).isEqualTo("Hello Joe");
+        Assertions.assertThat(cached.hello("Joe")).isEqualTo("Hello Joe");
+        Assertions.assertThat(cached.hello("Jane")).isEqualTo("Hello Jane");
+        Assertions.assertThat(cached.hello("Joe")).isEqualTo("Hello Joe");
+        Assertions.assertThat(HelloServiceImpl.invocations.get() - before).isEqualTo(2);
+
+        /* Not cached */
+        Assertions.assertThat(cached.goodbye("Joe")).isEqualTo("Goodbye Joe");
+        Assertions.assertThat(cached.goodbye("Joe")).isEqualTo("Goodbye Joe");
+        Assertions.assertThat(HelloServiceImpl.invocations.get() - before).isEqualTo(4);
+
+        Assertions.assertThat(httpClientPool.getResponseCacheStats("cached", "hello").hits()).isEqualTo(2);
+        Assertions.assertThat(httpClientPool.getResponseCacheStats("cached", "hello").misses()).isEqualTo(2);
+        Assertions.assertThat(httpClientPool.getResponseCacheStats("cached", "goodbye").misses()).isEqualTo(0);
+    }
+
+    @Test
+    void cacheHitAcrossLoadBalancingTargets() {
+        final int before = HelloServiceImpl.invocations.get();
+        /* Round robin sends the two requests to different targets */
+        Assertions.assertThat(balanced.hello("Balanced")).isEqualTo("Hello Balanced");
+        Assertions.assertThat(balanced.hello("Balanced")).isEqualTo("Hello Balanced");
+        Assertions.assertThat(HelloServiceImpl.invocations.get() - before).isEqualTo(1);
+        Assertions.assertThat(httpClientPool.getResponseCacheStats("balanced", "hello").hits()).isEqualTo(1);
+    }
+
+    @WebService
+    public interface HelloService {
+
+        @WebMethod
+        String hello(String person);
+
+        @WebMethod
+        String goodbye(String person);
+
+    }
+
+    @WebService(endpointInterface = "io.quarkiverse.cxf.vertx.http.client.deployment.ResponseCacheTest$HelloService", serviceName = "HelloService")
+    public static class HelloServiceImpl implements HelloService {
+        static final AtomicInteger invocations = new AtomicInteger();
+
+        @Override
+        public String hello(String person) {
+            invocations.incrementAndGet();
+            return "Hello " + person;
+        }
+
+        @Override
+        public String goodbye(String person) {
+            invocations.incrementAndGet();
+            return "Goodbye " + person;
+        }
+    }
+
+}
@@ -0,0 +1,76 @@
+package io.quarkiverse.cxf.vertx.http.client.deployment;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.jws.WebMethod;
+import jakarta.jws.WebService;
+
+import org.assertj.core.api.Assertions;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.cxf.annotation.CXFClient;
+import io.quarkiverse.cxf.vertx.http.client.HttpClientPool;
+import io.quarkus.test.QuarkusUnitTest;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.handler.BodyHandler;
+
+public class RetransmitReplayTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(HelloService.class, HelloServiceImpl.class))
+            .overrideConfigKey("quarkus.cxf.endpoint.\"/hello\".implementor", HelloServiceImpl.class.getName())
+
+            .overrideConfigKey("quarkus.cxf.client.redirect.client-endpoint-url", "http://localhost:8081/replay-redirect")
+            .overrideConfigKey("quarkus.cxf.client.redirect.service-interface", HelloService.class.getName())
+            .overrideConfigKey("quarkus.cxf.client.redirect.http-conduit-factory", "VertxHttpClientHTTPConduitFactory")
+            .overrideConfigKey("quarkus.cxf.client.redirect.auto-redirect", "true");
+
+    @CXFClient("redirect")
+    HelloService redirect;
+
+    @Inject
+    HttpClientPool pool;
+
+    void init(@Observes Router router) {
+        router.post("/replay-redirect").handler(BodyHandler.create()).handler(ctx -> ctx.response()
+                .setStatusCode(307)
+                .putHeader("Location", "http://localhost:8081/services/hello")
+                .end());
+    }
+
+    @Test
+    void replayMultipleChunks() {
+        /* Larger than the default chunking threshold, smaller than the retransmit cache threshold */
+        final String person = "Joe".repeat(10_000);
+        Assertions.assertThat(redirect.hello(person)).isEqualTo("Hello " + person);
+
+        final HttpClientPool.ReplayStats stats = pool.getReplayStats().get("redirect");
+        Assertions.assertThat(stats).isNotNull();
+        Assertions.assertThat(stats.replays()).isEqualTo(1);
+        Assertions.assertThat(stats.bytesReplayed()).isGreaterThan(person.length());
+        Assertions.assertThat(stats.failures()).isEqualTo(0);
+    }
+
+    @WebService
+    public interface HelloService {
+
+        @WebMethod
+        String hello(String person);
+
+    }
+
+    @WebService(endpointInterface = "io.quarkiverse.cxf.vertx.http.client.deployment.RetransmitReplayTest$HelloService", serviceName = "HelloService")
+    public static class HelloServiceImpl implements HelloService {
+
+        @Override
+        public String hello(String person) {
+            return "Hello " + person;
+        }
+    }
+
+}
@@ -0,0 +1,90 @@
+package io.quarkiverse.cxf.vertx.http.client.deployment;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+import jakarta.jws.WebMethod;
+import jakarta.jws.WebService;
+
+import org.assertj.core.api.Assertions;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.cxf.vertx.http.client.HttpClientPool;
+import io.quarkus.test.QuarkusUnitTest;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+
+public class WarmupConnectionsTest {
+
+    /*
+     * The Quarkus HTTP server starts listening only after the StartupEvent observers are done, so we need a separate
+     * server for the connections that the application startup waits for
+     */
+    private static final Vertx serverVertx = Vertx.vertx();
+    private static final AtomicInteger warmupRequests = new AtomicInteger();
+    private static final AtomicInteger otherRequests = new AtomicInteger();
+    private static final HttpServer server = serverVertx.createHttpServer()
+            .requestHandler(req -> {
+                if (req.method() == HttpMethod.OPTIONS && "*".equals(req.uri())) {
+                    warmupRequests.incrementAndGet();
+                } else {
+                    otherRequests.incrementAndGet();
+                }
+                req.response().end();
+            })
+            .listen(0)
+            .toCompletionStage()
+            .toCompletableFuture()
+            .join();
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(HelloService.class))
+            .overrideConfigKey("quarkus.cxf.http-client-pool.idle-timeout", "1s")
+
+            .overrideConfigKey("quarkus.cxf.client.hello.client-endpoint-url",
+                    "http://localhost:" + server.actualPort() + "/services/hello")
+            .overrideConfigKey("quarkus.cxf.client.hello.service-interface", HelloService.class.getName())
+            .overrideConfigKey("quarkus.cxf.client.hello.http-conduit-factory", "VertxHttpClientHTTPConduitFactory")
+            .overrideConfigKey("quarkus.cxf.client.hello.vertx.connection-pool.warmup-connections", "3");
+
+    @Inject
+    HttpClientPool pool;
+
+    @AfterAll
+    static void stopServer() {
+        serverVertx.close().toCompletionStage().toCompletableFuture().join();
+    }
+
+    @Test
+    void warmup() throws InterruptedException {
+        /* The application startup waits for the connections to get opened */
+        Assertions.assertThat(pool.getStats().openConnections()).isEqualTo(3);
+        Assertions.assertThat(pool.getStats().liveClients()).isEqualTo(1);
+        Assertions.assertThat(pool.getStats().inFlightRequests()).isEqualTo(0);
+        Assertions.assertThat(warmupRequests.get()).isEqualTo(3);
+        /* The service endpoint is not invoked by the warm up */
+        Assertions.assertThat(otherRequests.get()).isEqualTo(0);
+
+        /* The warmed up client outlives the idle timeout */
+        TimeUnit.SECONDS.sleep(3);
+        Assertions.assertThat(pool.getStats().liveClients()).isEqualTo(1);
+        Assertions.assertThat(pool.getStats().openConnections()).isEqualTo(3);
+    }
+
+    @WebService
+    public interface HelloService {
+
+        @WebMethod
+        String hello(String person);
+
+    }
+
+}
@@ -205,6 +205,8 @@ public class CXFClientInfo {
 
     private final boolean secureWsdlAccess;
     private final long workerDispatchTimeout;
+    private final ClientDispatch asyncDispatch;
+    private final long eventLoopMaxResponseSize;
 
     public CXFClientInfo(CXFClientData other, CxfConfig cxfConfig, CxfClientConfig config, String configKey, Vertx vertx) {
         Objects.requireNonNull(config);
@@ -276,6 +278,8 @@ public class CXFClientInfo {
         this.hostnameVerifier = config.hostnameVerifier().orElse(null);
         this.schemaValidationEnabledFor = config.schemaValidationEnabledFor().orElse(null);
         this.workerDispatchTimeout = cxfConfig.client().workerDispatchTimeout();
+        this.asyncDispatch = cxfConfig.client().asyncDispatch();
+        this.eventLoopMaxResponseSize = cxfConfig.client().eventLoopMaxResponseSize().asLongValue();
 
         /*
          * If the optional is empty, this.httpConduitImpl will be null.
@@ -617,6 +621,14 @@ public class CXFClientInfo {
         return workerDispatchTimeout;
     }
 
+    public ClientDispatch getAsyncDispatch() {
+        return asyncDispatch;
+    }
+
+    public long getEventLoopMaxResponseSize() {
+        return eventLoopMaxResponseSize;
+    }
+
     static ProxyType toQuarkusProxyType(ProxyServerType proxyServerType) {
         switch (proxyServerType) {
             case HTTP:
@@ -25,13 +25,17 @@ import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.configuration.MemorySize;
 import io.quarkus.vertx.http.runtime.VertxHttpConfig;
 import io.vertx.core.Handler;
+import io.vertx.ext.web.Route;
 import io.vertx.ext.web.RoutingContext;
 
 @Recorder
 public class CXFRecorder {
     private static final Logger LOGGER = Logger.getLogger(CXFRecorder.class);
+    /** The default of {@code quarkus.cxf.endpoint."/endpoint-path".event-loop-max-response-size} */
+    private static final long DEFAULT_EVENT_LOOP_MAX_RESPONSE_SIZE = 10L * 1024 * 1024;
     private final RuntimeValue<VertxHttpConfig> httpConfiguration;
     private final RuntimeValue<CxfConfig> cxfConfig;
 
@@ -108,7 +112,8 @@ public class CXFRecorder {
             Class<?> wsImplementor,
             Boolean isProvider,
             String relativePathFromCxfEndpointAnnotation,
-            BeanLookupStrategy beanLookupStrategy) {
+            BeanLookupStrategy beanLookupStrategy,
+            boolean runOnVirtualThread) {
 
         CXFServletInfos infos = runtimeInfos.getValue();
 
@@ -127,7 +132,8 @@ public class CXFRecorder {
                         cxfEndPointConfig,
                         relativePathFromCxfEndpointAnnotation,
                         isProvider,
-                        beanLookupStrategy.createLookUp(sei, wsImplementor, relativePathFromCxfEndpointAnnotation));
+                        beanLookupStrategy.createLookUp(sei, wsImplementor, relativePathFromCxfEndpointAnnotation),
+                        runOnVirtualThread);
                 infos.add(info);
                 return;
             }
@@ -145,7 +151,8 @@ public class CXFRecorder {
                             cxfEndPointConfig,
                             relativePathFromCxfEndpointAnnotation,
                             isProvider,
-                            beanLookupStrategy.createLookUp(sei, wsImplementor, relativePathFromCxfEndpointAnnotation));
+                            beanLookupStrategy.createLookUp(sei, wsImplementor, relativePathFromCxfEndpointAnnotation),
+                            runOnVirtualThread);
                     infos.add(info);
                     return;
                 }
@@ -164,7 +171,8 @@ public class CXFRecorder {
                                 cxfEndPointConfig,
                                 relativePath,
                                 isProvider,
-                                beanLookupStrategy.createLookUp(sei, wsImplementor, relativePathFromCxfEndpointAnnotation));
+                                beanLookupStrategy.createLookUp(sei, wsImplementor, relativePathFromCxfEndpointAnnotation),
+                                runOnVirtualThread);
                         infos.add(info);
                     }
                 } else {
@@ -185,7 +193,8 @@ public class CXFRecorder {
                             null,
                             relativePath,
                             isProvider,
-                            beanLookupStrategy.createLookUp(sei, wsImplementor, relativePathFromCxfEndpointAnnotation));
+                            beanLookupStrategy.createLookUp(sei, wsImplementor, relativePathFromCxfEndpointAnnotation),
+                            runOnVirtualThread);
                     infos.add(info);
                 }
                 return;
@@ -226,7 +235,8 @@ public class CXFRecorder {
             CxfEndpointConfig cxfEndPointConfig,
             String relativePath,
             Boolean isProvider,
-            Supplier<Object> beanLookup) {
+            Supplier<Object> beanLookup,
+            boolean runOnVirtualThread) {
         CXFServletInfo cfg = new CXFServletInfo(
                 path,
                 relativePath,
@@ -239,7 +249,12 @@ public class CXFRecorder {
                 isProvider,
                 cxfEndPointConfig != null ? cxfEndPointConfig.publishedEndpointUrl().orElse(null) : null,
                 cxfEndPointConfig != null ? cxfEndPointConfig.schemaValidationEnabledFor().orElse(null) : null,
-                beanLookup);
+                beanLookup,
+                dispatch(cxfEndPointConfig, runOnVirtualThread),
+                cxfEndPointConfig != null
+                        ? cxfEndPointConfig.eventLoopMaxResponseSize().map(MemorySize::asLongValue)
+                                .orElse(DEFAULT_EVENT_LOOP_MAX_RESPONSE_SIZE)
+                        : DEFAULT_EVENT_LOOP_MAX_RESPONSE_SIZE);
         if (cxfEndPointConfig != null && cxfEndPointConfig.inInterceptors().isPresent()) {
             cfg.addInInterceptors(cxfEndPointConfig.inInterceptors().get());
         }
@@ -262,6 +277,12 @@ public class CXFRecorder {
         return cfg;
     }
 
+    private static EndpointDispatch dispatch(CxfEndpointConfig cxfEndPointConfig, boolean runOnVirtualThread) {
+        final EndpointDispatch defaultDispatch = runOnVirtualThread ? EndpointDispatch.VIRTUAL_THREAD
+                : EndpointDispatch.WORKER;
+        return cxfEndPointConfig != null ? cxfEndPointConfig.dispatch().orElse(defaultDispatch) : defaultDispatch;
+    }
+
     public RuntimeValue<CXFServletInfos> createInfos(String path, String contextPath) {
         CXFServletInfos infos = new CXFServletInfos(path, contextPath);
         return new RuntimeValue<>(infos);
@@ -275,10 +296,48 @@ public class CXFRecorder {
         return new CxfHandler(infos.getValue(), beanContainer, httpConfiguration.getValue(), fixedConfig);
     }
 
+    /**
+     * @param handler the {@link CxfHandler} returned by {@link #initServer(RuntimeValue, BeanContainer, CxfFixedConfig)}
+     * @return a non-blocking {@link Handler} processing the requests to the endpoints dispatched to the event loop or
+     *         to virtual threads and passing all other requests to the next route
+     */
+    public Handler<RoutingContext> initNonBlockingDispatcher(Handler<RoutingContext> handler) {
+        return ((CxfHandler) handler).nonBlockingDispatcher();
+    }
+
+    /**
+     * @param handler the {@link CxfHandler} returned by {@link #initServer(RuntimeValue, BeanContainer, CxfFixedConfig)}
+     * @return a {@link Route} customizer disabling the route of the handler returned by
+     *         {@link #initNonBlockingDispatcher(Handler)} if all endpoints are dispatched to worker threads
+     */
+    public Consumer<Route> nonBlockingDispatcherRoute(Handler<RoutingContext> handler) {
+        return route -> {
+            if (!((CxfHandler) handler).hasNonBlockingEndpoints()) {
+                route.disable();
+            }
+        };
+    }
+
+    /**
+     * Create the JAXB contexts described by the given build time snapshots ahead of the creation of services and
+     * clients.
+     *
+     * @param snapshots the snapshots to prime
+     * @param context the {@link ShutdownContext} on which the primed contexts get released
+     */
+    public void primeServiceModels(List<ServiceModelSnapshot> snapshots, ShutdownContext context) {
+        ServiceModelSnapshot.prime(snapshots);
+        context.addShutdownTask(ServiceModelSnapshot::clear);
+    }
+
     public void resetDestinationRegistry(ShutdownContext context) {
         context.addShutdownTask(VertxDestinationFactory::resetRegistry);
     }
 
+    public void clearClientServiceModelCache(ShutdownContext context) {
+        context.addShutdownTask(ClientServiceModelCache::clear);
+    }
+
     public void addRuntimeBusCustomizer(RuntimeValue<Consumer<Bus>> customizer) {
         QuarkusBusFactory.addBusCustomizer(customizer.getValue());
     }
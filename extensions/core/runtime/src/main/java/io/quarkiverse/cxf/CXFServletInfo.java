@@ -28,6 +28,8 @@ public class CXFServletInfo {
     private final String endpointUrl;
     private final SchemaValidationType schemaValidationEnabledFor;
     private final Supplier<Object> beanLookup;
+    private final EndpointDispatch dispatch;
+    private final long eventLoopMaxResponseSize;
 
     private static final Logger LOGGER = Logger.getLogger(CXFServletInfo.class);
 
@@ -43,7 +45,9 @@ public class CXFServletInfo {
             Boolean provider,
             String endpointUrl,
             SchemaValidationType schemaValidationEnabledFor,
-            Supplier<Object> beanLookup) {
+            Supplier<Object> beanLookup,
+            EndpointDispatch dispatch,
+            long eventLoopMaxResponseSize) {
         LOGGER.trace("new CXFServletInfo");
         this.path = path;
         this.relativePath = relativePath;
@@ -63,6 +67,8 @@ public class CXFServletInfo {
         this.endpointUrl = endpointUrl;
         this.schemaValidationEnabledFor = schemaValidationEnabledFor;
         this.beanLookup = beanLookup;
+        this.dispatch = dispatch;
+        this.eventLoopMaxResponseSize = eventLoopMaxResponseSize;
     }
 
     /**
@@ -140,6 +146,20 @@ public class CXFServletInfo {
         return schemaValidationEnabledFor;
     }
 
+    /**
+     * @return the kind of thread on which the requests to this endpoint should be processed
+     */
+    public EndpointDispatch getDispatch() {
+        return dispatch;
+    }
+
+    /**
+     * @return the maximum size of a response body in bytes if this endpoint is dispatched to the event loop
+     */
+    public long getEventLoopMaxResponseSize() {
+        return eventLoopMaxResponseSize;
+    }
+
     /**
      * Lookup the implementation of the associated service endpoint in the CDI container.
      *
@@ -0,0 +1,23 @@
+package io.quarkiverse.cxf;
+
+/**
+ * The kind of thread on which asynchronous CXF client calls issued on the Vert.x event loop are executed.
+ *
+ * @since 3.38.0
+ */
+public enum ClientDispatch {
+    /**
+     * The client call is dispatched to the Vert.x worker thread pool and the response callbacks are executed on a
+     * {@link org.eclipse.microprofile.context.ManagedExecutor} thread.
+     */
+    WORKER,
+    /**
+     * Both the client call and the response callbacks are executed on new virtual threads.
+     */
+    VIRTUAL_THREAD,
+    /**
+     * The client call is executed directly on the event loop without any dispatching. The request body is sent as a
+     * whole, the response body is received as a whole and the response callbacks are executed on the event loop.
+     */
+    EVENT_LOOP;
+}
@@ -0,0 +1,189 @@
+package io.quarkiverse.cxf;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.wsdl.Definition;
+import javax.xml.namespace.QName;
+
+import jakarta.xml.bind.JAXBContext;
+
+import org.apache.cxf.databinding.DataBinding;
+import org.apache.cxf.endpoint.Client;
+import org.apache.cxf.jaxb.JAXBDataBinding;
+import org.apache.cxf.jaxws.support.JaxWsImplementorInfo;
+import org.apache.cxf.service.Service;
+import org.apache.cxf.service.model.ServiceInfo;
+import org.apache.cxf.wsdl11.WSDLServiceBuilder;
+
+/**
+ * Keeps the immutable parts of client service models that can be shared by all clients having the same
+ * {@link Key}: the {@link JaxWsImplementorInfo} of the service endpoint interface, the parsed WSDL {@link Definition}
+ * and the {@link JAXBContext}.
+ * <p>
+ * CXF caches WSDL {@link Definition}s in its {@code WSDLManager} and JAXB contexts in its {@code JAXBContextCache}, but
+ * both caches hold their values only weakly. Hence, a client created after all previous clients of the same kind
+ * were closed and garbage collected, had to parse the WSDL and create the JAXB context again. Referencing them from
+ * here keeps the CXF caches warm for the lifetime of the application.
+ * <p>
+ * The cache holds at most {@value #MAX_ENTRIES} entries; clients with further {@link Key}s still get an
+ * {@link Entry}, but it is not kept. The cache is cleared on application shutdown, so that it does not keep the
+ * application class loader alive across dev mode restarts.
+ * <p>
+ * The {@link Service} itself cannot be shared, because CXF stores client specific state in it, such as the endpoint
+ * address, the {@code HTTPConduitFactory} and service level interceptors.
+ * <p>
+ * Thread safe.
+ *
+ * @since 3.38.0
+ */
+public class ClientServiceModelCache {
+    /** The maximum number of {@link Entry}s kept by the cache */
+    static final int MAX_ENTRIES = 256;
+
+    private static final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    private ClientServiceModelCache() {
+    }
+
+    /**
+     * @param key the {@link Key} to look up
+     * @return the {@link Entry} for the given {@link Key}; never {@code null}
+     */
+    public static Entry get(Key key) {
+        final Entry result = entries.get(key);
+        if (result != null) {
+            return result;
+        }
+        if (entries.size() >= MAX_ENTRIES) {
+            /* Full; concurrent callers may overshoot the limit slightly, which is harmless */
+            return new Entry(new JaxWsImplementorInfo(key.sei));
+        }
+        return entries.computeIfAbsent(key, k -> new Entry(new JaxWsImplementorInfo(k.sei)));
+    }
+
+    /**
+     * @return the number of cached {@link Entry}s
+     */
+    public static int size() {
+        return entries.size();
+    }
+
+    /**
+     * Remove all {@link Entry}s.
+     */
+    public static void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Identifies the clients that can share an {@link Entry}.
+     */
+    public static final class Key {
+        private final Class<?> sei;
+        private final String wsdlUrl;
+        private final String bindingId;
+        private final QName serviceName;
+        private final QName endpointName;
+        private final int hashCode;
+
+        public Key(Class<?> sei, String wsdlUrl, String bindingId, QName serviceName, QName endpointName) {
+            this.sei = Objects.requireNonNull(sei, "sei cannot be null");
+            this.wsdlUrl = wsdlUrl;
+            this.bindingId = bindingId;
+            this.serviceName = serviceName;
+            this.endpointName = endpointName;
+            this.hashCode = Objects.hash(sei, wsdlUrl, bindingId, serviceName, endpointName);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return sei == other.sei
+                    && Objects.equals(wsdlUrl, other.wsdlUrl)
+                    && Objects.equals(bindingId, other.bindingId)
+                    && Objects.equals(serviceName, other.serviceName)
+                    && Objects.equals(endpointName, other.endpointName);
+        }
+
+        @Override
+        public String toString() {
+            return sei.getName() + (wsdlUrl != null ? " " + wsdlUrl : "") + (bindingId != null ? " " + bindingId : "")
+                    + (serviceName != null ? " " + serviceName : "") + (endpointName != null ? " " + endpointName : "");
+        }
+    }
+
+    /**
+     * The shared parts of the service model of a {@link Key}.
+     */
+    public static final class Entry {
+        private final JaxWsImplementorInfo implementorInfo;
+        /* Written once, after the first client was created */
+        private volatile Definition definition;
+        private volatile JAXBContext jaxbContext;
+        private volatile boolean retained;
+
+        Entry(JaxWsImplementorInfo implementorInfo) {
+            this.implementorInfo = implementorInfo;
+        }
+
+        /**
+         * @return the {@link JaxWsImplementorInfo} to pass to the service factory of new clients
+         */
+        public JaxWsImplementorInfo getImplementorInfo() {
+            return implementorInfo;
+        }
+
+        /**
+         * @return the WSDL {@link Definition} retained from the first client or {@code null}
+         */
+        public Definition getDefinition() {
+            return definition;
+        }
+
+        /**
+         * @return the {@link JAXBContext} retained from the first client or {@code null}
+         */
+        public JAXBContext getJaxbContext() {
+            return jaxbContext;
+        }
+
+        /**
+         * Keep references to the WSDL {@link Definition} and the {@link JAXBContext} of the given {@link Client}, so
+         * that CXF can reuse them for further clients with the same {@link Key}. Only the first invocation has an
+         * effect.
+         *
+         * @param client a newly created client
+         */
+        public void retain(Client client) {
+            if (retained) {
+                return;
+            }
+            final Service service = client.getEndpoint().getService();
+            for (ServiceInfo si : service.getServiceInfos()) {
+                final Definition def = si.getProperty(WSDLServiceBuilder.WSDL_DEFINITION, Definition.class);
+                if (def != null) {
+                    this.definition = def;
+                    break;
+                }
+            }
+            final DataBinding dataBinding = service.getDataBinding();
+            if (dataBinding instanceof JAXBDataBinding) {
+                this.jaxbContext = ((JAXBDataBinding) dataBinding).getContext();
+            }
+            retained = true;
+        }
+    }
+}
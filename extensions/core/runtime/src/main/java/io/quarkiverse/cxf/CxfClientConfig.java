@@ -2,6 +2,7 @@ package io.quarkiverse.cxf;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
 
@@ -13,8 +14,11 @@ import org.apache.cxf.transports.http.configuration.ProxyServerType;
 
 import io.quarkiverse.cxf.LoggingConfig.PerClientOrServiceLoggingConfig;
 import io.quarkus.runtime.annotations.ConfigDocEnum;
+import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.configuration.DurationConverter;
+import io.quarkus.runtime.configuration.MemorySize;
+import io.quarkus.runtime.configuration.MemorySizeConverter;
 import io.smallrye.config.WithConverter;
 import io.smallrye.config.WithDefault;
 import io.smallrye.config.WithName;
@@ -421,7 +425,9 @@ public interface CxfClientConfig {
      * or
      * `xref:#quarkus-cxf_quarkus-cxf-http-conduit-factory[quarkus.cxf.http-conduit-factory]`.
      * The default HTTP protocol versions for the two supported HTTP Conduit Factories are as follows:
-     * ** `VertxHttpClientHTTPConduitFactory`: `1.1`
+     * ** `VertxHttpClientHTTPConduitFactory`: `1.1`, unless
+     * `xref:#quarkus-cxf_quarkus-cxf-client-client-name-vertx-http2-auto-negotiate[quarkus.cxf.client."client-name".vertx.http2.auto-negotiate]`
+     * is `true`, in which case HTTP/2 is negotiated with the server, falling back to `1.1`
      * ** `URLConnectionHTTPConduitFactory`: `1.1`
      *
      * While `VertxHttpClientHTTPConduitFactory` supports all of the named HTTP protocol versions,
@@ -876,6 +882,41 @@ public interface CxfClientConfig {
         @WithDefault("60")
         int http2KeepAliveTimeout();
 
+        /**
+         * HTTP/2 specific settings.
+         *
+         * @asciidoclet
+         * @since 3.38.0
+         */
+        Http2 http2();
+
+        /**
+         * Client-side load balancing settings.
+         *
+         * @asciidoclet
+         * @since 3.38.0
+         */
+        LoadBalancing loadBalancing();
+
+        /**
+         * Hedged requests settings.
+         *
+         * @asciidoclet
+         * @since 3.38.0
+         */
+        Hedging hedging();
+
+        /**
+         * Response cache settings per local name of a WSDL operation. The cache is enabled for an operation as soon
+         * as any of its options is set, e.g. `quarkus.cxf.client."client-name".vertx.response-cache.getCountry.ttl
+         * = 1h`.
+         *
+         * @asciidoclet
+         * @since 3.38.0
+         */
+        @ConfigDocMapKey("operation-name")
+        Map<String, ResponseCacheConfig> responseCache();
+
         /**
          * Configure the given {@link HttpClientOptions} based on the values in this {@link VertxConfig}.
          *
@@ -884,9 +925,25 @@ public interface CxfClientConfig {
          * @since 3.25.0
          */
         default void configure(HttpClientOptions opts, ConnectionType connectionType) {
+            configure(opts, connectionType, false);
+        }
+
+        /**
+         * Configure the given {@link HttpClientOptions} based on the values in this {@link VertxConfig}.
+         *
+         * @param opts the {@link HttpClientOptions} to set
+         * @param connectionType the {@link ConnectionType} used to control keep-alive settings
+         * @param negotiateHttp2 {@code true} if HTTP/2 was selected through
+         *        `quarkus.cxf.client."client-name".version = auto` and
+         *        `quarkus.cxf.client."client-name".vertx.http2.auto-negotiate = true`, in which case the client should
+         *        be able to fall back to HTTP/1.1
+         * @since 3.38.0
+         */
+        default void configure(HttpClientOptions opts, ConnectionType connectionType, boolean negotiateHttp2) {
             HttpVersion version = opts.getProtocolVersion();
             if (HttpVersion.HTTP_2.equals(version)) {
                 opts.setHttp2KeepAliveTimeout(http2KeepAliveTimeout());
+                http2().configure(opts, negotiateHttp2);
             }
             if (HttpVersion.HTTP_1_1.equals(version) || HttpVersion.HTTP_1_0.equals(version)) {
                 if (ConnectionType.KEEP_ALIVE.equals(connectionType)) {
@@ -959,6 +1016,40 @@ public interface CxfClientConfig {
         @WithDefault("-1")
         int maxWaitQueueSize();
 
+        /**
+         * The number of connections to open when the application starts, so that the first requests do not have to
+         * pay for establishing connections and for TLS handshakes. Each connection is opened by sending an
+         * `OPTIONS *` request, which addresses the server as a whole rather than any service endpoint. The application
+         * startup waits for the connections to get opened at most for `warmup-timeout`.
+         *
+         * The HTTP client owning the warmed up connections is exempt from the eviction via
+         * `quarkus.cxf.http-client-pool.idle-timeout` and `quarkus.cxf.http-client-pool.max-size`. The connections
+         * themselves are kept open as long as `quarkus.cxf.client."client-name".vertx.keep-alive-timeout` or
+         * `quarkus.cxf.client."client-name".vertx.http2-keep-alive-timeout` permit.
+         *
+         * The value is capped by `http1-max-size` or `http2-max-size` depending on the HTTP version used by the
+         * client. The warm-up happens only for clients having `client-endpoint-url` set and using
+         * `VertxHttpClientHTTPConduitFactory`. Failing to open the connections does not prevent the application
+         * from starting.
+         *
+         * @asciidoclet
+         * @since 3.38.0
+         */
+        @WithDefault("0")
+        int warmupConnections();
+
+        /**
+         * The maximum time the application startup waits for the connections requested via `warmup-connections`
+         * to get opened. Once the timeout elapses, the application starts while the remaining connections are still
+         * being opened in the background. `0` means not to wait at all.
+         *
+         * @asciidoclet
+         * @since 3.38.0
+         */
+        @WithDefault("10s")
+        @WithConverter(DurationConverter.class)
+        Duration warmupTimeout();
+
         /**
          * Configure the given {@link PoolOptions} based on the values in this {@link ConnectionPool}.
          *
@@ -974,6 +1065,327 @@ public interface CxfClientConfig {
         }
     }
 
+    /**
+     * HTTP/2 specific settings used by `io.vertx.core.http.HttpClientOptions`.
+     *
+     * @asciidoclet
+     * @since 3.38.0
+     */
+    interface Http2 {
+        // The formatter breaks the list with long items
+        // @formatter:off
+        /**
+         * If `true` and
+         * `xref:#quarkus-cxf_quarkus-cxf-client-client-name-version[quarkus.cxf.client."client-name".version]`
+         * is `auto`, then the client will try to use HTTP/2 and fall back to HTTP/1.1 if the server does not support
+         * it:
+         *
+         * * For `https` endpoints, the protocol is negotiated via ALPN during the TLS handshake.
+         * * For plain `http` endpoints, the protocol is selected as specified by
+         *   `xref:#quarkus-cxf_quarkus-cxf-client-client-name-vertx-http2-clear-text[quarkus.cxf.client."client-name".vertx.http2.clear-text]`.
+         *
+         * If `false`, `auto` is equivalent to `1.1`.
+         *
+         * @asciidoclet
+         * @since 3.38.0
+         */
+        // @formatter:on
+        @WithDefault("false")
+        boolean autoNegotiate();
+
+        /**
+         * How to establish HTTP/2 connections to plain `http` endpoints (a.k.a. h2c).
+         *
+         * * `upgrade` - the first request is sent over HTTP/1.1 with an `Upgrade: h2c` header. If the server agrees,
+         *   the connection is upgraded to HTTP/2; otherwise HTTP/1.1 is used.
+         * * `prior-knowledge` - HTTP/2 frames are sent right away, assuming that the server supports HTTP/2. The
+         *   requests fail if it does not.
+         *
+         * @asciidoclet
+         * @since 3.38.0
+         */
+        @WithDefault("upgrade")
+        Http2ClearText clearText();
+
+        /**
+         * The maximum number of concurrent streams (i.e. in-flight requests) this client opens on a single HTTP/2
+         * connection. When all connections are saturated, new connections are opened up to
+         * `quarkus.cxf.client."client-name".vertx.connection-pool.http2-max-size` and then the requests are queued.
+         *
+         * The value `-1` means that only the `SETTINGS_MAX_CONCURRENT_STREAMS` advertised by the server is honored.
+         *
+         * @asciidoclet
+         * @since 3.38.0
+         */
+        @WithDefault("-1")
+        int multiplexingLimit();
+
+        /**
+         * The value of `SETTINGS_MAX_CONCURRENT_STREAMS` advertised by this client to the server, i.e. the number
+         * of concurrent streams the server is allowed to open towards this client.
+         *
+         * If not set, the Vert.x default is used.
+         *
+         * @asciidoclet
+         * @since 3.38.0
+         */
+        Optional<Long> maxConcurrentStreams();
+
+        /**
+         * The per-stream flow-control window size in bytes advertised by this client via `SETTINGS_INITIAL_WINDOW_SIZE`.
+         * Larger values let the server send larger responses without waiting for `WINDOW_UPDATE` frames.
+         *
+         * If not set, the Vert.x default (65535 bytes) is used.
+         *
+         * @asciidoclet
+         * @since 3.38.0
+         */
+        Optional<Integer> initialWindowSize();
+
+        /**
+         * The connection-level flow-control window size in bytes, shared by all streams of a connection.
+         *
+         * The value `-1` means that the HTTP/2 default (65535 bytes) is used.
+         *
+         * @asciidoclet
+         * @since 3.38.0
+         */
+        @WithDefault("-1")
+        int connectionWindowSize();
+
+        /**
+         * Configure the given {@link HttpClientOptions} based on the values in this {@link Http2}.
+         *
+         * @param opts the {@link HttpClientOptions} to set
+         * @param negotiate if {@code true} then ALPN is enabled with fallback to HTTP/1.1; otherwise the ALPN settings
+         *        are left as set by the TLS configuration, so that an explicit {@code version = 2} behaves as before
+         * @since 3.38.0
+         */
+        default void configure(HttpClientOptions opts, boolean negotiate) {
+            if (negotiate) {
+                opts.setUseAlpn(true);
+                opts.setAlpnVersions(List.of(HttpVersion.HTTP_2, HttpVersion.HTTP_1_1));
+            }
+            opts.setHttp2ClearTextUpgrade(clearText() == Http2ClearText.UPGRADE);
+            opts.setHttp2MultiplexingLimit(multiplexingLimit());
+            opts.setHttp2ConnectionWindowSize(connectionWindowSize());
+            maxConcurrentStreams().ifPresent(v -> opts.getInitialSettings().setMaxConcurrentStreams(v));
+            initialWindowSize().ifPresent(v -> opts.getInitialSettings().setInitialWindowSize(v));
+        }
+    }
+
+    public enum Http2ClearText {
+        UPGRADE,
+        PRIOR_KNOWLEDGE
+    }
+
+    /**
+     * Client-side load balancing settings of `VertxHttpClientHTTPConduitFactory`.
+     *
+     * @asciidoclet
+     * @since 3.38.0
+     */
+    interface LoadBalancing {
+        // The formatter breaks the list with long items
+        // @formatter:off
+        /**
+         * A comma separated list of endpoint URLs to spread the requests of this client over.
+         * If set, each request is sent to one of these URLs selected according to
+         * `xref:#quarkus-cxf_quarkus-cxf-client-client-name-vertx-load-balancing-strategy[quarkus.cxf.client."client-name".vertx.load-balancing.strategy]`
+         * instead of the endpoint address of the client, such as
+         * `xref:#quarkus-cxf_quarkus-cxf-client-client-name-client-endpoint-url[quarkus.cxf.client."client-name".client-endpoint-url]`.
+         *
+         * Only effective with `VertxHttpClientHTTPConduitFactory`.
+         *
+         * @asciidoclet
+         * @since 3.38.0
+         */
+        // @formatter:on
+        Optional<List<String>> addresses();
+
+        /**
+         * How to select the endpoint URL for a request out of
+         * `quarkus.cxf.client."client-name".vertx.load-balancing.addresses`.
+         *
+         * * `round-robin` - use the URLs one after another
+         * * `least-in-flight` - use the URL with the lowest number of requests awaiting a response
+         * * `ewma` - prefer the URL with the lowest exponentially weighted moving average of response times
+         *   multiplied by the number of requests awaiting a response. Failed requests count as slow responses.
+         *
+         * Ejected URLs are skipped by all strategies.
+         *
+         * @asciidoclet
+         * @since 3.38.0
+         */
+        @WithDefault("round-robin")
+        LoadBalancingStrategy strategy();
+
+        /**
+         * For how long an endpoint URL should not be used after a connection failure, after not sending the response
+         * headers within the receive timeout or after responding with a status code listed in the
+         * `org.apache.cxf.transport.service_not_available_on_http_status_codes` client property (by default `404`,
+         * `429` and `503`).
+         * If all URLs are ejected, the one whose ejection expires first is used.
+         *
+         * @asciidoclet
+         * @since 3.38.0
+         */
+        @WithDefault("30s")
+        @WithConverter(DurationConverter.class)
+        Duration ejectionTime();
+    }
+
+    /**
+     * Hedged requests settings of `VertxHttpClientHTTPConduitFactory`.
+     *
+     * @asciidoclet
+     * @since 3.38.0
+     */
+    interface Hedging {
+        /**
+         * A comma separated list of local names of WSDL operations whose requests should be hedged: if the response
+         * does not arrive within the delay given by
+         * `quarkus.cxf.client."client-name".vertx.hedging.delay-percentile`, a duplicate request is sent and the
+         * first successful response is used. The other request is cancelled.
+         *
+         * Only list idempotent operations, such as read-only lookups, because the service may receive both
+         * requests.
+         * Hedging requires the request body to be cached in the same way as for
+         * `quarkus.cxf.client."client-name".auto-redirect`; see `quarkus.cxf.retransmit-cache.*`.
+         *
+         * Only effective with `VertxHttpClientHTTPConduitFactory`.
+         *
+         * @asciidoclet
+         * @since 3.38.0
+         */
+        Optional<List<String>> operations();
+
+        /**
+         * The percentile of the response times observed so far for the given operation after which a duplicate
+         * request is sent. E.g. with the default `95`, at most about 5% of requests will be hedged.
+         *
+         * @asciidoclet
+         * @since 3.38.0
+         */
+        @WithDefault("95")
+        double delayPercentile();
+
+        /**
+         * The hedging delay used before enough response times are observed for the given operation.
+         *
+         * @asciidoclet
+         * @since 3.38.0
+         */
+        @WithDefault("100ms")
+        @WithConverter(DurationConverter.class)
+        Duration initialDelay();
+
+        /**
+         * The minimum hedging delay.
+         *
+         * @asciidoclet
+         * @since 3.38.0
+         */
+        @WithDefault("5ms")
+        @WithConverter(DurationConverter.class)
+        Duration minDelay();
+
+        /**
+         * The maximum ratio of duplicate requests to all requests of the given operation. E.g. with the default
+         * `0.1` at most one duplicate request is sent per ten requests, so that hedging does not overload the
+         * service when it is slow as a whole.
+         *
+         * @asciidoclet
+         * @since 3.38.0
+         */
+        @WithDefault("0.1")
+        double budget();
+    }
+
+    /**
+     * Response cache settings of a single WSDL operation.
+     *
+     * @asciidoclet
+     * @since 3.38.0
+     */
+    interface ResponseCacheConfig {
+        /**
+         * For how long a cached response can be used.
+         *
+         * Only successful (`200 OK`) responses of idempotent operations, such as lookups of reference data, should
+         * be cached. The responses are looked up by the operation, by the endpoint address of the client and by a
+         * SHA-256 hash of the request body and of the `Authorization`, `Proxy-Authorization` and `Cookie` request
+         * headers. The address selected by `load-balancing` does not matter, so a response received from one load
+         * balancing target serves the requests sent to any of them. Hence requests containing unique elements, such
+         * as WS-Addressing message IDs or WS-Security timestamps, will never hit the cache. Responses received after
+         * an authentication challenge are not cached.
+         *
+         * Only effective with `VertxHttpClientHTTPConduitFactory`.
+         *
+         * @asciidoclet
+         * @since 3.38.0
+         */
+        @WithDefault("10m")
+        @WithConverter(DurationConverter.class)
+        Duration ttl();
+
+        /**
+         * The maximum number of responses to keep in the cache.
+         *
+         * @asciidoclet
+         * @since 3.38.0
+         */
+        @WithDefault("1000")
+        int maxEntries();
+
+        /**
+         * The maximum total size of the response bodies kept in the cache. Once it is exceeded, the least recently
+         * used responses are evicted.
+         *
+         * @asciidoclet
+         * @since 3.38.0
+         */
+        @WithDefault("10M")
+        @WithConverter(MemorySizeConverter.class)
+        MemorySize maxSize();
+
+        /**
+         * The maximum size of a single response body to cache. Larger responses are streamed to the caller without
+         * being buffered in full and they are not cached. Values greater than `max-size` are capped by `max-size`.
+         *
+         * @asciidoclet
+         * @since 3.38.0
+         */
+        @WithDefault("1M")
+        @WithConverter(MemorySizeConverter.class)
+        MemorySize maxEntrySize();
+
+        /**
+         * Which responses to evict when the cache is full.
+         *
+         * * `lru` - the least recently used ones
+         * * `w-tiny-lfu` - new responses are kept in a small LRU window first and are admitted to the main LRU
+         *   area only if they are requested more frequently than the least recently used response of the main area.
+         *   This copes better with one-off requests than plain `lru`.
+         *
+         * @asciidoclet
+         * @since 3.38.0
+         */
+        @WithDefault("lru")
+        ResponseCacheEviction eviction();
+    }
+
+    public enum ResponseCacheEviction {
+        LRU,
+        W_TINY_LFU
+    }
+
+    public enum LoadBalancingStrategy {
+        ROUND_ROBIN,
+        LEAST_IN_FLIGHT,
+        EWMA
+    }
+
     public enum WellKnownHostnameVerifier {
 
         AllowAllHostnameVerifier {
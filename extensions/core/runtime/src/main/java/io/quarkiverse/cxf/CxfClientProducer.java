@@ -19,8 +19,6 @@ import jakarta.enterprise.inject.spi.InjectionPoint;
 import jakarta.inject.Inject;
 import jakarta.xml.ws.BindingProvider;
 
-import org.apache.cxf.Bus;
-import org.apache.cxf.BusFactory;
 import org.apache.cxf.annotations.SchemaValidation.SchemaValidationType;
 import org.apache.cxf.configuration.security.AuthorizationPolicy;
 import org.apache.cxf.endpoint.Client;
@@ -36,6 +34,7 @@ import io.quarkiverse.cxf.annotation.CXFClient;
 import io.quarkiverse.cxf.logging.LoggingFactoryCustomizer;
 import io.quarkiverse.cxf.vertx.http.client.HttpClientPool;
 import io.quarkiverse.cxf.vertx.http.client.VertxHttpClientHTTPConduit;
+import io.quarkiverse.cxf.wsdl.QuarkusWSDLManager;
 import io.vertx.core.Vertx;
 
 /**
@@ -84,6 +83,25 @@ public abstract class CxfClientProducer {
         return produceCxfClient(selectorCXFClientInfo(config, fixedConfig, ip, meta, vertx));
     }
 
+    /**
+     * Create a CXF client proxy for the given {@code meta} and {@code configKey} outside of any injection point, e.g.
+     * for eager initialization on startup.
+     *
+     * @param meta the build time metadata of the client
+     * @param configKey the key under which the client is configured in {@code application.properties}
+     * @return a new CXF client proxy
+     * @since 3.38.0
+     */
+    public Object createCxfClient(CXFClientData meta, String configKey) {
+        return produceCxfClient(selectorCXFClientInfo(
+                config,
+                fixedConfig,
+                meta,
+                configKey,
+                () -> new IllegalStateException("quarkus.cxf.client.\"" + configKey + "\".* configuration is missing"),
+                vertx));
+    }
+
     /**
      * Called from the <code>{SEI}CxfClientProducer.closeClient(@Disposes @CXFClient {SEI} client)</code> generated in
      * {@code io.quarkiverse.cxf.deployment.CxfClientProcessor.generateCxfClientProducer()}.
@@ -138,26 +156,41 @@ public abstract class CxfClientProducer {
         } catch (ClassNotFoundException e) {
             throw new RuntimeException("Could not load " + RUNTIME_INITIALIZED_PROXY_MARKER_INTERFACE_NAME, e);
         }
-        final QuarkusClientFactoryBean quarkusClientFactoryBean = new QuarkusClientFactoryBean(seiClass);
+        final String wsdlUrl = cxfClientInfo.getWsdlUrl() != null && !cxfClientInfo.getWsdlUrl().isEmpty()
+                ? cxfClientInfo.getWsdlUrl()
+                : null;
+        final QName serviceName = new QName(cxfClientInfo.getWsNamespace(), cxfClientInfo.getWsName());
+        final QName endpointName = cxfClientInfo.getEpName() != null
+                ? new QName(cxfClientInfo.getEpNamespace(), cxfClientInfo.getEpName())
+                : null;
+        final ClientServiceModelCache.Entry serviceModel = ClientServiceModelCache.get(new ClientServiceModelCache.Key(
+                seiClass,
+                wsdlUrl,
+                cxfClientInfo.getSoapBinding(),
+                serviceName,
+                endpointName));
+        final QuarkusClientFactoryBean quarkusClientFactoryBean = new QuarkusClientFactoryBean(
+                serviceModel.getImplementorInfo());
         final QuarkusJaxWsProxyFactoryBean factory = new QuarkusJaxWsProxyFactoryBean(
                 quarkusClientFactoryBean,
                 vertx,
                 cxfClientInfo.getWorkerDispatchTimeout(),
+                cxfClientInfo.getAsyncDispatch(),
                 interfaces);
         final Map<String, Object> props = new LinkedHashMap<>();
         factory.setProperties(props);
         props.put(CXFClientInfo.class.getName(), cxfClientInfo);
         LOGGER.debugf("using servicename {%s}%s", cxfClientInfo.getWsNamespace(), cxfClientInfo.getWsName());
-        factory.setServiceName(new QName(cxfClientInfo.getWsNamespace(), cxfClientInfo.getWsName()));
-        if (cxfClientInfo.getEpName() != null) {
-            factory.setEndpointName(new QName(cxfClientInfo.getEpNamespace(), cxfClientInfo.getEpName()));
+        factory.setServiceName(serviceName);
+        if (endpointName != null) {
+            factory.setEndpointName(endpointName);
         }
         factory.setAddress(cxfClientInfo.getEndpointAddress());
         if (cxfClientInfo.getSoapBinding() != null) {
             factory.setBindingId(cxfClientInfo.getSoapBinding());
         }
-        if (cxfClientInfo.getWsdlUrl() != null && !cxfClientInfo.getWsdlUrl().isEmpty()) {
-            factory.setWsdlURL(cxfClientInfo.getWsdlUrl());
+        if (wsdlUrl != null) {
+            factory.setWsdlURL(wsdlUrl);
         }
 
         final AuthorizationPolicy authorizationPolicy = authorizationPolicy(cxfClientInfo.getAuth());
@@ -198,7 +231,6 @@ public abstract class CxfClientProducer {
         loggingFactoryCustomizer.customize(cxfClientInfo, factory);
         customizers.forEach(customizer -> customizer.customize(cxfClientInfo, factory));
 
-        final Bus bus = BusFactory.getDefaultBus();
         final QuarkusHTTPConduitFactory conduitFactory = new QuarkusHTTPConduitFactory(
                 fixedConfig,
                 cxfClientInfo,
@@ -206,24 +238,17 @@ public abstract class CxfClientProducer {
                 vertx,
                 httpClientPool);
         props.put(HTTPConduitFactory.class.getName(), conduitFactory);
-        Object result;
-        final HTTPConduitFactory origConduitFactory = bus.getExtension(HTTPConduitFactory.class);
-        try {
-            /*
-             * Workaround for https://github.com/quarkiverse/quarkus-cxf/issues/1264
-             * We set the client specific HTTPConduitFactory on the bus temporarily,
-             * so that it is honored for getting the WSDL.
-             * We assume that no other tread is accessing the HTTPConduitFactory.class extension in parallel
-             */
-            bus.setExtension(conduitFactory, HTTPConduitFactory.class);
-
-            LOGGER.debug("cxf client loaded for " + sei);
-            result = factory.create();
-        } finally {
-            bus.setExtension(origConduitFactory, HTTPConduitFactory.class);
-        }
+        /*
+         * The client specific HTTPConduitFactory needs to be honored also for fetching the WSDL
+         * (https://github.com/quarkiverse/quarkus-cxf/issues/1264).
+         * We pass it to the WSDLManager through the current thread rather than setting it on the shared Bus,
+         * so that multiple clients can be created in parallel
+         */
+        LOGGER.debug("cxf client loaded for " + sei);
+        final Object result = QuarkusWSDLManager.withConduitFactory(conduitFactory, factory::create);
 
         final Client client = ClientProxy.getClient(result);
+        serviceModel.retain(client);
         {
             final SchemaValidationType value = cxfClientInfo.getSchemaValidationEnabledFor();
             if (value != null) {
@@ -136,6 +136,20 @@ public interface CxfConfig {
      */
     RetransmitCacheConfig retransmitCache();
 
+    /**
+     * Configuration of the pool of Vert.x HTTP clients used by `VertxHttpClientHTTPConduit`
+     *
+     * @asciidoclet
+     */
+    HttpClientPoolConfig httpClientPool();
+
+    /**
+     * Eager initialization of service endpoints and clients on application startup
+     *
+     * @asciidoclet
+     */
+    EagerInitConfig eagerInit();
+
     default boolean isClientPresent(String key) {
         return Optional.ofNullable(clients()).map(m -> m.containsKey(key)).orElse(false);
     }
@@ -209,6 +223,60 @@ public interface CxfConfig {
         @WithDefault("30000")
         public long workerDispatchTimeout();
 
+        // The formatter breaks the list with long items
+        // @formatter:off
+        /**
+         * Select the thread on which asynchronous client calls issued on Vert.x event loop should be executed.
+         * This also determines the thread on which the responses of asynchronous client calls are passed to the
+         * application.
+         *
+         * * `worker` - the client call is dispatched to the Vert.x worker thread pool. The dispatching is subject to
+         *   `xref:reference/extensions/quarkus-cxf.adoc#quarkus-cxf_quarkus-cxf-client-worker-dispatch-timeout[quarkus.cxf.client.worker-dispatch-timeout]`.
+         *   The responses are passed to the application on a `ManagedExecutor` thread.
+         * * `virtual-thread` - the client call is executed on a new virtual thread and the responses are passed to the
+         *   application on new virtual threads too. Waiting for the response does not hold any platform thread,
+         *   hence a burst of slow client calls cannot exhaust the worker thread pool.
+         *   `quarkus.cxf.client.worker-dispatch-timeout` does not apply in this mode.
+         *   Requires Java 21 or newer; on older Java versions Quarkus falls back to the worker thread pool.
+         * * `event-loop` - the client call is executed directly on the event loop thread where it was issued, without
+         *   dispatching to any other thread. The whole request body is marshalled into memory and sent at once,
+         *   the whole response body is received into memory and then it is unmarshalled and passed to the application
+         *   on the same event loop. `quarkus.cxf.client.worker-dispatch-timeout` does not apply in this mode.
+         *   This mode is suitable for clients exchanging small messages. All interceptors, handlers and response
+         *   callbacks must be non-blocking, otherwise they would stall the event loop.
+         *   Clients not using `VertxHttpClientHTTPConduitFactory` are dispatched to the worker thread pool instead.
+         *
+         * Note that synchronous client calls cannot be performed on Vert.x event loop at all, because the caller must
+         * wait for the response. Instead, the calling method can be annotated with
+         * `&#64;io.smallrye.common.annotation.RunOnVirtualThread` where the underlying Quarkus extension supports it.
+         * Synchronous client calls performed on virtual threads do not pin the carrier thread while waiting for the
+         * response.
+         *
+         * See also:
+         *
+         * * xref:user-guide/advanced-client-topics/asynchronous-client.adoc#_caller_threads_and_callback_threads[Caller threads and callback threads]
+         *
+         * @asciidoclet
+         * @since 3.38.0
+         */
+        // @formatter:on
+        @WithDefault("worker")
+        public ClientDispatch asyncDispatch();
+
+        /**
+         * The maximum size of a response body that a client may receive when
+         * `xref:reference/extensions/quarkus-cxf.adoc#quarkus-cxf_quarkus-cxf-client-async-dispatch[quarkus.cxf.client.async-dispatch]`
+         * is `event-loop` and the client call was issued on the event loop. In that mode, the whole response body is
+         * received into memory before it is unmarshalled. Larger responses make the client call fail with an
+         * `IOException`.
+         *
+         * @asciidoclet
+         * @since 3.38.0
+         */
+        @WithDefault("10M")
+        @WithConverter(MemorySizeConverter.class)
+        public MemorySize eventLoopMaxResponseSize();
+
     }
 
     public interface InternalConfig {
@@ -238,6 +306,44 @@ public interface CxfConfig {
         @WithConverter(MemorySizeConverter.class)
         public MemorySize threshold();
 
+        // The formatter breaks the list with long items
+        // @formatter:off
+        /**
+         * If set to a value greater than
+         * `xref:reference/extensions/quarkus-cxf.adoc#quarkus-cxf_quarkus-cxf-retransmit-cache-threshold[quarkus.cxf.retransmit-cache.threshold]`,
+         * then request bodies larger than `threshold` but not larger than this value are kept in memory compressed with
+         * deflate instead of being cached on disk.
+         * Request bodies larger than this value or compressing worse than
+         * `xref:reference/extensions/quarkus-cxf.adoc#quarkus-cxf_quarkus-cxf-retransmit-cache-min-compression-ratio[quarkus.cxf.retransmit-cache.min-compression-ratio]`
+         * are cached on disk.
+         * If not set, request bodies larger than `threshold` are always cached on disk.
+         *
+         * See also:
+         *
+         * * `xref:reference/extensions/quarkus-cxf.adoc#quarkus-cxf_quarkus-cxf-client-client-name-auto-redirect[quarkus.cxf.client."client-name".auto-redirect]`
+         *
+         * @since 3.38.0
+         * @asciidoclet
+         */
+        // @formatter:on
+        @WithConverter(MemorySizeConverter.class)
+        public Optional<MemorySize> compressedThreshold();
+
+        // The formatter breaks the list with long items
+        // @formatter:off
+        /**
+         * The minimum ratio between the uncompressed and the compressed size of a request body required for keeping
+         * it in the compressed in-memory tier enabled via
+         * `xref:reference/extensions/quarkus-cxf.adoc#quarkus-cxf_quarkus-cxf-retransmit-cache-compressed-threshold[quarkus.cxf.retransmit-cache.compressed-threshold]`.
+         * Request bodies compressing worse are cached on disk.
+         *
+         * @since 3.38.0
+         * @asciidoclet
+         */
+        // @formatter:on
+        @WithDefault("2.0")
+        public double minCompressionRatio();
+
         // The formatter breaks the list with long items
         // @formatter:off
         /**
@@ -330,4 +436,110 @@ public interface CxfConfig {
 
     }
 
+    public interface HttpClientPoolConfig {
+
+        // The formatter breaks the list with long items
+        // @formatter:off
+        /**
+         * If `true`, the clients whose Vert.x `HttpClientOptions` and TLS configuration are equal will share a single
+         * Vert.x `HttpClient` and hence also a single connection pool.
+         * Otherwise each client configuration will get its own Vert.x `HttpClient`.
+         *
+         * Enabling this helps applications creating many client configurations pointing at the same remote hosts,
+         * e.g. one per tenant, to keep the number of open connections low.
+         *
+         * @since 3.38.0
+         * @asciidoclet
+         */
+        // @formatter:on
+        @WithDefault("false")
+        public boolean shareIdenticalOptions();
+
+        /**
+         * The maximum number of Vert.x `HttpClient` instances to keep in the pool. When a new client needs to be created
+         * and this limit was reached, the least recently used client is closed and removed from the pool.
+         *
+         * If not set, the number of pooled clients is not limited.
+         *
+         * @since 3.38.0
+         * @asciidoclet
+         */
+        public Optional<Integer> maxSize();
+
+        // The formatter breaks the list with long items
+        // @formatter:off
+        /**
+         * The time after which a Vert.x `HttpClient` not used by any request gets closed and removed from the pool.
+         *
+         * The value should be greater than the greatest
+         * `xref:reference/extensions/quarkus-cxf.adoc#quarkus-cxf_quarkus-cxf-client-client-name-receive-timeout[quarkus.cxf.client."client-name".receive-timeout]`
+         * so that no client gets closed while still receiving a response.
+         *
+         * If not set, the clients are never evicted for being idle.
+         *
+         * @since 3.38.0
+         * @asciidoclet
+         */
+        // @formatter:on
+        @WithConverter(DurationConverter.class)
+        public Optional<Duration> idleTimeout();
+
+    }
+
+    public interface EagerInitConfig {
+        // The formatter breaks the list with long items
+        // @formatter:off
+        /**
+         * If `true`, then the following happens on application startup, before the HTTP server starts accepting
+         * requests (and thus before any readiness check can report `UP`):
+         *
+         * * A client proxy is created for each client configured via
+         *   `xref:reference/extensions/quarkus-cxf.adoc#quarkus-cxf_quarkus-cxf-client-client-name-service-interface[quarkus.cxf.client."client-name".service-interface]`
+         *   whose service interface is injected somewhere in the application. This resolves the client's WSDL, if any,
+         *   and creates the JAXB context. The proxies are closed right after that, but the WSDL definitions and JAXB
+         *   contexts are kept for the clients created later.
+         *   This can be disabled via
+         *   `xref:reference/extensions/quarkus-cxf.adoc#quarkus-cxf_quarkus-cxf-eager-init-clients[quarkus.cxf.eager-init.clients]`.
+         * * A synthetic message is marshalled and unmarshalled for each operation of each service endpoint and of each
+         *   client created in the previous step. This can be disabled via
+         *   `xref:reference/extensions/quarkus-cxf.adoc#quarkus-cxf_quarkus-cxf-eager-init-operations[quarkus.cxf.eager-init.operations]`.
+         *
+         * This moves the class initialization and JIT compilation costs of the first SOAP call out of the
+         * latency seen by the callers, at the expense of a longer startup.
+         *
+         * Note that service endpoints are always published on startup, regardless of this option.
+         * Also note that clients fetching their WSDL from a service endpoint of the same application cannot be
+         * initialized eagerly, because the HTTP server is not accepting requests yet.
+         * Failures are logged and the given client is then initialized on first use as usual.
+         *
+         * @since 3.38.0
+         * @asciidoclet
+         */
+        // @formatter:on
+        @WithDefault("false")
+        public boolean enabled();
+
+        /**
+         * If `true` and eager initialization is enabled via `quarkus.cxf.eager-init.enabled`, then a client proxy is
+         * created on startup for each configured client.
+         *
+         * @since 3.38.0
+         * @asciidoclet
+         */
+        @WithDefault("true")
+        public boolean clients();
+
+        /**
+         * If `true` and eager initialization is enabled via `quarkus.cxf.eager-init.enabled`, then a synthetic message is
+         * marshalled and unmarshalled on startup for each operation of each service endpoint and eagerly initialized
+         * client.
+         *
+         * @since 3.38.0
+         * @asciidoclet
+         */
+        @WithDefault("true")
+        public boolean operations();
+
+    }
+
 }
@@ -6,7 +6,11 @@ import java.util.Optional;
 import org.apache.cxf.annotations.SchemaValidation.SchemaValidationType;
 
 import io.quarkiverse.cxf.LoggingConfig.PerClientOrServiceLoggingConfig;
+import io.quarkus.runtime.annotations.ConfigDocDefault;
 import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.configuration.MemorySize;
+import io.quarkus.runtime.configuration.MemorySizeConverter;
+import io.smallrye.config.WithConverter;
 import io.smallrye.config.WithName;
 
 @ConfigGroup
@@ -146,4 +150,47 @@ public interface CxfEndpointConfig {
      */
     @WithName("schema-validation.enabled-for")
     public Optional<SchemaValidationType> schemaValidationEnabledFor();
+
+    /**
+     * Select the thread on which the requests to this service endpoint should be processed.
+     *
+     * * `worker` - the request is dispatched to the Vert.x worker thread pool. This is suitable for service
+     *   implementations performing blocking operations, such as database access or calling other services via
+     *   synchronous clients.
+     * * `event-loop` - the request body is read into memory first and then the CXF interceptor chain and the service
+     *   method are executed directly on the Vert.x event loop thread, without hopping to a worker thread. This is
+     *   suitable for short, CPU-bound operations. The service method must never block as that would stall all other
+     *   requests served by the same event loop. Because the whole request body is held in memory, this mode is not
+     *   suitable for endpoints accepting or returning large payloads. Request bodies larger than
+     *   `quarkus.http.limits.max-body-size` are rejected with status `413`. The response body is also collected in
+     *   memory and sent at once, so that writing it never waits for the network on the event loop; its size is
+     *   limited by
+     *   `xref:reference/extensions/quarkus-cxf.adoc#quarkus-cxf_quarkus-cxf-endpoint-endpoint-path-event-loop-max-response-size[quarkus.cxf.endpoint."/endpoint-path".event-loop-max-response-size]`.
+     * * `virtual-thread` - each request is processed on a new virtual thread. This is suitable for service
+     *   implementations that spend most of their time waiting for I/O, as a large number of concurrent slow requests
+     *   does not exhaust the Vert.x worker thread pool. Requires Java 21 or newer; on older Java versions Quarkus
+     *   falls back to the worker thread pool.
+     *
+     * If not set, `virtual-thread` is used for service implementations annotated with
+     * `&#64;io.smallrye.common.annotation.RunOnVirtualThread` and `worker` is used otherwise.
+     *
+     * @since 3.38.0
+     * @asciidoclet
+     */
+    @ConfigDocDefault("worker")
+    public Optional<EndpointDispatch> dispatch();
+
+    /**
+     * The maximum size of a response body that this service endpoint may send if
+     * `xref:reference/extensions/quarkus-cxf.adoc#quarkus-cxf_quarkus-cxf-endpoint-endpoint-path-dispatch[quarkus.cxf.endpoint."/endpoint-path".dispatch]`
+     * is `event-loop`. In that mode, the whole response body is collected in memory before it is sent. If the
+     * response gets larger, the request fails with status `500`. Ignored for other dispatch modes, where the response
+     * is streamed.
+     *
+     * @since 3.38.0
+     * @asciidoclet
+     */
+    @ConfigDocDefault("10M")
+    @WithConverter(MemorySizeConverter.class)
+    public Optional<MemorySize> eventLoopMaxResponseSize();
 }
@@ -57,6 +57,28 @@ public interface CxfFixedConfig {
     @WithDefault("8191")
     int outputBufferSize();
 
+    /**
+     * The number of milliseconds that a service endpoint blocked on reading the request body waits for the next chunk
+     * of data before the request fails.
+     *
+     * @asciidoclet
+     * @since 3.38.0
+     */
+    @WithDefault("10000")
+    long inputReadTimeout();
+
+    /**
+     * The number of bytes of a request body that can be received ahead of the service endpoint consuming them. Once
+     * this limit is reached, reading from the network gets paused until the service endpoint catches up.
+     *
+     * Larger values let the service endpoints wait for the network less often, at the expense of more memory usage.
+     *
+     * @asciidoclet
+     * @since 3.38.0
+     */
+    @WithDefault("65536")
+    int inputReadAheadSize();
+
     /**
      * Select the `HTTPConduitFactory` implementation for all clients except the ones that override this setting via
      * `quarkus.cxf.client."client-name".http-conduit-factory`.
@@ -0,0 +1,216 @@
+package io.quarkiverse.cxf;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.literal.NamedLiteral;
+import jakarta.inject.Inject;
+
+import org.apache.cxf.Bus;
+import org.apache.cxf.BusFactory;
+import org.apache.cxf.databinding.DataBinding;
+import org.apache.cxf.databinding.DataReader;
+import org.apache.cxf.databinding.DataWriter;
+import org.apache.cxf.endpoint.Server;
+import org.apache.cxf.endpoint.ServerRegistry;
+import org.apache.cxf.frontend.ClientProxy;
+import org.apache.cxf.service.Service;
+import org.apache.cxf.service.model.MessageInfo;
+import org.apache.cxf.service.model.MessagePartInfo;
+import org.apache.cxf.service.model.OperationInfo;
+import org.apache.cxf.service.model.ServiceInfo;
+import org.apache.cxf.staxutils.StaxUtils;
+import org.jboss.logging.Logger;
+
+import io.quarkiverse.cxf.CxfConfig.EagerInitConfig;
+import io.quarkiverse.cxf.CxfFixedConfig.ClientFixedConfig;
+import io.quarkus.runtime.StartupEvent;
+
+/**
+ * Initializes service endpoints and clients on application startup as configured via
+ * {@code quarkus.cxf.eager-init.*}.
+ * <p>
+ * {@link StartupEvent} observers are notified before the HTTP server starts accepting requests, so the work done here
+ * is finished before any readiness check can report {@code UP}.
+ *
+ * @since 3.38.0
+ */
+@ApplicationScoped
+public class EagerInitializer {
+    private static final Logger log = Logger.getLogger(EagerInitializer.class);
+
+    @Inject
+    CxfConfig config;
+
+    @Inject
+    CxfFixedConfig fixedConfig;
+
+    @Inject
+    @Any
+    Instance<CXFClientData> clientData;
+
+    @Inject
+    @Any
+    Instance<CxfClientProducer> clientProducers;
+
+    void onStart(@Observes StartupEvent event) {
+        final EagerInitConfig eagerInit = config.eagerInit();
+        if (!eagerInit.enabled()) {
+            return;
+        }
+        final long start = System.nanoTime();
+        int operations = 0;
+        int endpoints = 0;
+        if (eagerInit.operations()) {
+            final Bus bus = BusFactory.getDefaultBus();
+            final ServerRegistry serverRegistry = bus.getExtension(ServerRegistry.class);
+            if (serverRegistry != null) {
+                for (Server server : serverRegistry.getServers()) {
+                    operations += warmUpOperations(server.getEndpoint().getService());
+                    endpoints++;
+                }
+            }
+        }
+
+        int clients = 0;
+        if (eagerInit.clients()) {
+            for (Entry<String, ClientFixedConfig> en : fixedConfig.clients().entrySet()) {
+                final String sei = en.getValue().serviceInterface().orElse(null);
+                if (sei != null && initClient(en.getKey(), sei, eagerInit.operations())) {
+                    clients++;
+                }
+            }
+        }
+        log.infof(
+                "Eager initialization finished in %d ms: warmed up %d operations of %d service endpoints, initialized %d clients",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), operations, endpoints, clients);
+    }
+
+    boolean initClient(String configKey, String sei, boolean warmUpOperations) {
+        final Instance<CXFClientData> meta = clientData.select(NamedLiteral.of(sei));
+        if (!meta.isResolvable()) {
+            log.debugf("Not initializing client %s eagerly because %s is not injected anywhere", configKey, sei);
+            return false;
+        }
+        /* All producers share the same configuration, so any of them can create a client for any SEI */
+        final CxfClientProducer producer = clientProducers.iterator().next();
+        final long start = System.nanoTime();
+        final Object client;
+        try {
+            client = producer.createCxfClient(meta.get(), configKey);
+        } catch (Exception e) {
+            log.warnf(e, "Could not initialize client %s eagerly; it will be initialized on first use", configKey);
+            return false;
+        }
+        try {
+            if (warmUpOperations) {
+                warmUpOperations(ClientProxy.getClient(client).getEndpoint().getService());
+            }
+            log.debugf("Initialized client %s eagerly in %d ms", configKey,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } finally {
+            try {
+                ((Closeable) client).close();
+            } catch (IOException e) {
+                log.debugf(e, "Could not close eagerly initialized client %s", configKey);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Marshal and unmarshal a synthetic message for each part of each input and output message of each operation of
+     * the given {@link Service} so that the data binding classes get initialized and the marshalling code paths get
+     * exercised before the first real call. Failures are logged at debug level and otherwise ignored.
+     *
+     * @param service the {@link Service} to warm up
+     * @return the number of operations warmed up
+     */
+    static int warmUpOperations(Service service) {
+        final DataBinding dataBinding = service.getDataBinding();
+        if (dataBinding == null) {
+            return 0;
+        }
+        final DataWriter<XMLStreamWriter> writer = dataBinding.createWriter(XMLStreamWriter.class);
+        final DataReader<XMLStreamReader> reader = dataBinding.createReader(XMLStreamReader.class);
+        if (writer == null || reader == null) {
+            return 0;
+        }
+        int count = 0;
+        for (ServiceInfo serviceInfo : service.getServiceInfos()) {
+            if (serviceInfo.getInterface() == null) {
+                continue;
+            }
+            for (OperationInfo operation : serviceInfo.getInterface().getOperations()) {
+                warmUp(operation.getInput(), writer, reader);
+                warmUp(operation.getOutput(), writer, reader);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    static void warmUp(MessageInfo message, DataWriter<XMLStreamWriter> writer, DataReader<XMLStreamReader> reader) {
+        if (message == null) {
+            return;
+        }
+        for (MessagePartInfo part : message.getMessageParts()) {
+            final Object value = newInstance(part.getTypeClass());
+            if (value == null) {
+                continue;
+            }
+            try {
+                final ByteArrayOutputStream out = new ByteArrayOutputStream();
+                final XMLStreamWriter xmlWriter = StaxUtils.createXMLStreamWriter(out);
+                try {
+                    writer.write(value, part, xmlWriter);
+                    xmlWriter.flush();
+                } finally {
+                    xmlWriter.close();
+                }
+                final XMLStreamReader xmlReader = StaxUtils.createXMLStreamReader(new ByteArrayInputStream(out.toByteArray()));
+                try {
+                    xmlReader.nextTag();
+                    reader.read(part, xmlReader);
+                } finally {
+                    StaxUtils.close(xmlReader);
+                }
+            } catch (Exception e) {
+                log.debugf(e, "Could not warm up message part %s of %s", part.getName(), message.getName());
+            }
+        }
+    }
+
+    /**
+     * @param type the class to instantiate
+     * @return a new instance of {@code type} created using its public no-args constructor or {@code null} if
+     *         {@code type} has no such constructor
+     */
+    static Object newInstance(Class<?> type) {
+        if (type == null
+                || type.isPrimitive()
+                || type.isArray()
+                || type.isInterface()
+                || type.isEnum()
+                || Modifier.isAbstract(type.getModifiers())) {
+            return null;
+        }
+        try {
+            return type.getConstructor().newInstance();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
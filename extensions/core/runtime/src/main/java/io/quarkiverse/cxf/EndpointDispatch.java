@@ -0,0 +1,23 @@
+package io.quarkiverse.cxf;
+
+/**
+ * The kind of thread on which the requests to a service endpoint are processed.
+ *
+ * @since 3.38.0
+ */
+public enum EndpointDispatch {
+    /**
+     * The request is dispatched to the Vert.x worker thread pool where the CXF interceptor chain and the service method
+     * are executed.
+     */
+    WORKER,
+    /**
+     * The request body is read fully into memory and then the CXF interceptor chain and the service method are executed
+     * directly on the Vert.x event loop thread that received the request.
+     */
+    EVENT_LOOP,
+    /**
+     * The CXF interceptor chain and the service method are executed on a new virtual thread.
+     */
+    VIRTUAL_THREAD;
+}
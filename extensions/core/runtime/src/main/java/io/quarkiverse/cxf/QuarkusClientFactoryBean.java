@@ -11,7 +11,16 @@ import org.apache.cxf.jaxws.support.JaxWsServiceFactoryBean;
 
 public class QuarkusClientFactoryBean extends ClientFactoryBean {
     public QuarkusClientFactoryBean(Class<?> serviceClass) {
-        super(new QuarkusRuntimeJaxWsServiceFactoryBean(new JaxWsImplementorInfo(serviceClass)));
+        this(new JaxWsImplementorInfo(serviceClass));
+    }
+
+    /**
+     * @param implementorInfo a {@link JaxWsImplementorInfo} possibly shared with other clients of the same service
+     *        endpoint interface
+     * @since 3.38.0
+     */
+    public QuarkusClientFactoryBean(JaxWsImplementorInfo implementorInfo) {
+        super(new QuarkusRuntimeJaxWsServiceFactoryBean(implementorInfo));
     }
 
     @Override
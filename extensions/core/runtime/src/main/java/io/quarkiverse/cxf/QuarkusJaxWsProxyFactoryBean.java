@@ -25,7 +25,9 @@ import org.apache.cxf.jaxws.JaxWsProxyFactoryBean;
 import org.apache.cxf.service.model.BindingOperationInfo;
 import org.jboss.logging.Logger;
 
+import io.quarkiverse.cxf.vertx.http.client.VertxHttpClientHTTPConduit;
 import io.quarkus.runtime.BlockingOperationControl;
+import io.quarkus.virtual.threads.VirtualThreadsRecorder;
 import io.vertx.core.Vertx;
 
 public class QuarkusJaxWsProxyFactoryBean extends JaxWsProxyFactoryBean {
@@ -35,15 +37,18 @@ public class QuarkusJaxWsProxyFactoryBean extends JaxWsProxyFactoryBean {
     private final Class<?>[] additionalImplementingClasses;
     private final Vertx vertx;
     private final long workerDispatchTimeout;
+    private final ClientDispatch asyncDispatch;
 
     public QuarkusJaxWsProxyFactoryBean(
             ClientFactoryBean fact,
             Vertx vertx,
             long workerDispatchTimeout,
+            ClientDispatch asyncDispatch,
             Class<?>... additionalImplementingClasses) {
         super(fact);
         this.vertx = vertx;
         this.workerDispatchTimeout = workerDispatchTimeout;
+        this.asyncDispatch = asyncDispatch;
         this.additionalImplementingClasses = additionalImplementingClasses;
     }
 
@@ -58,7 +63,8 @@ public class QuarkusJaxWsProxyFactoryBean extends JaxWsProxyFactoryBean {
 
     @Override
     protected ClientProxy clientClientProxy(Client c) {
-        return new QuarkusJaxWsClientProxy(vertx, (JaxWsClientProxy) super.clientClientProxy(c), workerDispatchTimeout);
+        return new QuarkusJaxWsClientProxy(vertx, (JaxWsClientProxy) super.clientClientProxy(c), workerDispatchTimeout,
+                asyncDispatch);
     }
 
     public static class QuarkusJaxWsClientProxy extends ClientProxy implements BindingProvider {
@@ -66,18 +72,21 @@ public class QuarkusJaxWsProxyFactoryBean extends JaxWsProxyFactoryBean {
         private final JaxWsClientProxy delegate;
         private final Vertx vertx;
         private final long workerDispatchTimeout;
+        private final ClientDispatch asyncDispatch;
 
-        public QuarkusJaxWsClientProxy(Vertx vertx, JaxWsClientProxy delegate, long workerDispatchTimeout) {
+        public QuarkusJaxWsClientProxy(Vertx vertx, JaxWsClientProxy delegate, long workerDispatchTimeout,
+                ClientDispatch asyncDispatch) {
             super(delegate.getClient());
             this.vertx = vertx;
             this.delegate = delegate;
             this.workerDispatchTimeout = workerDispatchTimeout;
+            this.asyncDispatch = asyncDispatch;
         }
 
         @Override
         public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
             final boolean isAsync = isAsync(method);
-            if (isAsync && !BlockingOperationControl.isBlockingAllowed()) {
+            if (isAsync && !BlockingOperationControl.isBlockingAllowed() && !isNonBlocking()) {
                 /* We are returning a Future and we are on Vert.x event loop thread */
 
                 final CompletableFuture<Response<Object>> result = new CompletableFuture<>();
@@ -117,8 +126,20 @@ public class QuarkusJaxWsProxyFactoryBean extends JaxWsProxyFactoryBean {
 
                 /*
                  * Because even the async mode of VertxHttpClientConduit may block,
-                 * we better dispatch the invocation to a worker thread
+                 * we better dispatch the invocation to a worker or virtual thread
                  */
+                if (asyncDispatch == ClientDispatch.VIRTUAL_THREAD) {
+                    /* Virtual threads are not pooled, so there is no point in applying workerDispatchTimeout */
+                    VirtualThreadsRecorder.getCurrent().execute(() -> {
+                        try {
+                            delegate.invoke(proxy, method, newArgs);
+                        } catch (Throwable e) {
+                            newAsyncHandler.handleResponse(new QuarkusJaxWsFailedResponse<>(e));
+                        }
+                    });
+                    return new QuarkusJaxWsResponse<Object>(result);
+                }
+
                 final AtomicBoolean completed;
                 final long timerId;
                 if (workerDispatchTimeout > 0) {
@@ -172,6 +193,15 @@ public class QuarkusJaxWsProxyFactoryBean extends JaxWsProxyFactoryBean {
 
         }
 
+        /**
+         * @return {@code true} if asynchronous methods of this client can be executed directly on the Vert.x event loop
+         *         thread
+         */
+        boolean isNonBlocking() {
+            return asyncDispatch == ClientDispatch.EVENT_LOOP
+                    && delegate.getClient().getConduit() instanceof VertxHttpClientHTTPConduit;
+        }
+
         boolean isAsync(Method m) {
             return m.getName().endsWith("Async")
                     && (Future.class.equals(m.getReturnType())
@@ -0,0 +1,177 @@
+package io.quarkiverse.cxf;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.xml.bind.JAXBException;
+
+import org.apache.cxf.common.jaxb.JAXBContextCache;
+import org.apache.cxf.common.jaxb.JAXBContextCache.CachedContextAndSchemas;
+import org.jboss.logging.Logger;
+
+/**
+ * The part of the CXF service model of a service endpoint interface (SEI) that is expensive to compute at runtime and
+ * that can be captured at build time: the set of classes bound by the JAXB context and the default namespace the
+ * JAXB context is created with.
+ * <p>
+ * {@link #prime(List)} creates the JAXB contexts out of the snapshots and puts them to CXF's
+ * {@link JAXBContextCache}, so that {@code JAXBDataBinding} finds them there when a service or client is created
+ * later, instead of walking the service model and creating a new JAXB context.
+ *
+ * @since 3.38.0
+ */
+public class ServiceModelSnapshot {
+    private static final Logger log = Logger.getLogger(ServiceModelSnapshot.class);
+
+    /*
+     * JAXBContextCache keeps the contexts through weak references only, so we need to keep them alive until they are
+     * used. Cleared on application shutdown via clear() so that the application class loader does not leak across dev
+     * mode restarts
+     */
+    private static final Map<String, CachedContextAndSchemas> primed = new ConcurrentHashMap<>();
+
+    private final String sei;
+    private final List<String> contextClasses;
+    private final String defaultNamespace;
+
+    /**
+     * @param sei the fully qualified name of the service endpoint interface
+     * @param contextClasses the names of the classes bound by the JAXB context as returned by {@link Class#getName()}
+     * @param defaultNamespace the default namespace passed to {@link JAXBContextCache} or {@code null}
+     */
+    public ServiceModelSnapshot(String sei, List<String> contextClasses, String defaultNamespace) {
+        this.sei = sei;
+        this.contextClasses = contextClasses;
+        this.defaultNamespace = defaultNamespace;
+    }
+
+    public String getSei() {
+        return sei;
+    }
+
+    public List<String> getContextClasses() {
+        return contextClasses;
+    }
+
+    public String getDefaultNamespace() {
+        return defaultNamespace;
+    }
+
+    /**
+     * Create the JAXB contexts described by the given {@code snapshots} using up to as many threads as there are
+     * available processors and store them in CXF's {@link JAXBContextCache}. The worker threads get the context class
+     * loader of the calling thread. Returns after all contexts are created. Failures are logged and otherwise
+     * ignored, because CXF creates the contexts on first use anyway.
+     *
+     * @param snapshots the snapshots recorded at build time
+     */
+    public static void prime(List<ServiceModelSnapshot> snapshots) {
+        final int size = snapshots.size();
+        if (size == 0) {
+            return;
+        }
+        final ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        final int threadCount = Math.min(size, Runtime.getRuntime().availableProcessors());
+        final long start = System.nanoTime();
+        if (threadCount <= 1) {
+            for (ServiceModelSnapshot snapshot : snapshots) {
+                snapshot.prime(cl);
+            }
+        } else {
+            final AtomicInteger threadIndex = new AtomicInteger();
+            final ExecutorService executor = Executors.newFixedThreadPool(threadCount, r -> {
+                final Thread t = new Thread(r, "quarkus-cxf-jaxb-init-" + threadIndex.incrementAndGet());
+                t.setContextClassLoader(cl);
+                t.setDaemon(true);
+                return t;
+            });
+            try {
+                final List<Future<?>> futures = new ArrayList<>(size);
+                for (ServiceModelSnapshot snapshot : snapshots) {
+                    futures.add(executor.submit(() -> snapshot.prime(cl)));
+                }
+                for (int i = 0; i < size; i++) {
+                    try {
+                        futures.get(i).get();
+                    } catch (ExecutionException e) {
+                        /* Should not happen because prime(ClassLoader) catches everything but Errors */
+                        log.warnf(e.getCause(), "Could not create JAXB context for %s ahead of time",
+                                snapshots.get(i).sei);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        log.warn("Interrupted while creating JAXB contexts ahead of time");
+                        return;
+                    }
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        log.debugf("Created JAXB contexts for %d service endpoint interfaces in %d ms using %d %s", size,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), threadCount,
+                threadCount == 1 ? "thread" : "threads");
+    }
+
+    void prime(ClassLoader cl) {
+        try {
+            final Set<Class<?>> classes = new LinkedHashSet<>(contextClasses.size());
+            for (String className : contextClasses) {
+                classes.add(loadClass(className, cl));
+            }
+            /* The same call as in JAXBDataBinding.createJAXBContextAndSchemas() */
+            primed.put(sei, JAXBContextCache.getCachedContextAndSchemas(classes, defaultNamespace, null, null, true));
+        } catch (ClassNotFoundException | JAXBException | RuntimeException e) {
+            log.warnf(e, "Could not create JAXB context for %s ahead of time; it will be created on first use", sei);
+        }
+    }
+
+    /**
+     * @param sei the fully qualified name of the service endpoint interface
+     * @return the JAXB context primed for the given {@code sei} or {@code null}
+     */
+    public static CachedContextAndSchemas primed(String sei) {
+        return primed.get(sei);
+    }
+
+    /**
+     * Release all JAXB contexts kept alive by {@link #prime(List)}.
+     */
+    public static void clear() {
+        primed.clear();
+    }
+
+    static Class<?> loadClass(String className, ClassLoader cl) throws ClassNotFoundException {
+        switch (className) {
+            case "boolean":
+                return boolean.class;
+            case "byte":
+                return byte.class;
+            case "char":
+                return char.class;
+            case "short":
+                return short.class;
+            case "int":
+                return int.class;
+            case "long":
+                return long.class;
+            case "float":
+                return float.class;
+            case "double":
+                return double.class;
+            case "void":
+                return void.class;
+            default:
+                return Class.forName(className, false, cl);
+        }
+    }
+}
@@ -10,11 +10,14 @@ import jakarta.xml.ws.AsyncHandler;
 
 import org.jboss.logging.Logger;
 
+import io.quarkiverse.cxf.ClientDispatch;
 import io.quarkiverse.cxf.CxfConfig;
+import io.quarkiverse.cxf.CxfConfig.CxfGlobalClientConfig;
 import io.quarkiverse.cxf.StacklessRejectedExecutionException;
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.runtime.BlockingOperationControl;
+import io.quarkus.virtual.threads.VirtualThreadsRecorder;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.operators.AbstractUni;
@@ -80,11 +83,28 @@ public class CxfMutinyUtils {
                     /*
                      * We are on Vert.x event loop.
                      * Because subscriptionConsumer.accept() can perform blocking operations,
-                     * we dispatch the task to a worker thread.
+                     * we dispatch the task to a worker or virtual thread.
                      */
                     final ArcContainer container = Arc.container();
-                    final long workerDispatchTimeout = container.instance(CxfConfig.class).get().client()
-                            .workerDispatchTimeout();
+                    final CxfGlobalClientConfig clientConfig = container.instance(CxfConfig.class).get().client();
+                    if (clientConfig.asyncDispatch() == ClientDispatch.EVENT_LOOP) {
+                        /*
+                         * subscriptionConsumer.accept() is supposed to only call an asynchronous client method
+                         * which does not block in this mode
+                         */
+                        subscribeIntenal(downstream, terminated, null);
+                        return;
+                    }
+                    if (clientConfig.asyncDispatch() == ClientDispatch.VIRTUAL_THREAD) {
+                        /* Virtual threads are not pooled, so there is no point in applying workerDispatchTimeout */
+                        VirtualThreadsRecorder.getCurrent().execute(() -> {
+                            if (!terminated.get()) {
+                                subscribeIntenal(downstream, terminated, null);
+                            }
+                        });
+                        return;
+                    }
+                    final long workerDispatchTimeout = clientConfig.workerDispatchTimeout();
                     final Vertx vertx = container.instance(Vertx.class).get();
 
                     final CancelTimer cancelTimer;
@@ -1,6 +1,12 @@
 package io.quarkiverse.cxf.transport;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import javax.xml.namespace.QName;
 
@@ -30,19 +36,26 @@ import io.quarkiverse.cxf.CXFServletInfo;
 import io.quarkiverse.cxf.CXFServletInfos;
 import io.quarkiverse.cxf.CxfConfig;
 import io.quarkiverse.cxf.CxfFixedConfig;
+import io.quarkiverse.cxf.EndpointDispatch;
 import io.quarkiverse.cxf.QuarkusJaxWsServerFactoryBean;
 import io.quarkiverse.cxf.QuarkusRuntimeJaxWsServiceFactoryBean;
 import io.quarkiverse.cxf.auth.AuthFaultOutInterceptor;
 import io.quarkiverse.cxf.logging.LoggingFactoryCustomizer;
+import io.quarkiverse.cxf.transport.VertxDestinationFactory.DeferredVertxDestinationFactory;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.runtime.BeanContainer;
+import io.quarkus.runtime.configuration.MemorySize;
 import io.quarkus.security.identity.CurrentIdentityAssociation;
 import io.quarkus.security.identity.IdentityProviderManager;
 import io.quarkus.security.identity.SecurityIdentity;
 import io.quarkus.vertx.http.runtime.CurrentVertxRequest;
 import io.quarkus.vertx.http.runtime.VertxHttpConfig;
 import io.quarkus.vertx.http.runtime.security.QuarkusHttpUser;
+import io.quarkus.virtual.threads.VirtualThreadsRecorder;
 import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
 import io.vertx.ext.web.RoutingContext;
 
 public class CxfHandler implements Handler<RoutingContext> {
@@ -59,6 +72,12 @@ public class CxfHandler implements Handler<RoutingContext> {
     private final VertxHttpConfig httpConfiguration;
     private final int outputBufferSize;
     private final int minChunkSize;
+    private final long inputReadTimeout;
+    private final int inputReadAheadSize;
+    /** Relative endpoint paths to the endpoints not dispatched to worker threads */
+    private final Map<String, CXFServletInfo> nonBlockingEndpoints;
+    /** {@code quarkus.http.limits.max-body-size} in bytes or {@code -1} if not set */
+    private final long maxBodySize;
 
     private static final String X_FORWARDED_PROTO_HEADER = "X-Forwarded-Proto";
     private static final String X_FORWARDED_FOR_HEADER = "X-Forwarded-For";
@@ -81,6 +100,9 @@ public class CxfHandler implements Handler<RoutingContext> {
         this.loader = this.bus.getExtension(ClassLoader.class);
         this.outputBufferSize = fixedConfig.outputBufferSize();
         this.minChunkSize = fixedConfig.minChunkSize();
+        this.inputReadTimeout = fixedConfig.inputReadTimeout();
+        this.inputReadAheadSize = fixedConfig.inputReadAheadSize();
+        this.maxBodySize = httpConfiguration.limits().maxBodySize().map(MemorySize::asLongValue).orElse(-1L);
 
         LOGGER.trace("load destination");
         DestinationFactoryManager dfm = this.bus.getExtension(DestinationFactoryManager.class);
@@ -100,8 +122,15 @@ public class CxfHandler implements Handler<RoutingContext> {
         final LoggingFactoryCustomizer loggingFactoryCustomizer = new LoggingFactoryCustomizer(
                 CDI.current().select(CxfConfig.class).get());
         final Instance<EndpointFactoryCustomizer> customizers = CDI.current().select(EndpointFactoryCustomizer.class);
+        final Map<String, CXFServletInfo> nonBlockingEndpoints = new HashMap<>();
 
-        // suboptimal because done it in loop but not a real issue...
+        /*
+         * Prepare the factory beans, then create the servers and finally register and start them in the order of
+         * their definition. The servers are created sequentially, because JaxWsServerFactoryBean.create() mutates
+         * the shared Bus; its most expensive part, the creation of the JAXB contexts, was done in parallel by
+         * ServiceModelSnapshot.prime() before
+         */
+        final List<PendingEndpoint> pendingEndpoints = new ArrayList<>(cxfServletInfos.getInfos().size());
         for (CXFServletInfo servletInfo : cxfServletInfos.getInfos()) {
             final String endpointString = "endpoint " + servletInfo.getPath();
             final Object instanceService = servletInfo.lookupBean();
@@ -113,8 +142,10 @@ public class CxfHandler implements Handler<RoutingContext> {
                         endpointString);
                 jaxWsServerFactoryBean.setServiceClass(instanceType);
 
-                jaxWsServerFactoryBean.setDestinationFactory(destinationFactory);
+                final DeferredVertxDestinationFactory endpointDestinationFactory = destinationFactory.deferred();
+                jaxWsServerFactoryBean.setDestinationFactory(endpointDestinationFactory);
                 jaxWsServerFactoryBean.setBus(bus);
+                jaxWsServerFactoryBean.setStart(false);
                 jaxWsServerFactoryBean.setProperties(new LinkedHashMap<>());
                 final String endpointType = servletInfo.getClassName();
                 if (servletInfo.isProvider()) {
@@ -152,23 +183,240 @@ public class CxfHandler implements Handler<RoutingContext> {
                 loggingFactoryCustomizer.customize(servletInfo, jaxWsServerFactoryBean);
                 customizers.forEach(customizer -> customizer.customize(servletInfo, jaxWsServerFactoryBean));
 
-                Server service = jaxWsServerFactoryBean.create();
+                pendingEndpoints.add(new PendingEndpoint(servletInfo, jaxWsServerFactoryBean, endpointDestinationFactory));
+            } else {
+                throw new IllegalStateException("Cannot initialize " + servletInfo.toString());
+            }
+        }
+
+        final List<Server> servers = createServers(pendingEndpoints);
+        try {
+            for (int i = 0; i < pendingEndpoints.size(); i++) {
+                final PendingEndpoint pendingEndpoint = pendingEndpoints.get(i);
+                final CXFServletInfo servletInfo = pendingEndpoint.servletInfo;
+                final Server service = servers.get(i);
+                pendingEndpoint.destinationFactory.register();
                 {
                     final SchemaValidationType value = servletInfo.getSchemaValidationEnabledFor();
                     if (value != null) {
                         service.getEndpoint().getEndpointInfo().setProperty(Message.SCHEMA_VALIDATION_TYPE, value);
                     }
                 }
+                service.start();
+
+                final EndpointDispatch dispatch = servletInfo.getDispatch();
+                if (dispatch != null && dispatch != EndpointDispatch.WORKER) {
+                    nonBlockingEndpoints.put(servletInfo.getRelativePath(), servletInfo);
+                }
 
                 LOGGER.info(servletInfo.toString() + " available.");
-            } else {
-                throw new IllegalStateException("Cannot initialize " + servletInfo.toString());
             }
+        } catch (RuntimeException | Error e) {
+            destroy(servers, e);
+            throw e;
         }
+        this.nonBlockingEndpoints = nonBlockingEndpoints.isEmpty() ? Collections.emptyMap() : nonBlockingEndpoints;
     }
 
+    /**
+     * Create the {@link Server}s for the given {@link PendingEndpoint}s one after another and log the time taken by
+     * each of them. The {@link Server}s are neither started nor registered in the {@link DestinationRegistry}. If
+     * creating any of the {@link Server}s fails, the ones created before are destroyed.
+     *
+     * @param pendingEndpoints the endpoints to create
+     * @return a {@link List} of {@link Server}s in the same order as the given {@code pendingEndpoints}
+     */
+    static List<Server> createServers(List<PendingEndpoint> pendingEndpoints) {
+        final int size = pendingEndpoints.size();
+        final long start = System.nanoTime();
+        final long[] durations = new long[size];
+        final List<Server> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final PendingEndpoint pendingEndpoint = pendingEndpoints.get(i);
+            final long endpointStart = System.nanoTime();
+            try {
+                result.add(pendingEndpoint.factoryBean.create());
+            } catch (RuntimeException | Error e) {
+                destroy(result, e);
+                throw e;
+            }
+            durations[i] = System.nanoTime() - endpointStart;
+        }
+        if (size > 0) {
+            final StringBuilder report = new StringBuilder("Created ")
+                    .append(size)
+                    .append(size == 1 ? " endpoint" : " endpoints")
+                    .append(" in ")
+                    .append(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+                    .append(" ms:");
+            for (int i = 0; i < size; i++) {
+                report.append("\n    ")
+                        .append(pendingEndpoints.get(i).servletInfo.getPath())
+                        .append(": ")
+                        .append(TimeUnit.NANOSECONDS.toMillis(durations[i]))
+                        .append(" ms");
+            }
+            LOGGER.info(report.toString());
+        }
+        return result;
+    }
+
+    /**
+     * Destroy the given {@link Server}s after a failure, adding any secondary failures as suppressed exceptions to
+     * the given {@code cause}.
+     *
+     * @param servers the {@link Server}s to destroy
+     * @param cause the failure because of which the {@link Server}s are destroyed
+     */
+    static void destroy(List<Server> servers, Throwable cause) {
+        for (Server server : servers) {
+            try {
+                server.destroy();
+            } catch (RuntimeException e) {
+                cause.addSuppressed(e);
+            }
+        }
+    }
+
+    /**
+     * Process the given request on the current worker thread. Registered as a blocking route.
+     *
+     * @param event the request to process
+     */
     @Override
     public void handle(RoutingContext event) {
+        handle(event, newInputStream(event), -1L);
+    }
+
+    /**
+     * @return {@code true} if any endpoint is dispatched to the event loop or to virtual threads
+     */
+    public boolean hasNonBlockingEndpoints() {
+        return !nonBlockingEndpoints.isEmpty();
+    }
+
+    /**
+     * @return a {@link Handler} to register as a non-blocking route in front of this one; it processes the requests to
+     *         the endpoints dispatched to the event loop or to virtual threads and passes all other requests to the
+     *         next route
+     */
+    public Handler<RoutingContext> nonBlockingDispatcher() {
+        return this::dispatchNonBlocking;
+    }
+
+    void dispatchNonBlocking(RoutingContext event) {
+        final CXFServletInfo servletInfo = getNonBlockingEndpoint(event);
+        if (servletInfo == null) {
+            event.next();
+            return;
+        }
+        final EndpointDispatch dispatch = servletInfo.getDispatch();
+        switch (dispatch) {
+            case EVENT_LOOP: {
+                final long maxResponseSize = servletInfo.getEventLoopMaxResponseSize();
+                if (event.body().available()) {
+                    /* Some other handler has read the body already */
+                    handle(event, VertxServletInputStream.of(event.body().buffer()), maxResponseSize);
+                } else {
+                    readBody(event, maxBodySize,
+                            body -> handle(event, VertxServletInputStream.of(body), maxResponseSize));
+                }
+                break;
+            }
+            case VIRTUAL_THREAD: {
+                final VertxServletInputStream in = newInputStream(event);
+                /* The executor propagates the current Vert.x context to the virtual thread */
+                VirtualThreadsRecorder.getCurrent().execute(() -> {
+                    try {
+                        handle(event, in, -1L);
+                    } catch (Throwable e) {
+                        event.fail(e);
+                    }
+                });
+                break;
+            }
+            default:
+                throw new IllegalStateException("Unexpected " + EndpointDispatch.class.getName() + ": " + dispatch);
+        }
+    }
+
+    /**
+     * Read the whole request body into memory and pass it to the given {@code bodyHandler}. If the body is larger
+     * than {@code maxBodySize}, the request is answered with {@code 413 Request Entity Too Large} and the
+     * {@code bodyHandler} is not called.
+     *
+     * @param event the current request
+     * @param maxBodySize the maximum body size in bytes; {@code -1} for no limit
+     * @param bodyHandler the handler to pass the body to
+     */
+    static void readBody(RoutingContext event, long maxBodySize, Handler<Buffer> bodyHandler) {
+        final HttpServerRequest request = event.request();
+        if (maxBodySize >= 0) {
+            final String contentLength = request.getHeader(HttpHeaders.CONTENT_LENGTH);
+            if (contentLength != null) {
+                try {
+                    if (Long.parseLong(contentLength) > maxBodySize) {
+                        event.fail(413);
+                        return;
+                    }
+                } catch (NumberFormatException e) {
+                    event.fail(400);
+                    return;
+                }
+            }
+        }
+        final Buffer body = Buffer.buffer();
+        final boolean[] tooLarge = new boolean[1];
+        request.handler(chunk -> {
+            if (tooLarge[0]) {
+                return;
+            }
+            if (maxBodySize >= 0 && (long) body.length() + chunk.length() > maxBodySize) {
+                tooLarge[0] = true;
+                event.fail(413);
+                return;
+            }
+            body.appendBuffer(chunk);
+        });
+        request.exceptionHandler(e -> {
+            if (!tooLarge[0]) {
+                event.fail(e);
+            }
+        });
+        request.endHandler(v -> {
+            if (!tooLarge[0]) {
+                bodyHandler.handle(body);
+            }
+        });
+        request.resume();
+    }
+
+    VertxServletInputStream newInputStream(RoutingContext event) {
+        if (event.body().available()) {
+            /* Some other handler has read the body already */
+            return VertxServletInputStream.of(event.body().buffer());
+        }
+        return new VertxServletInputStream(event, inputReadTimeout, inputReadAheadSize);
+    }
+
+    CXFServletInfo getNonBlockingEndpoint(RoutingContext event) {
+        if (nonBlockingEndpoints.isEmpty()) {
+            return null;
+        }
+        final String pathInfo = VertxHttpServletRequest.pathInfo(event.request().path(), contextPath, servletPath);
+        return nonBlockingEndpoints.get(pathInfo);
+    }
+
+    /**
+     * Process the given request on the current thread.
+     *
+     * @param event the request to process
+     * @param in the stream to read the request body from
+     * @param maxAggregatedResponseSize if {@code >= 0}, the response body is collected in memory up to this many
+     *        bytes and sent at once, so that no write has to wait for the network; {@code -1} for streaming the
+     *        response body using blocking writes
+     */
+    void handle(RoutingContext event, VertxServletInputStream in, long maxAggregatedResponseSize) {
         ClassLoaderUtils.ClassLoaderHolder origLoader = null;
         Bus origBus = null;
         try {
@@ -180,7 +428,7 @@ public class CxfHandler implements Handler<RoutingContext> {
                 origBus = BusFactory.getAndSetThreadDefaultBus(this.bus);
             }
 
-            process(event);
+            process(event, in, maxAggregatedResponseSize);
         } finally {
             if (origBus != this.bus) {
                 BusFactory.setThreadDefaultBus(origBus);
@@ -193,7 +441,7 @@ public class CxfHandler implements Handler<RoutingContext> {
         }
     }
 
-    private void process(RoutingContext event) {
+    private void process(RoutingContext event, VertxServletInputStream in, long maxAggregatedResponseSize) {
         ManagedContext requestContext = this.beanContainer.requestContext();
         requestContext.activate();
         if (association != null) {
@@ -207,8 +455,9 @@ public class CxfHandler implements Handler<RoutingContext> {
         }
         currentVertxRequest.setCurrent(event);
         try {
-            HttpServletRequest req = new VertxHttpServletRequest(event, contextPath, servletPath);
-            VertxHttpServletResponse resp = new VertxHttpServletResponse(event, outputBufferSize, minChunkSize);
+            HttpServletRequest req = new VertxHttpServletRequest(event, contextPath, servletPath, in);
+            VertxHttpServletResponse resp = new VertxHttpServletResponse(event, outputBufferSize, minChunkSize,
+                    maxAggregatedResponseSize);
             controller.invoke(req, resp);
             resp.end();
         } catch (ServletException se) {
@@ -224,6 +473,23 @@ public class CxfHandler implements Handler<RoutingContext> {
         }
     }
 
+    /**
+     * An endpoint whose {@link JaxWsServerFactoryBean} is fully configured, but whose {@link Server} was not created
+     * yet.
+     */
+    static final class PendingEndpoint {
+        final CXFServletInfo servletInfo;
+        final JaxWsServerFactoryBean factoryBean;
+        final DeferredVertxDestinationFactory destinationFactory;
+
+        PendingEndpoint(CXFServletInfo servletInfo, JaxWsServerFactoryBean factoryBean,
+                DeferredVertxDestinationFactory destinationFactory) {
+            this.servletInfo = servletInfo;
+            this.factoryBean = factoryBean;
+            this.destinationFactory = destinationFactory;
+        }
+    }
+
     public interface EndpointFactoryCustomizer {
         void customize(CXFServletInfo cxfServletInfo, JaxWsServerFactoryBean factory);
     }
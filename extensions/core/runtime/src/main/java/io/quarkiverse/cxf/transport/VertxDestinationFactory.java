@@ -66,6 +66,15 @@ public class VertxDestinationFactory extends HTTPTransportFactory implements WSD
         }
     }
 
+    /**
+     * @return a new {@link DeferredVertxDestinationFactory} sharing the {@link DestinationRegistry} with this
+     *         {@link VertxDestinationFactory}
+     * @since 3.38.0
+     */
+    public DeferredVertxDestinationFactory deferred() {
+        return new DeferredVertxDestinationFactory();
+    }
+
     @Override
     public void createPortExtensors(Bus b, EndpointInfo ei, Service service) {
         soapTransportFactory.createPortExtensors(b, ei, service);
@@ -96,4 +105,65 @@ public class VertxDestinationFactory extends HTTPTransportFactory implements WSD
         return f;
     }
 
+    /**
+     * A {@link VertxDestinationFactory} for a single endpoint that creates the {@link VertxDestination} without adding
+     * it to the {@link DestinationRegistry}. The {@link VertxDestination} is added only when {@link #register()} is
+     * called. This allows creating all endpoints first and registering them in a deterministic order only after
+     * all of them were created successfully.
+     *
+     * @since 3.38.0
+     */
+    public static class DeferredVertxDestinationFactory extends VertxDestinationFactory {
+        private AbstractHTTPDestination destination;
+
+        DeferredVertxDestinationFactory() {
+        }
+
+        @Override
+        public Destination getDestination(EndpointInfo endpointInfo, Bus bus) throws IOException {
+            if (endpointInfo == null) {
+                throw new IllegalArgumentException("EndpointInfo cannot be null");
+            }
+            synchronized (this) {
+                if (destination == null) {
+                    LOGGER.debug(format("Creating deferred VertxDestination for address %s...", endpointInfo.getAddress()));
+                    destination = new VertxDestination(endpointInfo, bus, registry);
+                } else if (!destination.getEndpointInfo().getAddress().equals(endpointInfo.getAddress())) {
+                    throw new IllegalStateException("Cannot create destination for address " + endpointInfo.getAddress()
+                            + ": this " + DeferredVertxDestinationFactory.class.getSimpleName()
+                            + " holds a destination for address " + destination.getEndpointInfo().getAddress()
+                            + " already");
+                }
+                return destination;
+            }
+        }
+
+        /**
+         * Add the {@link Destination} created via {@link #getDestination(EndpointInfo, Bus)} to the
+         * {@link DestinationRegistry}. A {@link Destination} registered under the same path before is replaced.
+         *
+         * @throws IllegalStateException if no {@link Destination} was created yet
+         */
+        public void register() {
+            final AbstractHTTPDestination d;
+            synchronized (this) {
+                d = destination;
+            }
+            if (d == null) {
+                throw new IllegalStateException("No destination created yet");
+            }
+            synchronized (registry) {
+                final String endpointAddress = d.getEndpointInfo().getAddress();
+                final AbstractHTTPDestination existing = registry.getDestinationForPath(endpointAddress);
+                if (existing != null && existing != d) {
+                    LOGGER.debug(format("Replacing destination %s for address %s", existing, endpointAddress));
+                    registry.removeDestination(endpointAddress);
+                }
+                registry.addDestination(d);
+                d.finalizeConfig();
+                LOGGER.debug(format("Destination for address %s is %s", endpointAddress, d));
+            }
+        }
+    }
+
 }
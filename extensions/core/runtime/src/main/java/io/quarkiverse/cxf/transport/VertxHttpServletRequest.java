@@ -9,6 +9,7 @@ import java.io.UnsupportedEncodingException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.security.Principal;
+import java.security.cert.Certificate;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
@@ -19,6 +20,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.TreeSet;
 
 import javax.net.ssl.SSLPeerUnverifiedException;
 import javax.net.ssl.SSLSession;
@@ -37,7 +39,6 @@ import io.quarkiverse.cxf.transport.servlet.DateUtils;
 import io.quarkiverse.cxf.transport.servlet.LocaleUtils;
 import io.quarkus.security.identity.CurrentIdentityAssociation;
 import io.quarkus.security.identity.SecurityIdentity;
-import io.quarkus.vertx.http.runtime.VertxInputStream;
 import io.quarkus.vertx.http.runtime.security.QuarkusHttpUser;
 import io.vertx.core.MultiMap;
 import io.vertx.core.http.HttpServerRequest;
@@ -48,34 +49,50 @@ public class VertxHttpServletRequest implements HttpServletRequest {
     private static final String[] EMPTY_STRING_ARRAY = new String[0];
     private static final String SSL_CIPHER_SUITE_ATTRIBUTE = "jakarta.servlet.request.cipher_suite";
     private static final String SSL_PEER_CERT_CHAIN_ATTRIBUTE = "jakarta.servlet.request.X509Certificate";
+    /** The key under which {@link SslAttributes} are cached on the {@link SSLSession} */
+    private static final String SSL_ATTRIBUTES_KEY = SslAttributes.class.getName();
+    /** A value marking a removed attribute so that it does not get looked up in {@link SslAttributes} anymore */
+    private static final Object REMOVED = new Object();
 
     private final RoutingContext context;
-    private final VertxInputStream in;
+    private final VertxServletInputStream in;
     private final HttpServerRequest request;
     private final String contextPath;
     private final String servletPath;
-    private final Map<String, Object> attributes;
+    /** Allocated lazily on the first {@link #setAttribute(String, Object)} or {@link #removeAttribute(String)} */
+    private Map<String, Object> attributes;
+    /** {@code null} if the connection is not secure; otherwise initialized lazily */
+    private SslAttributes sslAttributes;
+    private boolean sslAttributesResolved;
     private Cookie[] cookies;
     private String characterEncoding;
 
+    /**
+     * @param context the current {@link RoutingContext}
+     * @param contextPath the context path
+     * @param servletPath the servlet path
+     * @deprecated use {@link #VertxHttpServletRequest(RoutingContext, String, String, VertxServletInputStream)}; this
+     *             constructor reads the request body with a 10 second read timeout and a 64 KiB read-ahead buffer
+     *             regardless of {@code quarkus.cxf.input-read-timeout} and {@code quarkus.cxf.input-read-ahead-size}
+     */
+    @Deprecated
     public VertxHttpServletRequest(RoutingContext context, String contextPath, String servletPath) {
+        this(context, contextPath, servletPath, new VertxServletInputStream(context, 10000, 65536));
+    }
+
+    /**
+     * @param context the current {@link RoutingContext}
+     * @param contextPath the context path
+     * @param servletPath the servlet path
+     * @param in the stream to read the request body from
+     */
+    public VertxHttpServletRequest(RoutingContext context, String contextPath, String servletPath,
+            VertxServletInputStream in) {
         this.request = context.request();
         this.contextPath = contextPath;
         this.servletPath = servletPath;
-        this.attributes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
         this.context = context;
-        in = new VertxInputStream(context, 10000);
-
-        final SSLSession sslSession = this.request.connection().sslSession();
-        if (sslSession != null) {
-            this.attributes.put(SSL_CIPHER_SUITE_ATTRIBUTE, sslSession.getCipherSuite());
-            try {
-                this.attributes.put(SSL_PEER_CERT_CHAIN_ATTRIBUTE, sslSession.getPeerCertificates());
-            } catch (SSLPeerUnverifiedException e) {
-                // do nothing
-            }
-        }
-
+        this.in = in;
     }
 
     @Override
@@ -105,12 +122,79 @@ public class VertxHttpServletRequest implements HttpServletRequest {
 
     @Override
     public Object getAttribute(String name) {
-        return attributes.get(name);
+        if (attributes != null) {
+            final Object result = attributes.get(name);
+            if (result == REMOVED) {
+                return null;
+            }
+            if (result != null) {
+                return result;
+            }
+        }
+        if (isSslAttribute(name)) {
+            final SslAttributes ssl = sslAttributes();
+            if (ssl != null) {
+                return SSL_CIPHER_SUITE_ATTRIBUTE.equalsIgnoreCase(name) ? ssl.cipherSuite : ssl.peerCertificates();
+            }
+        }
+        return null;
     }
 
     @Override
     public Enumeration<String> getAttributeNames() {
-        return attributes.isEmpty() ? Collections.emptyEnumeration() : Collections.enumeration(attributes.keySet());
+        final SslAttributes ssl = sslAttributes();
+        if (ssl == null && (attributes == null || attributes.isEmpty())) {
+            return Collections.emptyEnumeration();
+        }
+        final Set<String> names = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        if (ssl != null) {
+            names.add(SSL_CIPHER_SUITE_ATTRIBUTE);
+            if (ssl.hasPeerCertificates()) {
+                names.add(SSL_PEER_CERT_CHAIN_ATTRIBUTE);
+            }
+        }
+        if (attributes != null) {
+            for (Map.Entry<String, Object> en : attributes.entrySet()) {
+                if (en.getValue() == REMOVED) {
+                    names.remove(en.getKey());
+                } else {
+                    names.add(en.getKey());
+                }
+            }
+        }
+        return Collections.enumeration(names);
+    }
+
+    /**
+     * @return the {@link SslAttributes} of the underlying connection or {@code null} if the connection is not secure
+     */
+    SslAttributes sslAttributes() {
+        if (!sslAttributesResolved) {
+            sslAttributesResolved = true;
+            final SSLSession sslSession = request.isSSL() ? request.connection().sslSession() : null;
+            if (sslSession != null) {
+                /* Cache on the session so that the subsequent requests of the same session can reuse the values */
+                SslAttributes ssl = (SslAttributes) sslSession.getValue(SSL_ATTRIBUTES_KEY);
+                if (ssl == null) {
+                    ssl = new SslAttributes(sslSession);
+                    sslSession.putValue(SSL_ATTRIBUTES_KEY, ssl);
+                }
+                sslAttributes = ssl;
+            }
+        }
+        return sslAttributes;
+    }
+
+    private Map<String, Object> attributes() {
+        Map<String, Object> result = attributes;
+        if (result == null) {
+            attributes = result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        }
+        return result;
+    }
+
+    static boolean isSslAttribute(String name) {
+        return SSL_CIPHER_SUITE_ATTRIBUTE.equalsIgnoreCase(name) || SSL_PEER_CERT_CHAIN_ATTRIBUTE.equalsIgnoreCase(name);
     }
 
     @Override
@@ -133,39 +217,7 @@ public class VertxHttpServletRequest implements HttpServletRequest {
 
     @Override
     public ServletInputStream getInputStream() throws IOException {
-        return new ServletInputStream() {
-            @Override
-            public int read() throws IOException {
-                return in.read();
-            }
-
-            @Override
-            public int read(byte[] b, int off, int len) throws IOException {
-                return in.read(b, off, len);
-            }
-
-            @Override
-            public boolean isFinished() {
-                try {
-                    return (in.available() == -1);
-                } catch (IOException e) {
-                    // when closed it is finished
-                    return true;
-                }
-            }
-
-            @Override
-            public boolean isReady() {
-                // not closed or not finished
-                return !isFinished();
-            }
-
-            @Override
-            public void setReadListener(ReadListener readListener) {
-                throw new UnsupportedOperationException(getClass().getName() + ".setReadListener(ReadListener)");
-            }
-        };
-
+        return in;
     }
 
     @Override
@@ -326,12 +378,21 @@ public class VertxHttpServletRequest implements HttpServletRequest {
 
     @Override
     public void removeAttribute(String name) {
-        attributes.remove(name);
+        if (isSslAttribute(name) && sslAttributes() != null) {
+            /* Shadow the value cached on the connection */
+            attributes().put(name, REMOVED);
+        } else if (attributes != null) {
+            attributes.remove(name);
+        }
     }
 
     @Override
     public void setAttribute(String name, Object o) {
-        attributes.put(name, o);
+        if (o == null) {
+            removeAttribute(name);
+        } else {
+            attributes().put(name, o);
+        }
     }
 
     private String getCharacterEncodingFromHeader() {
@@ -549,7 +610,10 @@ public class VertxHttpServletRequest implements HttpServletRequest {
 
     @Override
     public String getPathInfo() {
-        String path = request.path();
+        return pathInfo(request.path(), contextPath, servletPath);
+    }
+
+    static String pathInfo(String path, String contextPath, String servletPath) {
         if (contextPath != null && !contextPath.equals("/") && contextPath.length() < path.length()) {
             path = path.substring(contextPath.length());
         }
@@ -699,4 +763,50 @@ public class VertxHttpServletRequest implements HttpServletRequest {
         throw new UnsupportedOperationException("Unsupported method " + getClass().getName() + ".upgrade(Class<T>)");
     }
 
+    /**
+     * The SSL related request attributes. An instance is cached on the {@link SSLSession} so that
+     * {@link SSLSession#getPeerCertificates()} is called at most once per TLS session rather than once per request.
+     * Note that a TLS session is not bound to a single connection: it can be resumed by further connections from the
+     * same client. This is fine, because the cipher suite and the peer certificate chain are properties of the
+     * session.
+     */
+    static final class SslAttributes {
+        private final SSLSession sslSession;
+        private final String cipherSuite;
+        private volatile Certificate[] peerCertificates;
+        private volatile boolean peerCertificatesResolved;
+
+        SslAttributes(SSLSession sslSession) {
+            this.sslSession = sslSession;
+            this.cipherSuite = sslSession.getCipherSuite();
+        }
+
+        /**
+         * @return a copy of the peer certificate chain or {@code null} if the peer was not verified; the cached
+         *         array is shared by all requests of the session, so it must never leak out
+         */
+        Certificate[] peerCertificates() {
+            final Certificate[] result = resolvePeerCertificates();
+            return result != null ? result.clone() : null;
+        }
+
+        /**
+         * @return {@code true} if the peer was verified; {@code false} otherwise
+         */
+        boolean hasPeerCertificates() {
+            return resolvePeerCertificates() != null;
+        }
+
+        private Certificate[] resolvePeerCertificates() {
+            if (!peerCertificatesResolved) {
+                try {
+                    peerCertificates = sslSession.getPeerCertificates();
+                } catch (SSLPeerUnverifiedException e) {
+                    // do nothing
+                }
+                peerCertificatesResolved = true;
+            }
+            return peerCertificates;
+        }
+    }
 }
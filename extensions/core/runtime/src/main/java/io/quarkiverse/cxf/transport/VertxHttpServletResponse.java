@@ -9,7 +9,6 @@ import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletResponse;
 
-import io.quarkus.vertx.utils.VertxJavaIoContext;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
 
@@ -18,15 +17,36 @@ public class VertxHttpServletResponse implements HttpServletResponse {
     protected final HttpServerResponse response;
     private final int outputBufferSize;
     private final int minChunkSize;
+    private final long maxAggregatedSize;
     private VertxServletOutputStream os;
     private PrintWriter printWriter;
 
     public VertxHttpServletResponse(RoutingContext context, int outputBufferSize, int minChunkSize) {
+        this(context, outputBufferSize, minChunkSize, -1L);
+    }
+
+    /**
+     * @param context the current request
+     * @param outputBufferSize the size of the output buffer in bytes
+     * @param minChunkSize the size in bytes of the chunks of memory allocated when writing data
+     * @param maxAggregatedSize if {@code >= 0}, the response body is collected in memory up to this many bytes and sent
+     *        at once when the response ends; {@code -1} for streaming the response body using blocking writes
+     * @since 3.38.0
+     */
+    public VertxHttpServletResponse(RoutingContext context, int outputBufferSize, int minChunkSize,
+            long maxAggregatedSize) {
         this.response = context.response();
         this.context = context;
         this.outputBufferSize = outputBufferSize;
         this.minChunkSize = minChunkSize;
-        this.os = new VertxServletOutputStream(new VertxJavaIoContext(context, minChunkSize, outputBufferSize));
+        this.maxAggregatedSize = maxAggregatedSize;
+        this.os = newOutputStream();
+    }
+
+    private VertxServletOutputStream newOutputStream() {
+        return maxAggregatedSize >= 0
+                ? new VertxServletOutputStream(context, maxAggregatedSize)
+                : new VertxServletOutputStream(context, minChunkSize, outputBufferSize);
     }
 
     @Override
@@ -174,6 +194,10 @@ public class VertxHttpServletResponse implements HttpServletResponse {
 
     @Override
     public void flushBuffer() throws IOException {
+        if (os.isNonBlocking()) {
+            /* The WriteListener owns the stream and closes it once it has written all data */
+            return;
+        }
         if (printWriter != null) {
             printWriter.close();
         } else {
@@ -183,13 +207,14 @@ public class VertxHttpServletResponse implements HttpServletResponse {
 
     @Override
     public void resetBuffer() {
-        if (os != null) {
+        /* An aggregating stream has not sent anything yet, so we can simply drop it */
+        if (os != null && maxAggregatedSize < 0) {
             try {
                 os.close();
             } catch (IOException e) {
             }
         }
-        os = new VertxServletOutputStream(new VertxJavaIoContext(context, minChunkSize, outputBufferSize));
+        os = newOutputStream();
     }
 
     @Override
@@ -213,6 +238,10 @@ public class VertxHttpServletResponse implements HttpServletResponse {
     }
 
     public void end() {
+        if (os.isNonBlocking()) {
+            /* The WriteListener owns the stream and closes it once it has written all data */
+            return;
+        }
         try {
             if (printWriter != null) {
                 printWriter.close();
@@ -0,0 +1,432 @@
+package io.quarkiverse.cxf.transport;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+
+import io.quarkus.vertx.http.runtime.VertxHttpRecorder;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * A {@link ServletInputStream} reading from a Vert.x {@link HttpServerRequest}.
+ * <p>
+ * The chunks of the request body are queued as they arrive on the Vert.x event loop. Once the size of the queued data
+ * reaches the read-ahead size, the request gets paused until the consumer catches up, so that a fast uploader cannot
+ * make us hold an unbounded amount of memory.
+ * <p>
+ * By default, the reads are blocking: a read on an empty queue waits for the next chunk at most for the configured read
+ * timeout. Once a {@link ReadListener} is set via {@link #setReadListener(ReadListener)}, the stream switches to
+ * non-blocking mode: {@link #isReady()} returns {@code false} if no data is queued and
+ * {@link ReadListener#onDataAvailable()} is called on the Vert.x event loop as soon as the next chunk arrives.
+ */
+public class VertxServletInputStream extends ServletInputStream {
+    private static final Buffer EMPTY = Buffer.buffer(0);
+
+    private final HttpServerRequest request;
+    private final HttpServerResponse response;
+    private final Context context;
+    private final long readTimeout;
+    private final int readAheadSize;
+    private final long limit;
+
+    /*
+     * A ReentrantLock rather than synchronized so that a virtual thread blocked in a read does not pin its carrier
+     * thread
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition dataChanged = lock.newCondition();
+
+    /* All fields below are guarded by lock */
+    private final ArrayDeque<Buffer> queue = new ArrayDeque<>();
+    private Buffer current = EMPTY;
+    private int currentPos;
+    private int queued;
+    private long received;
+    private boolean ended;
+    private boolean paused;
+    private boolean closed;
+    private IOException failure;
+    private ReadListener readListener;
+    private boolean waitingForData;
+    private boolean allDataReadNotified;
+
+    /**
+     * Create a stream that does not read from the network at all, serving just the given body.
+     *
+     * @param body the request body read fully in advance, can be {@code null}
+     * @return a new {@link VertxServletInputStream}
+     */
+    public static VertxServletInputStream of(Buffer body) {
+        return new VertxServletInputStream(body == null ? EMPTY : body);
+    }
+
+    private VertxServletInputStream(Buffer body) {
+        this.request = null;
+        this.response = null;
+        this.context = Vertx.currentContext();
+        this.readTimeout = 0;
+        this.readAheadSize = Integer.MAX_VALUE;
+        this.limit = -1;
+        this.queue.add(body);
+        this.queued = body.length();
+        this.ended = true;
+    }
+
+    /**
+     * Start reading the body of the request associated with the given {@link RoutingContext}. Must be called before any
+     * other handler started consuming the request body.
+     *
+     * @param routingContext the current request
+     * @param readTimeout the number of milliseconds that a blocking read waits for data to arrive before it fails with
+     *        an {@link IOException}
+     * @param readAheadSize the number of bytes to queue before pausing the request
+     */
+    public VertxServletInputStream(RoutingContext routingContext, long readTimeout, int readAheadSize) {
+        this.request = routingContext.request();
+        this.response = routingContext.response();
+        final Context ctx = Vertx.currentContext();
+        this.context = ctx != null ? ctx : routingContext.vertx().getOrCreateContext();
+        this.readTimeout = readTimeout;
+        this.readAheadSize = Math.max(1, readAheadSize);
+        final Long limitObj = routingContext.get(VertxHttpRecorder.MAX_REQUEST_SIZE_KEY);
+        this.limit = limitObj == null ? -1 : limitObj.longValue();
+
+        if (request.isEnded()) {
+            ended = true;
+        } else {
+            request.handler(this::onData);
+            request.endHandler(v -> onEnd());
+            request.exceptionHandler(this::onFailure);
+            request.resume();
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        lock.lock();
+        try {
+            if (!awaitData()) {
+                return -1;
+            }
+            final int result = current.getByte(currentPos++) & 0xff;
+            consumed(1);
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len == 0) {
+            return 0;
+        }
+        lock.lock();
+        try {
+            if (!awaitData()) {
+                return -1;
+            }
+            final int n = Math.min(len, current.length() - currentPos);
+            current.getBytes(currentPos, currentPos + n, b, off);
+            currentPos += n;
+            consumed(n);
+            return n;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int available() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            /* queued includes the unread rest of current */
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        final boolean drain;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            drain = request != null && !ended;
+            closed = true;
+            queue.clear();
+            queued = 0;
+            current = EMPTY;
+            currentPos = 0;
+            dataChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (drain) {
+            /* Drain the rest of the body so that the connection can be reused */
+            request.handler(null);
+            request.resume();
+        }
+    }
+
+    @Override
+    public boolean isFinished() {
+        lock.lock();
+        try {
+            return closed || failure != null || (ended && currentPos >= current.length() && queue.isEmpty());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        lock.lock();
+        try {
+            if (readListener == null) {
+                /* Blocking mode: reads are always possible, although they may block */
+                return true;
+            }
+            final boolean ready = closed || failure != null || ended || currentPos < current.length()
+                    || !queue.isEmpty();
+            if (!ready) {
+                waitingForData = true;
+            }
+            return ready;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void setReadListener(ReadListener readListener) {
+        Objects.requireNonNull(readListener, "readListener cannot be null");
+        lock.lock();
+        try {
+            if (this.readListener != null) {
+                throw new IllegalStateException("A " + ReadListener.class.getName() + " was set already");
+            }
+            this.readListener = readListener;
+        } finally {
+            lock.unlock();
+        }
+        /* The initial notification */
+        final Handler<Void> initial = v -> {
+            if (isFinished()) {
+                notifyAllDataRead();
+            } else {
+                notifyDataAvailable();
+            }
+        };
+        if (context != null) {
+            context.runOnContext(initial);
+        } else {
+            initial.handle(null);
+        }
+    }
+
+    /* Called on the event loop */
+    void onData(Buffer buffer) {
+        final boolean notify;
+        final ReadListener failedListener;
+        final IOException tooLarge;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            received += buffer.length();
+            if (limit >= 0 && received > limit) {
+                failure = tooLarge = new IOException("Request body larger than " + limit + " bytes");
+                if (!response.headWritten()) {
+                    response.setStatusCode(413);
+                }
+                request.connection().close();
+                dataChanged.signalAll();
+                notify = false;
+                failedListener = readListener;
+            } else {
+                tooLarge = null;
+                failedListener = null;
+                queue.add(buffer);
+                queued += buffer.length();
+                if (queued >= readAheadSize && !paused) {
+                    paused = true;
+                    request.pause();
+                }
+                dataChanged.signalAll();
+                notify = readListener != null && waitingForData;
+                if (notify) {
+                    waitingForData = false;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (failedListener != null) {
+            failedListener.onError(tooLarge);
+        } else if (notify) {
+            notifyDataAvailable();
+        }
+    }
+
+    /* Called on the event loop */
+    void onEnd() {
+        final boolean allRead;
+        final boolean dataAvailable;
+        lock.lock();
+        try {
+            ended = true;
+            dataChanged.signalAll();
+            allRead = readListener != null && currentPos >= current.length() && queue.isEmpty();
+            dataAvailable = readListener != null && !allRead && waitingForData;
+            waitingForData = false;
+        } finally {
+            lock.unlock();
+        }
+        if (allRead) {
+            notifyAllDataRead();
+        } else if (dataAvailable) {
+            notifyDataAvailable();
+        }
+    }
+
+    /* Called on the event loop */
+    void onFailure(Throwable e) {
+        final ReadListener l;
+        lock.lock();
+        try {
+            failure = e instanceof IOException ? (IOException) e : new IOException(e);
+            dataChanged.signalAll();
+            l = readListener;
+        } finally {
+            lock.unlock();
+        }
+        if (l != null) {
+            l.onError(e);
+        }
+    }
+
+    /**
+     * Block until there is some data to read or until the end of the stream is reached. Must be called while holding
+     * {@link #lock}.
+     *
+     * @return {@code true} if there is some data to read; {@code false} if the end of the stream was reached
+     * @throws IOException if the stream was closed, the request failed or the read timed out
+     */
+    private boolean awaitData() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        if (currentPos < current.length()) {
+            return true;
+        }
+        if (!queue.isEmpty()) {
+            current = queue.poll();
+            currentPos = 0;
+            return true;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        if (ended) {
+            return false;
+        }
+        if (readListener != null) {
+            throw new IllegalStateException("No data available; check isReady() before reading");
+        }
+        if (Context.isOnEventLoopThread()) {
+            throw new IllegalStateException("Attempting a blocking read on the Vert.x event loop thread");
+        }
+        final long deadline = System.currentTimeMillis() + readTimeout;
+        while (queue.isEmpty() && !ended && failure == null && !closed) {
+            final long rest = deadline - System.currentTimeMillis();
+            if (rest <= 0) {
+                throw new IOException("Timed out after " + readTimeout + " ms while waiting for request body data");
+            }
+            try {
+                dataChanged.await(rest, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for request body data");
+            }
+        }
+        return awaitData();
+    }
+
+    /**
+     * Must be called while holding {@link #lock}.
+     *
+     * @param n the number of bytes consumed from {@link #current}
+     */
+    private void consumed(int n) {
+        if (currentPos >= current.length()) {
+            current = EMPTY;
+            currentPos = 0;
+        }
+        /* The bytes in current were accounted as queued when they arrived */
+        queued -= n;
+        if (paused && queued < readAheadSize) {
+            paused = false;
+            request.resume();
+        }
+        if (readListener != null && ended && !allDataReadNotified && currentPos >= current.length()
+                && queue.isEmpty()) {
+            if (context != null) {
+                context.runOnContext(v -> notifyAllDataRead());
+            }
+        }
+    }
+
+    private void notifyDataAvailable() {
+        final ReadListener l = readListener;
+        try {
+            l.onDataAvailable();
+        } catch (Throwable e) {
+            l.onError(e);
+        }
+    }
+
+    private void notifyAllDataRead() {
+        final ReadListener l;
+        lock.lock();
+        try {
+            if (allDataReadNotified) {
+                return;
+            }
+            allDataReadNotified = true;
+            l = readListener;
+        } finally {
+            lock.unlock();
+        }
+        try {
+            l.onAllDataRead();
+        } catch (Throwable e) {
+            l.onError(e);
+        }
+    }
+
+}
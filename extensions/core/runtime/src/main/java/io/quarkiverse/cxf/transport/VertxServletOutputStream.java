@@ -1,54 +1,337 @@
 package io.quarkiverse.cxf.transport;
 
 import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
 
 import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.WriteListener;
 
 import io.quarkus.vertx.utils.VertxJavaIoContext;
 import io.quarkus.vertx.utils.VertxOutputStream;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
 
+/**
+ * A {@link ServletOutputStream} writing to a Vert.x {@link HttpServerResponse}.
+ * <p>
+ * By default, the data is written through a blocking {@link VertxOutputStream} that waits for the response write queue
+ * to drain once it is full. Such waiting is not possible on the Vert.x event loop, hence a stream created via
+ * {@link #VertxServletOutputStream(RoutingContext, long)} collects the response body in memory up to a limit and sends
+ * it at once when the stream is closed.
+ * <p>
+ * Once a {@link WriteListener} is set via {@link #setWriteListener(WriteListener)}, the stream switches to non-blocking
+ * mode: the writes never block, at most {@code outputBufferSize} bytes are buffered before they are passed to the
+ * response and {@link #isReady()} returns {@code false} as long as the response write queue is full. In that state,
+ * further writes fail with an {@link IllegalStateException} until {@link WriteListener#onWritePossible()} is called
+ * from the {@link HttpServerResponse#drainHandler(io.vertx.core.Handler) drainHandler} of the response. Hence the
+ * memory held on behalf of a response is bounded no matter how slow the client is. In this mode, the application is
+ * responsible for closing the stream once all data was written.
+ */
 public class VertxServletOutputStream extends ServletOutputStream {
     private final VertxOutputStream delegate;
+    private final RoutingContext context;
+    private final int outputBufferSize;
 
-    public VertxServletOutputStream(VertxJavaIoContext context) {
+    /* Used only for aggregating the response body in memory */
+    private final long maxAggregatedSize;
+    private Buffer aggregated;
+    private IOException failure;
+
+    /*
+     * Guards the non-blocking mode state below. A ReentrantLock rather than synchronized so that a virtual thread
+     * holding it does not pin its carrier thread
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+    private WriteListener writeListener;
+    private Context listenerContext;
+    private Buffer pending;
+    /* isReady() returned false or a write filled the write queue and onWritePossible() was not called since */
+    private boolean notReady;
+    private boolean waitingForDrain;
+    private boolean written;
+    private boolean closed;
+
+    public VertxServletOutputStream(RoutingContext context, int minChunkSize, int outputBufferSize) {
+        super();
+        this.delegate = new VertxOutputStream(new VertxJavaIoContext(context, minChunkSize, outputBufferSize));
+        this.context = context;
+        this.outputBufferSize = outputBufferSize;
+        this.maxAggregatedSize = -1;
+    }
+
+    /**
+     * Create a stream that collects the response body in memory and sends it at once on {@link #close()}, so that
+     * none of the writes ever blocks.
+     *
+     * @param context the current request
+     * @param maxAggregatedSize the maximum size of the response body in bytes; writing more makes the write fail with
+     *        an {@link IOException} and the request fail with status {@code 500}
+     */
+    public VertxServletOutputStream(RoutingContext context, long maxAggregatedSize) {
         super();
-        this.delegate = new VertxOutputStream(context);
+        this.delegate = null;
+        this.context = context;
+        this.outputBufferSize = (int) Math.min(Integer.MAX_VALUE, Math.max(1, maxAggregatedSize));
+        this.maxAggregatedSize = maxAggregatedSize;
+        this.aggregated = Buffer.buffer();
     }
 
     @Override
     public void write(int b) throws IOException {
-        delegate.write(b);
+        if (isNonBlocking()) {
+            writeNonBlocking(Buffer.buffer(1).appendByte((byte) b));
+        } else if (delegate != null) {
+            written = true;
+            delegate.write(b);
+        } else {
+            aggregate(1).appendByte((byte) b);
+        }
     }
 
     @Override
     public void write(byte[] b) throws IOException {
-        delegate.write(b);
+        write(b, 0, b.length);
     }
 
     @Override
     public void write(byte[] b, int off, int len) throws IOException {
-        delegate.write(b, off, len);
+        if (isNonBlocking()) {
+            writeNonBlocking(Buffer.buffer(len).appendBytes(b, off, len));
+        } else if (delegate != null) {
+            written = true;
+            delegate.write(b, off, len);
+        } else {
+            aggregate(len).appendBytes(b, off, len);
+        }
+    }
+
+    /**
+     * @param len the number of bytes about to be appended
+     * @return the {@link Buffer} to append {@code len} bytes to
+     * @throws IOException if the stream is closed or if the {@code len} more bytes would exceed
+     *         {@link #maxAggregatedSize}
+     */
+    private Buffer aggregate(int len) throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        if ((long) aggregated.length() + len > maxAggregatedSize) {
+            aggregated = null;
+            failure = new IOException("Response body exceeds " + maxAggregatedSize
+                    + " bytes; you may want to increase quarkus.cxf.endpoint.\"/endpoint-path\".event-loop-max-response-size");
+            throw failure;
+        }
+        return aggregated;
+    }
+
+    private void writeNonBlocking(Buffer data) throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+            if (notReady) {
+                throw new IllegalStateException("isReady() returned false; wait for "
+                        + WriteListener.class.getSimpleName() + ".onWritePossible() before writing more data");
+            }
+            if (pending == null) {
+                pending = data;
+            } else {
+                pending.appendBuffer(data);
+            }
+            if (pending.length() >= outputBufferSize) {
+                writePending();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /* Must be called while holding lock */
+    private void writePending() {
+        final Buffer buf = pending;
+        if (buf == null) {
+            return;
+        }
+        pending = null;
+        final HttpServerResponse response = context.response();
+        response.write(buf);
+        if (response.writeQueueFull()) {
+            awaitDrain();
+        }
+    }
+
+    /* Must be called while holding lock */
+    private void awaitDrain() {
+        notReady = true;
+        if (waitingForDrain) {
+            return;
+        }
+        waitingForDrain = true;
+        if (!context.response().writeQueueFull()) {
+            /* The queue was drained before we set waitingForDrain, so the drainHandler might have missed it */
+            listenerContext.runOnContext(v -> onDrain());
+        }
+    }
+
+    void onDrain() {
+        lock.lock();
+        try {
+            if (!waitingForDrain || closed) {
+                return;
+            }
+            waitingForDrain = false;
+            notReady = false;
+        } finally {
+            lock.unlock();
+        }
+        notifyWritePossible();
+    }
+
+    void notifyWritePossible() {
+        final WriteListener l = writeListener;
+        try {
+            l.onWritePossible();
+        } catch (Throwable e) {
+            l.onError(e);
+        }
     }
 
     @Override
     public void flush() throws IOException {
-        delegate.flush();
+        if (isNonBlocking()) {
+            lock.lock();
+            try {
+                if (closed) {
+                    throw new IOException("Stream closed");
+                }
+                writePending();
+            } finally {
+                lock.unlock();
+            }
+        } else if (delegate != null) {
+            delegate.flush();
+        }
     }
 
     @Override
     public void close() throws IOException {
-        delegate.close();
+        if (isNonBlocking()) {
+            final Buffer buf;
+            lock.lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                buf = pending;
+                pending = null;
+            } finally {
+                lock.unlock();
+            }
+            final HttpServerResponse response = context.response();
+            if (!response.ended()) {
+                if (buf != null) {
+                    response.end(buf);
+                } else {
+                    response.end();
+                }
+            }
+            return;
+        }
+        if (delegate != null) {
+            delegate.close();
+            return;
+        }
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (failure != null) {
+            if (!context.response().headWritten()) {
+                context.fail(500, failure);
+            }
+            return;
+        }
+        final Buffer body = aggregated;
+        aggregated = null;
+        context.response().end(body);
     }
 
+    /**
+     * @return {@code true} if a {@link WriteListener} was set on this stream; {@code false} otherwise
+     */
+    public boolean isNonBlocking() {
+        lock.lock();
+        try {
+            return writeListener != null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * In non-blocking mode, return {@code true} if data can be written without violating the memory bounds of this
+     * stream. If {@code false} is returned, {@link WriteListener#onWritePossible()} gets called once writing is
+     * possible again. Without a {@link WriteListener}, writing is always possible, although it may block.
+     *
+     * @return {@code true} if data can be written; {@code false} otherwise
+     */
     @Override
     public boolean isReady() {
-        throw new UnsupportedOperationException();
+        lock.lock();
+        try {
+            if (writeListener == null) {
+                return true;
+            }
+            if (closed) {
+                return false;
+            }
+            if (!notReady && context.response().writeQueueFull()) {
+                awaitDrain();
+            }
+            return !notReady;
+        } finally {
+            lock.unlock();
+        }
     }
 
     @Override
     public void setWriteListener(WriteListener writeListener) {
-        throw new UnsupportedOperationException();
+        Objects.requireNonNull(writeListener, "writeListener cannot be null");
+        final HttpServerResponse response = context.response();
+        lock.lock();
+        try {
+            if (this.writeListener != null) {
+                throw new IllegalStateException("A " + WriteListener.class.getName() + " was set already");
+            }
+            if (written || closed || (aggregated != null && aggregated.length() > 0)) {
+                throw new IllegalStateException("Cannot set a " + WriteListener.class.getName()
+                        + " after some data was written in blocking mode");
+            }
+            if (!response.headers().contains(HttpHeaders.CONTENT_LENGTH)) {
+                response.setChunked(true);
+            }
+            final Context ctx = Vertx.currentContext();
+            this.listenerContext = ctx != null ? ctx : context.vertx().getOrCreateContext();
+            this.writeListener = writeListener;
+            this.aggregated = null;
+        } finally {
+            lock.unlock();
+        }
+        response.drainHandler(v -> onDrain());
+        response.exceptionHandler(writeListener::onError);
+
+        /* The initial onWritePossible() notification */
+        listenerContext.runOnContext(v -> notifyWritePossible());
     }
 
 }
@@ -1,22 +1,39 @@
 package io.quarkiverse.cxf.vertx.http.client;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 
 import org.jboss.logging.Logger;
 
+import io.netty.buffer.Unpooled;
+import io.netty.util.ReferenceCounted;
+import io.netty.util.internal.PlatformDependent;
 import io.quarkiverse.cxf.CxfConfig.RetransmitCacheConfig;
 import io.quarkiverse.cxf.vertx.http.client.TempStore.InitializedTempStore;
 import io.quarkiverse.cxf.vertx.http.client.TempStore.InitializedTempStore.TempPath;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.file.AsyncFile;
 import io.vertx.core.file.OpenOptions;
 import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.streams.ReadStream;
 
 /**
  * A non-blocking facility for storing request bodies in memory or on disk for the sake of retransmission.
@@ -37,6 +54,10 @@ class BodyRecorder {
             final long maxSize = retransmitCacheConfig.maxSize().isPresent()
                     ? retransmitCacheConfig.maxSize().get().asLongValue()
                     : -1;
+            /* The compressed tier inflates into a single array on spilling to disk, so it cannot go over 2G */
+            final long compressedThreshold = retransmitCacheConfig.compressedThreshold().isPresent()
+                    ? Math.min(retransmitCacheConfig.compressedThreshold().get().asLongValue(), Integer.MAX_VALUE - 8)
+                    : -1;
             result.complete(
                     new MemoryBodyWriter(
                             ctx,
@@ -44,7 +65,9 @@ class BodyRecorder {
                             maxSize,
                             retransmitCacheConfig.directory(),
                             retransmitCacheConfig.gcDelay().toMillis(),
-                            retransmitCacheConfig.gcOnShutDown()));
+                            retransmitCacheConfig.gcOnShutDown(),
+                            compressedThreshold,
+                            retransmitCacheConfig.minCompressionRatio()));
         });
         return result.future();
     }
@@ -53,7 +76,16 @@ class BodyRecorder {
      * A non-blocking writer. There are implementations for storing in memory or on disk.
      */
     interface BodyWriter {
-        public Future<BodyWriter> write(Buffer buffer);
+        /**
+         * Store the given {@code buffer}.
+         *
+         * @param buffer the data to store
+         * @param owner the {@link ReferenceCounted} backing the given {@code buffer} or {@code null}; if not
+         *        {@code null}, it must have been retained for this {@link BodyWriter} which takes care for releasing it
+         *        once the data is not needed anymore, including the case when the returned {@link Future} fails
+         * @return a {@link Future} holding this {@link BodyWriter} or a failure
+         */
+        public Future<BodyWriter> write(Buffer buffer, ReferenceCounted owner);
 
         public Future<StoredBody> close();
     }
@@ -81,6 +113,31 @@ class BodyRecorder {
         public Future<Void> discard();
     }
 
+    /**
+     * A {@link Buffer} together with the {@link ReferenceCounted} backing it, if any.
+     */
+    record Chunk(Buffer buffer, ReferenceCounted owner) {
+        void retain() {
+            if (owner != null) {
+                owner.retain();
+            }
+        }
+
+        void release() {
+            if (owner != null) {
+                owner.release();
+            }
+        }
+
+        static void releaseAll(List<Chunk> chunks) {
+            if (chunks != null) {
+                for (Chunk chunk : chunks) {
+                    chunk.release();
+                }
+            }
+        }
+    }
+
     /**
      * A {@link BodyWriter} storing in memory.
      */
@@ -92,48 +149,69 @@ class BodyRecorder {
         private final Optional<String> tempDir;
         private final long fileDelayMs;
         private final boolean gcOnShutDown;
+        private final long compressedThreshold;
+        private final double minCompressionRatio;
         private final String threadName;
 
         /* Read and written only on one specific event loop thread */
-        private List<Buffer> buffers;
+        private List<Chunk> buffers;
         private long length = 0;
 
         public MemoryBodyWriter(ContextInternal ctx, long threshold, long maxSize, Optional<String> tempDir, long fileDelayMs,
                 boolean gcOnShutDown) {
+            this(ctx, threshold, maxSize, tempDir, fileDelayMs, gcOnShutDown, -1, 0);
+        }
+
+        public MemoryBodyWriter(ContextInternal ctx, long threshold, long maxSize, Optional<String> tempDir, long fileDelayMs,
+                boolean gcOnShutDown, long compressedThreshold, double minCompressionRatio) {
             this.ctx = ctx;
             this.threshold = threshold;
             this.maxSize = maxSize;
             this.tempDir = tempDir;
             this.fileDelayMs = fileDelayMs;
             this.gcOnShutDown = gcOnShutDown;
+            this.compressedThreshold = compressedThreshold;
+            this.minCompressionRatio = minCompressionRatio;
             boolean asserting = false;
             assert asserting = true;
             this.threadName = asserting ? Thread.currentThread().getName() : null;
         }
 
         @Override
-        public Future<BodyWriter> write(Buffer buffer) {
+        public Future<BodyWriter> write(Buffer buffer, ReferenceCounted owner) {
             assert Thread.currentThread().getName().equals(threadName)
                     : "Expected " + threadName + "; found " + Thread.currentThread().getName();
 
-            List<Buffer> buffs = buffers;
+            List<Chunk> buffs = buffers;
+            final Chunk chunk = new Chunk(buffer, owner);
             length += buffer.length();
             if (length > threshold) {
+                buffers = null; // avoid damaging the list by subsequent writes
                 if (maxSize >= 0 && length > maxSize) {
+                    Chunk.releaseAll(buffs);
+                    chunk.release();
                     return Future.failedFuture(new IOException(
                             "Request body size " + length + " bytes exceeded the max-size limit " + maxSize + " bytes"));
                 }
-                buffers = null; // avoid damaging the list by subsequent writes
-                Future<BodyWriter> diskWriter = DiskBodyWriter.open(ctx, threshold, maxSize, tempDir, fileDelayMs, gcOnShutDown,
-                        buffs,
-                        threadName);
-                return diskWriter.compose(bw -> bw.write(buffer));
+                if (length <= compressedThreshold) {
+                    /* Not big enough for the file system but too big to store it uncompressed */
+                    final List<Chunk> all = buffs == null ? new ArrayList<>(1) : buffs;
+                    all.add(chunk);
+                    return new CompressedBodyWriter(this).write(all);
+                }
+                Future<BodyWriter> diskWriter = openDiskWriter(buffs);
+                return diskWriter.compose(
+                        bw -> bw.write(buffer, owner),
+                        e -> {
+                            chunk.release();
+                            return Future.failedFuture(e);
+                        });
             }
             /* Not big enough for the file system -> keep it in memory */
             if (buffs == null) {
                 buffs = buffers = new ArrayList<>();
             }
-            buffs.add(buffer);
+            buffs.add(chunk);
             return Future.succeededFuture(this);
         }
 
@@ -142,9 +220,237 @@ class BodyRecorder {
             assert Thread.currentThread().getName().equals(threadName)
                     : "Expected " + threadName + "; found " + Thread.currentThread().getName();
 
-            final List<Buffer> buffs = buffers;
+            final List<Chunk> buffs = buffers;
             buffers = null; // avoid damaging the list by subsequent writes
-            return Future.succeededFuture(new MemoryStoredBody(buffs, length, threadName));
+            return Future.succeededFuture(new MemoryStoredBody(ctx, buffs, length, threadName));
+        }
+
+        Future<BodyWriter> openDiskWriter(List<Chunk> buffs) {
+            return DiskBodyWriter.open(ctx, threshold, maxSize, tempDir, fileDelayMs, gcOnShutDown, buffs, threadName);
+        }
+    }
+
+    /**
+     * A {@link BodyWriter} storing the body deflate-compressed in memory. It passes the body to a {@link DiskBodyWriter} once
+     * the uncompressed size exceeds {@link MemoryBodyWriter#compressedThreshold} or if the body does not compress at
+     * least by {@link MemoryBodyWriter#minCompressionRatio}.
+     * <p>
+     * Compression and decompression are performed on worker threads.
+     */
+    static class CompressedBodyWriter implements BodyWriter {
+        /** The size of the {@link Buffer}s produced by {@link #inflate(byte[], int, long)} */
+        static final int INFLATED_CHUNK_SIZE = 64 * 1024;
+
+        private final MemoryBodyWriter parent;
+
+        /*
+         * Accessed sequentially from the event loop thread and from worker threads;
+         * the happens-before is provided by the Futures chaining the writes
+         */
+        private final Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        private byte[] compressed = new byte[4096];
+        private int compressedLength = 0;
+        private long length = 0;
+
+        CompressedBodyWriter(MemoryBodyWriter parent) {
+            this.parent = parent;
+        }
+
+        @Override
+        public Future<BodyWriter> write(Buffer buffer, ReferenceCounted owner) {
+            final List<Chunk> chunks = new ArrayList<>(1);
+            chunks.add(new Chunk(buffer, owner));
+            return write(chunks);
+        }
+
+        Future<BodyWriter> write(List<Chunk> chunks) {
+            assert Thread.currentThread().getName().equals(parent.threadName)
+                    : "Expected " + parent.threadName + "; found " + Thread.currentThread().getName();
+
+            long newLength = length;
+            for (Chunk chunk : chunks) {
+                newLength += chunk.buffer().length();
+            }
+            if (parent.maxSize >= 0 && newLength > parent.maxSize) {
+                Chunk.releaseAll(chunks);
+                deflater.end();
+                return Future.failedFuture(new IOException(
+                        "Request body size " + newLength + " bytes exceeded the max-size limit " + parent.maxSize
+                                + " bytes"));
+            }
+            if (newLength > parent.compressedThreshold) {
+                return spill(chunks);
+            }
+            length = newLength;
+            return parent.ctx.<Void> executeBlocking(() -> {
+                try {
+                    for (Chunk chunk : chunks) {
+                        deflate(chunk.buffer());
+                    }
+                } finally {
+                    Chunk.releaseAll(chunks);
+                }
+                return null;
+            }, false)
+                    .compose(v -> {
+                        if (length > compressedLength * parent.minCompressionRatio) {
+                            return Future.succeededFuture(this);
+                        }
+                        log.debugf("Request body of %d bytes compressed only to %d bytes, caching it on disk", length,
+                                compressedLength);
+                        return spill(new ArrayList<>());
+                    }, e -> {
+                        deflater.end();
+                        return Future.failedFuture(e);
+                    });
+        }
+
+        private void deflate(Buffer buffer) {
+            deflater.setInput(buffer.getByteBuf().nioBuffer());
+            /* SYNC_FLUSH so that all data written so far can be inflated in case we need to spill */
+            do {
+                if (compressedLength == compressed.length) {
+                    compressed = Arrays.copyOf(compressed, compressed.length << 1);
+                }
+                compressedLength += deflater.deflate(compressed, compressedLength, compressed.length - compressedLength,
+                        Deflater.SYNC_FLUSH);
+            } while (compressedLength == compressed.length);
+        }
+
+        /**
+         * Inflate what we have stored so far and pass it together with the given {@code pending} chunks to a new
+         * {@link DiskBodyWriter}.
+         */
+        private Future<BodyWriter> spill(List<Chunk> pending) {
+            final byte[] data = compressed;
+            final int dataLength = compressedLength;
+            final long uncompressedLength = length;
+            compressed = null;
+            deflater.end();
+            return parent.ctx.executeBlocking(() -> inflate(data, dataLength, uncompressedLength), false)
+                    .compose(
+                            inflated -> {
+                                inflated.addAll(pending);
+                                return parent.openDiskWriter(inflated);
+                            },
+                            e -> {
+                                Chunk.releaseAll(pending);
+                                return Future.failedFuture(e);
+                            });
+        }
+
+        @Override
+        public Future<StoredBody> close() {
+            assert Thread.currentThread().getName().equals(parent.threadName)
+                    : "Expected " + parent.threadName + "; found " + Thread.currentThread().getName();
+
+            return parent.ctx.<StoredBody> executeBlocking(() -> {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    if (compressedLength == compressed.length) {
+                        compressed = Arrays.copyOf(compressed, compressed.length << 1);
+                    }
+                    compressedLength += deflater.deflate(compressed, compressedLength,
+                            compressed.length - compressedLength);
+                }
+                deflater.end();
+                final byte[] data = Arrays.copyOf(compressed, compressedLength);
+                compressed = null;
+                return new CompressedStoredBody(parent.ctx, data, length, parent.threadName);
+            }, false);
+        }
+
+        /**
+         * Inflate the given deflate-compressed {@code data} into {@link Chunk}s of {@link #INFLATED_CHUNK_SIZE}.
+         *
+         * @param data the compressed data
+         * @param dataLength the number of valid bytes in {@code data}
+         * @param uncompressedLength the expected uncompressed length
+         * @return a mutable {@link List} of {@link Chunk}s
+         * @throws IOException if the data cannot be inflated
+         */
+        static List<Chunk> inflate(byte[] data, int dataLength, long uncompressedLength) throws IOException {
+            final List<Chunk> result = new ArrayList<>((int) (uncompressedLength / INFLATED_CHUNK_SIZE) + 2);
+            final Inflater inflater = new Inflater(true);
+            try {
+                inflater.setInput(data, 0, dataLength);
+                long remaining = uncompressedLength;
+                while (remaining > 0) {
+                    final byte[] chunk = new byte[(int) Math.min(remaining, INFLATED_CHUNK_SIZE)];
+                    int offset = 0;
+                    while (offset < chunk.length) {
+                        final int n = inflater.inflate(chunk, offset, chunk.length - offset);
+                        if (n == 0 && (inflater.needsInput() || inflater.finished())) {
+                            throw new IOException("Unexpected end of compressed request body: expected "
+                                    + uncompressedLength + " bytes, got " + (uncompressedLength - remaining + offset));
+                        }
+                        offset += n;
+                    }
+                    result.add(new Chunk(Buffer.buffer(chunk), null));
+                    remaining -= chunk.length;
+                }
+                return result;
+            } catch (DataFormatException e) {
+                throw new IOException("Could not inflate the compressed request body", e);
+            } finally {
+                inflater.end();
+            }
+        }
+    }
+
+    /**
+     * A deflate-compressed {@link StoredBody} in memory.
+     */
+    static class CompressedStoredBody implements StoredBody {
+        private final ContextInternal ctx;
+        private final long length;
+        private final String threadName;
+        private byte[] data;
+
+        CompressedStoredBody(ContextInternal ctx, byte[] data, long length, String threadName) {
+            this.ctx = ctx;
+            this.data = data;
+            this.length = length;
+            this.threadName = threadName;
+        }
+
+        @Override
+        public long length() {
+            assert Thread.currentThread().getName().equals(threadName)
+                    : "Expected " + threadName + "; found " + Thread.currentThread().getName();
+
+            return length;
+        }
+
+        @Override
+        public Future<Void> pipeTo(HttpClientRequest req) {
+            assert Thread.currentThread().getName().equals(threadName)
+                    : "Expected " + threadName + "; found " + Thread.currentThread().getName();
+
+            final byte[] d = data;
+            if (d == null || length == 0) {
+                /* Discarded or empty body */
+                return req.end();
+            }
+            return ctx.executeBlocking(() -> CompressedBodyWriter.inflate(d, d.length, length), false)
+                    .compose(chunks -> {
+                        if (chunks.size() == 1) {
+                            return req.end(chunks.get(0).buffer());
+                        }
+                        if (!req.headers().contains(HttpHeaders.CONTENT_LENGTH)) {
+                            req.setChunked(true);
+                        }
+                        return new MemoryBodyReadStream(ctx, chunks).pipeTo(req);
+                    });
+        }
+
+        @Override
+        public Future<Void> discard() {
+            assert Thread.currentThread().getName().equals(threadName)
+                    : "Expected " + threadName + "; found " + Thread.currentThread().getName();
+
+            data = null;
+            return Future.succeededFuture();
         }
     }
 
@@ -153,11 +459,13 @@ class BodyRecorder {
      */
     static class MemoryStoredBody implements StoredBody {
 
-        private List<Buffer> buffers;
+        private final ContextInternal ctx;
+        private List<Chunk> buffers;
         private final long length;
         private final String threadName;
 
-        MemoryStoredBody(List<Buffer> buffers, long length, String threadName) {
+        MemoryStoredBody(ContextInternal ctx, List<Chunk> buffers, long length, String threadName) {
+            this.ctx = ctx;
             this.buffers = buffers;
             this.length = length;
             this.threadName = threadName;
@@ -176,42 +484,159 @@ class BodyRecorder {
             assert Thread.currentThread().getName().equals(threadName)
                     : "Expected " + threadName + "; found " + Thread.currentThread().getName();
 
-            final List<Buffer> buffs = buffers;
+            final List<Chunk> buffs = buffers;
             if (buffs != null) {
                 final int last = buffs.size() - 1;
-                if (last == 0) {
-                    /* Single buffer recorded */
-                    return req.end(buffs.get(0).slice());
-                } else if (last == -1) {
+                if (last == -1) {
                     /* Empty body */
                     return req.end();
+                }
+                /*
+                 * Keep the buffers alive until they are written even if this StoredBody gets discarded
+                 * in the meantime
+                 */
+                for (Chunk chunk : buffs) {
+                    chunk.retain();
+                }
+                final Future<Void> result;
+                if (last == 0) {
+                    /* Single buffer recorded */
+                    result = req.end(buffs.get(0).buffer().slice());
                 } else {
                     /* Multiple buffers recorded */
-                    //req.setChunked(true);
-                    // TODO: consider letting MemoryStoredBody implement ReadStream<Buffer> so that we can pipe to  HttpClientRequest with back pressure
-                    Future<Void> result = Future.succeededFuture();
-                    for (int i = 0; i < last; i++) {
-                        final int fi = i;
-                        result = result.compose(v -> req.write(buffs.get(fi).slice()));
+                    if (!req.headers().contains(HttpHeaders.CONTENT_LENGTH)) {
+                        req.setChunked(true);
                     }
-                    return result.compose(v -> req.end(buffs.get(last).slice()));
+                    result = new MemoryBodyReadStream(ctx, buffs).pipeTo(req);
                 }
+                result.onComplete(ar -> Chunk.releaseAll(buffs));
+                return result;
             }
             /* Empty body */
             return req.end();
         }
 
+        /**
+         * The returned {@link ReadStream} does not retain the underlying buffers. The caller is responsible for keeping
+         * this {@link MemoryStoredBody} alive until the stream ends.
+         *
+         * @return a new {@link ReadStream} over the buffers of this {@link MemoryStoredBody}
+         */
+        ReadStream<Buffer> readStream() {
+            final List<Chunk> buffs = buffers;
+            return new MemoryBodyReadStream(ctx, buffs != null ? buffs : List.of());
+        }
+
         @Override
         public Future<Void> discard() {
             assert Thread.currentThread().getName().equals(threadName)
                     : "Expected " + threadName + "; found " + Thread.currentThread().getName();
 
+            final List<Chunk> buffs = buffers;
             buffers = null;
+            Chunk.releaseAll(buffs);
             return Future.succeededFuture();
         }
 
     }
 
+    /**
+     * A {@link ReadStream} over a list of {@link Chunk}s honoring the demand of its consumer, so that
+     * {@link ReadStream#pipeTo(io.vertx.core.streams.WriteStream)} does not flood the write queue of the destination.
+     * All methods must be called on the event loop thread of the given {@link ContextInternal}.
+     */
+    static class MemoryBodyReadStream implements ReadStream<Buffer> {
+        private final ContextInternal ctx;
+        private final List<Chunk> chunks;
+
+        private Handler<Buffer> handler;
+        private Handler<Void> endHandler;
+        private int next = 0;
+        private long demand = Long.MAX_VALUE;
+        private boolean emitScheduled = false;
+        private boolean ended = false;
+
+        MemoryBodyReadStream(ContextInternal ctx, List<Chunk> chunks) {
+            this.ctx = ctx;
+            this.chunks = chunks;
+        }
+
+        @Override
+        public ReadStream<Buffer> exceptionHandler(Handler<Throwable> handler) {
+            /* Reading from memory never fails */
+            return this;
+        }
+
+        @Override
+        public ReadStream<Buffer> handler(Handler<Buffer> handler) {
+            this.handler = handler;
+            if (handler != null) {
+                scheduleEmit();
+            }
+            return this;
+        }
+
+        @Override
+        public ReadStream<Buffer> pause() {
+            demand = 0L;
+            return this;
+        }
+
+        @Override
+        public ReadStream<Buffer> resume() {
+            return fetch(Long.MAX_VALUE);
+        }
+
+        @Override
+        public ReadStream<Buffer> fetch(long amount) {
+            if (amount < 0L) {
+                throw new IllegalArgumentException("amount must be >= 0");
+            }
+            demand += amount;
+            if (demand < 0L) {
+                /* Overflow */
+                demand = Long.MAX_VALUE;
+            }
+            scheduleEmit();
+            return this;
+        }
+
+        @Override
+        public ReadStream<Buffer> endHandler(Handler<Void> endHandler) {
+            this.endHandler = endHandler;
+            return this;
+        }
+
+        /* Emitting asynchronously so that the consumer can finish setting its handlers */
+        private void scheduleEmit() {
+            if (!emitScheduled && !ended) {
+                emitScheduled = true;
+                ctx.runOnContext(v -> {
+                    emitScheduled = false;
+                    emit();
+                });
+            }
+        }
+
+        private void emit() {
+            Handler<Buffer> h;
+            final int size = chunks.size();
+            while (demand > 0L && next < size && (h = handler) != null) {
+                if (demand != Long.MAX_VALUE) {
+                    demand--;
+                }
+                h.handle(chunks.get(next++).buffer().slice());
+            }
+            if (next >= size && !ended && handler != null) {
+                ended = true;
+                final Handler<Void> eh = endHandler;
+                if (eh != null) {
+                    eh.handle(null);
+                }
+            }
+        }
+    }
+
     static class DiskBodyWriter implements BodyWriter {
 
         private final ContextInternal ctx;
@@ -232,7 +657,7 @@ class BodyRecorder {
         }
 
         public static Future<BodyWriter> open(ContextInternal ctx, long threshold, long maxSize, Optional<String> tempDir,
-                long fileDelayMs, boolean gcOnShutDown, List<Buffer> buffs, String threadName) {
+                long fileDelayMs, boolean gcOnShutDown, List<Chunk> buffs, String threadName) {
             final Future<InitializedTempStore> tempStore = TempStore.fromContext(ctx, tempDir, fileDelayMs, gcOnShutDown);
             Future<BodyWriter> result = tempStore
                     .compose(ts -> ts.newTempPath())
@@ -248,27 +673,40 @@ class BodyRecorder {
                                         .succeededFuture(new DiskBodyWriter(ctx, maxSize, tempPath, file, threadName)));
                     });
             if (buffs != null) {
-                for (Buffer b : buffs) {
-                    result = result.compose(bw -> bw.write(b));
+                for (Chunk c : buffs) {
+                    result = result.compose(
+                            bw -> bw.write(c.buffer(), c.owner()),
+                            e -> {
+                                c.release();
+                                return Future.failedFuture(e);
+                            });
                 }
             }
             return result;
         }
 
         @Override
-        public Future<BodyWriter> write(Buffer buffer) {
+        public Future<BodyWriter> write(Buffer buffer, ReferenceCounted owner) {
             assert Thread.currentThread().getName().equals(threadName)
                     : "Expected " + threadName + "; found " + Thread.currentThread().getName();
 
+            final Chunk chunk = new Chunk(buffer, owner);
             length += buffer.length();
             if (maxSize >= 0 && length > maxSize) {
+                chunk.release();
                 return Future.failedFuture(new IOException(
                         "Request body size " + length + " bytes exceeded the max-size limit " + maxSize + " bytes"));
             }
 
-            return tempFile
-                    .write(buffer)
-                    .compose(v -> Future.succeededFuture(this));
+            final int len = buffer.length();
+            final Future<Void> written = tempFile.write(buffer);
+            written.onComplete(ar -> {
+                chunk.release();
+                if (ar.succeeded()) {
+                    tempPath.written(len);
+                }
+            });
+            return written.compose(v -> Future.succeededFuture(this));
         }
 
         @Override
@@ -284,8 +722,18 @@ class BodyRecorder {
 
     /**
      * A {@link StoredBody} on disk.
+     * <p>
+     * On replay, the file is memory-mapped and the mapped regions are passed to the {@link HttpClientRequest} as
+     * direct buffers, so that the body does not need to be copied through heap buffers. The mapping is released
+     * explicitly once all writes have completed rather than waiting for garbage collection. Streaming through
+     * {@link AsyncFile} is used as a fallback if the file cannot be mapped.
      */
     static class DiskStoredBody implements StoredBody {
+        /** The size of the chunks in which we pass the mapped file to {@link HttpClientRequest#write(Buffer)} */
+        static final int MAPPED_CHUNK_SIZE = 1024 * 1024;
+        /** The max size of a single mapped region rounded down to a multiple of {@link #MAPPED_CHUNK_SIZE} */
+        private static final long MAX_MAPPED_REGION_SIZE = Integer.MAX_VALUE & ~(MAPPED_CHUNK_SIZE - 1);
+
         private final ContextInternal ctx;
         private final TempPath tempPath;
         private final String threadName;
@@ -312,12 +760,51 @@ class BodyRecorder {
             assert Thread.currentThread().getName().equals(threadName)
                     : "Expected " + threadName + "; found " + Thread.currentThread().getName();
 
-            return ctx.owner()
-                    .fileSystem()
-                    .open(tempPath.getPath().toString(), new OpenOptions().setRead(true))
-                    .compose(f -> {
-                        return f.pipeTo(req);
-                    });
+            final Path path = tempPath.getPath();
+            return ctx.<Mapping> executeBlocking(() -> map(path), false)
+                    .compose(
+                            mapping -> new MappedReplay(req, mapping).start(),
+                            e -> {
+                                log.debugf(e, "Could not memory-map %s, streaming it instead", path);
+                                return ctx.owner()
+                                        .fileSystem()
+                                        .open(path.toString(), new OpenOptions().setRead(true))
+                                        .compose(f -> {
+                                            return f.pipeTo(req);
+                                        });
+                            });
+        }
+
+        /**
+         * Map the given file into memory and split it into chunks of {@link #MAPPED_CHUNK_SIZE}.
+         * The mapping stays valid after the channel is closed until {@link Mapping#unmap()} is called.
+         *
+         * @param path the file to map
+         * @return a new {@link Mapping}
+         * @throws IOException if the file cannot be opened or mapped
+         */
+        static Mapping map(Path path) throws IOException {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                final long size = channel.size();
+                final List<MappedByteBuffer> regions = new ArrayList<>((int) (size / MAX_MAPPED_REGION_SIZE) + 1);
+                final List<ByteBuffer> chunks = new ArrayList<>((int) (size / MAPPED_CHUNK_SIZE) + 1);
+                long position = 0;
+                try {
+                    while (position < size) {
+                        final int regionSize = (int) Math.min(size - position, MAX_MAPPED_REGION_SIZE);
+                        final MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, position, regionSize);
+                        regions.add(region);
+                        for (int offset = 0; offset < regionSize; offset += MAPPED_CHUNK_SIZE) {
+                            chunks.add(region.slice(offset, Math.min(MAPPED_CHUNK_SIZE, regionSize - offset)));
+                        }
+                        position += regionSize;
+                    }
+                } catch (IOException | RuntimeException e) {
+                    new Mapping(regions, List.of()).unmap();
+                    throw e;
+                }
+                return new Mapping(regions, chunks);
+            }
         }
 
         @Override
@@ -330,4 +817,146 @@ class BodyRecorder {
 
     }
 
+    /**
+     * The memory-mapped regions of a file together with the chunks they are split into.
+     */
+    static class Mapping {
+        private final List<MappedByteBuffer> regions;
+        private final List<ByteBuffer> chunks;
+        private final AtomicBoolean unmapped = new AtomicBoolean();
+
+        Mapping(List<MappedByteBuffer> regions, List<ByteBuffer> chunks) {
+            this.regions = regions;
+            this.chunks = chunks;
+        }
+
+        /**
+         * @return the read-only chunks of at most {@link DiskStoredBody#MAPPED_CHUNK_SIZE} bytes; must not be accessed
+         *         after {@link #unmap()}
+         */
+        List<ByteBuffer> chunks() {
+            return chunks;
+        }
+
+        /**
+         * Release the mapped regions immediately rather than at garbage collection. The caller must make sure that
+         * nobody accesses the chunks anymore. Subsequent calls are no-ops.
+         */
+        void unmap() {
+            if (unmapped.compareAndSet(false, true)) {
+                for (MappedByteBuffer region : regions) {
+                    /* A no-op if the platform does not allow freeing direct buffers; the GC will do it then */
+                    PlatformDependent.freeDirectBuffer(region);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the chunks of a memory-mapped file to a {@link HttpClientRequest} respecting its write queue limits
+     * and unmaps the file once all writes have completed.
+     */
+    static class MappedReplay implements Handler<Void> {
+        private final HttpClientRequest req;
+        private final Mapping mapping;
+        private final List<ByteBuffer> chunks;
+        private final Promise<Void> result = Promise.promise();
+        private int next = 0;
+
+        /*
+         * The writes not completed yet plus one held until no more writes get issued. Netty may access the chunks
+         * until the write of the last one completes, so the mapping can only be released when this drops to zero.
+         * Write completions may come from another thread than the one issuing the writes.
+         */
+        private final AtomicInteger pending = new AtomicInteger(1);
+        private final AtomicBoolean issuingDone = new AtomicBoolean();
+
+        MappedReplay(HttpClientRequest req, Mapping mapping) {
+            this.req = req;
+            this.mapping = mapping;
+            this.chunks = mapping.chunks();
+        }
+
+        Future<Void> start() {
+            handle(null);
+            return result.future();
+        }
+
+        @Override
+        public void handle(Void event) {
+            final int last = chunks.size() - 1;
+            while (next < last) {
+                if (result.future().isComplete()) {
+                    /* A previous write failed */
+                    return;
+                }
+                if (req.writeQueueFull()) {
+                    req.drainHandler(this);
+                    return;
+                }
+                if (!acquire()) {
+                    /* A write failed on another thread and the mapping is gone already */
+                    return;
+                }
+                req.write(buffer(chunks.get(next++))).onComplete(ar -> {
+                    if (ar.failed()) {
+                        result.tryFail(ar.cause());
+                        /* The drain handler may never be called again */
+                        issuingDone();
+                    }
+                    writeCompleted();
+                });
+            }
+            req.drainHandler(null);
+            if (result.future().isComplete()) {
+                issuingDone();
+                return;
+            }
+            if (!acquire()) {
+                return;
+            }
+            final Future<Void> end = last < 0 ? req.end() : req.end(buffer(chunks.get(last)));
+            issuingDone();
+            end.onComplete(ar -> {
+                if (ar.succeeded()) {
+                    result.tryComplete();
+                } else {
+                    result.tryFail(ar.cause());
+                }
+                writeCompleted();
+            });
+        }
+
+        /**
+         * @return {@code true} if the mapping is still valid and it will stay valid until the matching
+         *         {@link #writeCompleted()}; {@code false} otherwise
+         */
+        private boolean acquire() {
+            int p;
+            do {
+                p = pending.get();
+                if (p == 0) {
+                    return false;
+                }
+            } while (!pending.compareAndSet(p, p + 1));
+            return true;
+        }
+
+        private void issuingDone() {
+            if (issuingDone.compareAndSet(false, true)) {
+                writeCompleted();
+            }
+        }
+
+        private void writeCompleted() {
+            if (pending.decrementAndGet() == 0) {
+                mapping.unmap();
+            }
+        }
+
+        private static Buffer buffer(ByteBuffer chunk) {
+            return Buffer.buffer(Unpooled.wrappedBuffer(chunk));
+        }
+    }
+
 }
@@ -0,0 +1,357 @@
+package io.quarkiverse.cxf.vertx.http.client;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import io.quarkiverse.cxf.CxfClientConfig;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpClientResponse;
+
+/**
+ * Hedged requests of a single client: if the response to a request to one of the configured
+ * {@code quarkus.cxf.client."client-name".vertx.hedging.operations} does not arrive within a delay derived from the
+ * response times observed so far, a duplicate request is sent and the first response wins.
+ * <p>
+ * Thread safe.
+ */
+public class Hedging {
+    /** The number of response times that need to be observed before the percentile is used as the hedging delay */
+    static final int MIN_SAMPLES = 100;
+
+    private final Map<String, Operation> operations;
+    private final double percentile;
+    private final long initialDelayNanos;
+    private final long minDelayNanos;
+    private final double budget;
+
+    Hedging(List<String> operations, double percentile, Duration initialDelay, Duration minDelay, double budget) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be in the interval (0, 100]; found " + percentile);
+        }
+        final Map<String, Operation> ops = new TreeMap<>();
+        for (String op : operations) {
+            ops.put(op.trim(), new Operation());
+        }
+        this.operations = Collections.unmodifiableMap(ops);
+        this.percentile = percentile;
+        this.initialDelayNanos = initialDelay.toNanos();
+        this.minDelayNanos = minDelay.toNanos();
+        this.budget = budget;
+    }
+
+    /**
+     * @param config the hedging configuration of a client
+     * @return a new {@link Hedging} or {@code null} if no operations are configured
+     */
+    static Hedging of(CxfClientConfig.Hedging config) {
+        final List<String> ops = config.operations().orElse(null);
+        if (ops == null || ops.isEmpty()) {
+            return null;
+        }
+        return new Hedging(ops, config.delayPercentile(), config.initialDelay(), config.minDelay(), config.budget());
+    }
+
+    /**
+     * @param operationName the local name of a WSDL operation
+     * @return the {@link Operation} with the given name or {@code null} if the given operation should not be hedged
+     */
+    public Operation getOperation(String operationName) {
+        return operationName == null ? null : operations.get(operationName);
+    }
+
+    /**
+     * @return an unmodifiable {@link Map} from operation names to {@link Operation}s
+     */
+    public Map<String, Operation> getOperations() {
+        return operations;
+    }
+
+    /**
+     * Hedging state of a single operation.
+     */
+    public class Operation {
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong hedges = new AtomicLong();
+
+        /**
+         * To be called when sending the original request.
+         *
+         * @return the current {@link System#nanoTime()}
+         */
+        long started() {
+            requests.incrementAndGet();
+            return System.nanoTime();
+        }
+
+        /**
+         * @param startNanos the value returned by {@link #started()}
+         */
+        void responded(long startNanos) {
+            latencies.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos));
+        }
+
+        /**
+         * @return the delay in milliseconds after which a duplicate request should be sent
+         */
+        long delayMillis() {
+            final long nanos = latencies.count() < MIN_SAMPLES
+                    ? initialDelayNanos
+                    : TimeUnit.MICROSECONDS.toNanos(latencies.percentile(percentile));
+            return Math.max(1, TimeUnit.NANOSECONDS.toMillis(Math.max(nanos, minDelayNanos)));
+        }
+
+        /**
+         * @return {@code true} if a duplicate request can be sent without exceeding the budget
+         */
+        boolean tryHedge() {
+            while (true) {
+                final long h = hedges.get();
+                if (h + 1 > requests.get() * budget) {
+                    return false;
+                }
+                if (hedges.compareAndSet(h, h + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        LatencyHistogram latencies() {
+            return latencies;
+        }
+
+        /**
+         * @return the number of original requests sent
+         */
+        public long getRequests() {
+            return requests.get();
+        }
+
+        /**
+         * @return the number of duplicate requests sent
+         */
+        public long getHedges() {
+            return hedges.get();
+        }
+
+        /**
+         * @return the current hedging delay in milliseconds
+         */
+        public long getDelayMillis() {
+            return delayMillis();
+        }
+    }
+
+    /**
+     * A race between the original request and its duplicate. Only the first response with a non-failure status
+     * decides the race. A response with a failure status or a failed request is passed on only if the other request
+     * does not succeed either. The requests not passed on are reset.
+     * <p>
+     * The requests are reset outside of the monitor of this {@link Race} because resetting may call back into
+     * the response handlers synchronously.
+     */
+    static class Race {
+        private HttpClientRequest primary;
+        private HttpClientRequest hedge;
+        private int pending = 1;
+        private boolean decided;
+        private boolean hedgeWon;
+        /* A response with a failure status waiting for the outcome of the other request */
+        private HttpClientResponse held;
+        private boolean heldIsHedge;
+
+        synchronized void primary(HttpClientRequest req) {
+            this.primary = req;
+        }
+
+        /**
+         * @return {@code true} if no response was passed on yet
+         */
+        synchronized boolean isOpen() {
+            return !decided;
+        }
+
+        /**
+         * @return {@code true} if a duplicate request should be sent
+         */
+        synchronized boolean startHedge() {
+            if (decided || hedge != null || pending > 1) {
+                return false;
+            }
+            pending++;
+            return true;
+        }
+
+        /**
+         * @param req the duplicate request
+         * @return {@code false} if the race is over already; the caller is then responsible for resetting the given
+         *         request
+         */
+        synchronized boolean hedge(HttpClientRequest req) {
+            if (decided) {
+                return false;
+            }
+            this.hedge = req;
+            return true;
+        }
+
+        /**
+         * @param isHedge {@code true} if {@code ar} belongs to the duplicate request
+         * @param ar the outcome of waiting for the response
+         * @param failureStatus {@code true} if {@code ar} succeeded, but the status code of the response signals that
+         *        the other request should rather be waited for
+         * @return the outcome to pass on or {@code null} if nothing should be passed on now
+         */
+        AsyncResult<HttpClientResponse> accept(boolean isHedge, AsyncResult<HttpClientResponse> ar,
+                boolean failureStatus) {
+            final AsyncResult<HttpClientResponse> result;
+            HttpClientRequest reset1 = null;
+            HttpClientRequest reset2 = null;
+            synchronized (this) {
+                if (decided) {
+                    /* The loser */
+                    if (ar.succeeded()) {
+                        reset1 = ar.result().request();
+                    }
+                    result = null;
+                } else {
+                    pending--;
+                    final boolean good = ar.succeeded() && !failureStatus;
+                    if (!good && pending > 0) {
+                        /* The other request may still succeed */
+                        if (ar.succeeded()) {
+                            /* Keep it for the case that the other one fails too */
+                            final HttpClientResponse response = ar.result();
+                            response.pause();
+                            held = response;
+                            heldIsHedge = isHedge;
+                        }
+                        result = null;
+                    } else {
+                        decided = true;
+                        if (good) {
+                            hedgeWon = isHedge;
+                            result = ar;
+                            if (pending > 0) {
+                                reset1 = isHedge ? primary : hedge;
+                            }
+                            if (held != null) {
+                                reset2 = held.request();
+                            }
+                        } else if (held != null && ar.failed()) {
+                            /* A response with a failure status is more useful than an exception */
+                            hedgeWon = heldIsHedge;
+                            result = Future.succeededFuture(held);
+                        } else {
+                            hedgeWon = isHedge;
+                            result = ar;
+                            if (held != null) {
+                                reset2 = held.request();
+                            }
+                        }
+                        held = null;
+                    }
+                }
+            }
+            if (reset1 != null) {
+                reset1.reset();
+            }
+            if (reset2 != null) {
+                reset2.reset();
+            }
+            return result;
+        }
+
+        /**
+         * @param isHedge {@code true} for the duplicate request
+         * @return {@code true} if the given request lost the race
+         */
+        synchronized boolean isLoser(boolean isHedge) {
+            return decided && hedgeWon != isHedge;
+        }
+    }
+
+    /**
+     * A lossy histogram of response times in microseconds with four buckets per power of two. All counts are halved
+     * once {@link #DECAY_THRESHOLD} samples are recorded, so that the older samples gradually lose their weight.
+     */
+    static class LatencyHistogram {
+        static final int DECAY_THRESHOLD = 4096;
+        private static final int BUCKETS = 248;
+
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        private final AtomicLong count = new AtomicLong();
+
+        void record(long micros) {
+            buckets.incrementAndGet(index(micros));
+            if (count.incrementAndGet() >= DECAY_THRESHOLD) {
+                decay();
+            }
+        }
+
+        long count() {
+            return count.get();
+        }
+
+        private synchronized void decay() {
+            if (count.get() < DECAY_THRESHOLD) {
+                /* Decayed concurrently */
+                return;
+            }
+            long sum = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                final long v = buckets.get(i) >>> 1;
+                buckets.set(i, v);
+                sum += v;
+            }
+            count.set(sum);
+        }
+
+        /**
+         * @param percentile the percentile in the interval (0, 100]
+         * @return the upper bound of the bucket containing the given percentile or {@code 0} if nothing was recorded
+         */
+        long percentile(double percentile) {
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                total += buckets.get(i);
+            }
+            final long rank = (long) Math.ceil(total * percentile / 100d);
+            long cumulative = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                cumulative += buckets.get(i);
+                if (cumulative >= rank && cumulative > 0) {
+                    return upperBound(i);
+                }
+            }
+            return 0;
+        }
+
+        static int index(long micros) {
+            final long v = Math.max(micros, 0);
+            if (v < 4) {
+                return (int) v;
+            }
+            final int exponent = 63 - Long.numberOfLeadingZeros(v);
+            final int mantissa = (int) (v >>> (exponent - 2)) & 3;
+            return 4 * (exponent - 1) + mantissa;
+        }
+
+        static long upperBound(int index) {
+            if (index < 4) {
+                return index + 1;
+            }
+            final int exponent = index / 4 + 1;
+            final int mantissa = index % 4;
+            return (5L + mantissa) << (exponent - 2);
+        }
+    }
+}
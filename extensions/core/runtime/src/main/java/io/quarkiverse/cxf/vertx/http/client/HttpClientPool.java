@@ -1,110 +1,568 @@
 package io.quarkiverse.cxf.vertx.http.client;
 
+import java.net.URI;
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiConsumer;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Observes;
 import jakarta.inject.Inject;
 
+import org.jboss.logging.Logger;
+
 import io.quarkiverse.cxf.CXFClientInfo;
+import io.quarkiverse.cxf.CxfConfig;
 import io.quarkus.proxy.ProxyConfiguration;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.tls.CertificateUpdatedEvent;
 import io.quarkus.tls.TlsConfiguration;
 import io.quarkus.tls.runtime.config.TlsConfigUtils;
+import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpVersion;
+import io.vertx.core.http.RequestOptions;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.ProxyOptions;
 import io.vertx.core.net.ProxyType;
 
 /**
  * A pool of HTTP clients so that we do not have to reconnect on every request.
+ * <p>
+ * The clients are looked up by {@link CXFClientInfo#getConfigKey()}, or by the config key and
+ * {@link LoadBalancer.Target#getOrigin()} if {@code quarkus.cxf.client."client-name".vertx.load-balancing.addresses}
+ * is set. If
+ * {@code quarkus.cxf.http-client-pool.share-identical-options} is enabled, the config keys resulting in equal
+ * {@link HttpClientOptions} and the same {@link TlsConfiguration} share a single {@link HttpClient}. The pooled clients
+ * can be evicted when the pool grows over {@code quarkus.cxf.http-client-pool.max-size} or when they were not used for
+ * {@code quarkus.cxf.http-client-pool.idle-timeout}.
+ * <p>
+ * The requests sent via {@link #request(CXFClientInfo, LoadBalancer.Target, HttpVersion, TlsConfiguration,
+ * ProxyConfiguration, RequestOptions)} are counted as in-flight until their response is fully received. Clients
+ * having some requests in flight are never considered idle, and a client evicted because of the max size or a
+ * certificate update is closed only after its last in-flight request is done.
  */
 @ApplicationScoped
 public class HttpClientPool {
-    private final Map<String, ClientEntry> clients = new ConcurrentHashMap<>();
+    private static final Logger log = Logger.getLogger(HttpClientPool.class);
+
+    /** Config keys to clients; several keys may map to the same client if sharing is enabled */
+    private final Map<String, PooledClient> clientsByConfigKey = new ConcurrentHashMap<>();
+    /** Used only if sharing is enabled */
+    private final Map<PoolKey, PooledClient> clientsByOptions = new ConcurrentHashMap<>();
     private final Vertx vertx;
+    private final boolean shareIdenticalOptions;
+    private final int maxSize;
+    private final long idleTimeoutMs;
+    private final long idleTimerId;
+
+    private final AtomicInteger liveClients = new AtomicInteger();
+    private final AtomicInteger openConnections = new AtomicInteger();
+    private final AtomicLong evictions = new AtomicLong();
+    /*
+     * The per config key state below is dropped once the last live client of the given config key gets evicted, see
+     * forgetConfigKey(String)
+     */
+    /** Config keys to request body replay counters */
+    private final Map<String, ReplayCounter> replays = new ConcurrentHashMap<>();
+    /** Config keys to load balancers; empty for clients without load balancing */
+    private final Map<String, Optional<LoadBalancer>> loadBalancers = new ConcurrentHashMap<>();
+    /** Config keys to hedging settings and statistics; empty for clients without hedging */
+    private final Map<String, Optional<Hedging>> hedgings = new ConcurrentHashMap<>();
+    /** Config keys to operation names to response caches */
+    private final Map<String, Map<String, ResponseCache>> responseCaches = new ConcurrentHashMap<>();
 
     HttpClientPool() {
-        this(null);
+        this(null, false, -1, 0);
     }
 
-    @Inject
     public HttpClientPool(Vertx vertx) {
+        this(vertx, false, -1, 0);
+    }
+
+    @Inject
+    public HttpClientPool(Vertx vertx, CxfConfig config) {
+        this(
+                vertx,
+                config.httpClientPool().shareIdenticalOptions(),
+                config.httpClientPool().maxSize().orElse(-1),
+                config.httpClientPool().idleTimeout().map(Duration::toMillis).orElse(0L));
+    }
+
+    HttpClientPool(Vertx vertx, boolean shareIdenticalOptions, int maxSize, long idleTimeoutMs) {
         super();
         this.vertx = vertx;
+        this.shareIdenticalOptions = shareIdenticalOptions;
+        this.maxSize = maxSize;
+        this.idleTimeoutMs = idleTimeoutMs;
+        if (vertx != null && idleTimeoutMs > 0) {
+            final long period = Math.max(1000L, idleTimeoutMs / 2);
+            this.idleTimerId = vertx.setPeriodic(period, id -> evictIdle(System.currentTimeMillis()));
+        } else {
+            this.idleTimerId = -1;
+        }
     }
 
     /**
-     * If this method returns a client that is concurrently being removed by
-     * {@link #onCertificateUpdate(CertificateUpdatedEvent)} then the client may still work for one request, but will be
-     * re-created on the subsequent request.
+     * If this method returns a client that is concurrently being evicted then the client may still work for one
+     * request, but will be re-created on the subsequent request.
      *
-     * @param spec the caching key
+     * @param clientInfo the client for which a {@link HttpClient} should be returned
+     * @param version the HTTP version
+     * @param tlsConfiguration the TLS configuration or {@code null}
+     * @param proxyConfiguration the proxy configuration or {@code null}
      * @return a possibly pooled client
      */
     public HttpClient getClient(CXFClientInfo clientInfo, HttpVersion version, TlsConfiguration tlsConfiguration,
             ProxyConfiguration proxyConfiguration) {
-        final String key = clientInfo.getConfigKey();
-        Objects.requireNonNull(key, "CXFClientInfo.configKey cannot be null");
-        return clients.computeIfAbsent(key, v -> {
-            final HttpClientOptions opts = new HttpClientOptions()
-                    .setProtocolVersion(version);
-            clientInfo.getVertxConfig().configure(opts, clientInfo.getConnection());
-            if (proxyConfiguration != null) {
-                proxyConfiguration.nonProxyHosts().ifPresent(nph -> nph.forEach(opts::addNonProxyHost));
-                final ProxyOptions proxyOpts = new ProxyOptions()
-                        .setHost(proxyConfiguration.host())
-                        .setPort(proxyConfiguration.port())
-                        .setType(toProxyType(proxyConfiguration.type()));
-                proxyConfiguration.username().ifPresent(proxyOpts::setUsername);
-                proxyConfiguration.password().ifPresent(proxyOpts::setPassword);
-                opts.setProxyOptions(proxyOpts);
-            }
+        return getClient(clientInfo, null, version, tlsConfiguration, proxyConfiguration);
+    }
 
-            HttpClientPoolRecorder.configure(clientInfo, opts);
+    /**
+     * Like {@link #getClient(CXFClientInfo, HttpVersion, TlsConfiguration, ProxyConfiguration)} but returns a separate
+     * client for each load balancing {@link LoadBalancer.Target}.
+     *
+     * @param clientInfo the client for which a {@link HttpClient} should be returned
+     * @param target the load balancing target or {@code null}
+     * @param version the HTTP version
+     * @param tlsConfiguration the TLS configuration or {@code null}
+     * @param proxyConfiguration the proxy configuration or {@code null}
+     * @return a possibly pooled client
+     */
+    public HttpClient getClient(CXFClientInfo clientInfo, LoadBalancer.Target target, HttpVersion version,
+            TlsConfiguration tlsConfiguration, ProxyConfiguration proxyConfiguration) {
+        return lookup(clientInfo, target, version, tlsConfiguration, proxyConfiguration, false).httpClient;
+    }
 
-            if (tlsConfiguration != null) {
-                TlsConfigUtils.configure(opts, tlsConfiguration);
-                return new ClientEntry(vertx.createHttpClient(opts), tlsConfiguration.getName());
-            } else {
-                return new ClientEntry(vertx.createHttpClient(opts), null);
+    /**
+     * Create a request using a possibly pooled {@link HttpClient}. Unlike
+     * {@link #getClient(CXFClientInfo, LoadBalancer.Target, HttpVersion, TlsConfiguration, ProxyConfiguration)},
+     * the request is counted as in-flight until its response is fully received or until it fails, so that the
+     * underlying {@link HttpClient} does not get closed under its feet.
+     *
+     * @param clientInfo the client for which the request should be created
+     * @param target the load balancing target or {@code null}
+     * @param version the HTTP version
+     * @param tlsConfiguration the TLS configuration or {@code null}
+     * @param proxyConfiguration the proxy configuration or {@code null}
+     * @param options the {@link RequestOptions} to pass to {@link HttpClient#request(RequestOptions)}
+     * @return the {@link Future} returned by {@link HttpClient#request(RequestOptions)}
+     */
+    public Future<HttpClientRequest> request(CXFClientInfo clientInfo, LoadBalancer.Target target, HttpVersion version,
+            TlsConfiguration tlsConfiguration, ProxyConfiguration proxyConfiguration, RequestOptions options) {
+        final PooledClient pc = lookup(clientInfo, target, version, tlsConfiguration, proxyConfiguration, true);
+        return pc.httpClient.request(options)
+                .andThen(ar -> {
+                    if (ar.succeeded()) {
+                        ar.result().response()
+                                .compose(HttpClientResponse::end)
+                                .onComplete(r -> pc.release());
+                    } else {
+                        pc.release();
+                    }
+                });
+    }
+
+    PooledClient lookup(CXFClientInfo clientInfo, LoadBalancer.Target target, HttpVersion version,
+            TlsConfiguration tlsConfiguration, ProxyConfiguration proxyConfiguration, boolean acquire) {
+        final String configKey = clientInfo.getConfigKey();
+        Objects.requireNonNull(configKey, "CXFClientInfo.configKey cannot be null");
+        final String key = target == null ? configKey : configKey + " -> " + target.getOrigin();
+        while (true) {
+            final PooledClient pc = clientsByConfigKey.computeIfAbsent(key,
+                    k -> lookupOrCreate(k, clientInfo, version, tlsConfiguration, proxyConfiguration));
+            if (acquire) {
+                /* Before checking closed so that a concurrent evict() either sees us or we see it closed */
+                pc.inFlight.incrementAndGet();
+            }
+            if (!pc.closed) {
+                pc.lastUsed = System.currentTimeMillis();
+                if (pc.sizeCheckPending && maxSize > 0) {
+                    /* Cannot do this inside computeIfAbsent() because eviction modifies clientsByConfigKey */
+                    pc.sizeCheckPending = false;
+                    enforceMaxSize(pc);
+                }
+                return pc;
             }
-        }).httpClient;
+            if (acquire) {
+                pc.release();
+            }
+            /* Evicted concurrently */
+            clientsByConfigKey.remove(key, pc);
+        }
+    }
+
+    /**
+     * Open up to the given number of connections to the given {@code uri} and keep them in the pool of the
+     * {@link HttpClient} associated with the given {@link CXFClientInfo}. The connections are established by sending
+     * concurrent {@code OPTIONS *} requests, whose responses are ignored. Unlike a request to the path of {@code uri},
+     * {@code OPTIONS *} addresses the server as a whole, so that no service endpoint gets invoked. The Vert.x
+     * {@link HttpClient} offers no way to add a connection to its pool without sending a request through it.
+     * <p>
+     * The warmup requests are counted as in-flight and the {@link HttpClient} is exempt from the idle and max size
+     * eviction afterwards, so that the warmed up connections are not closed together with their client.
+     *
+     * @param clientInfo the client for which the connections should be opened
+     * @param version the HTTP version
+     * @param tlsConfiguration the TLS configuration or {@code null}
+     * @param proxyConfiguration the proxy configuration or {@code null}
+     * @param uri the URI to connect to
+     * @param connections the number of connections to open
+     * @return a {@link Future} completed once all requests are done, failed if any of them failed
+     */
+    public Future<Void> warmUp(CXFClientInfo clientInfo, HttpVersion version, TlsConfiguration tlsConfiguration,
+            ProxyConfiguration proxyConfiguration, URI uri, int connections) {
+        return warmUp(clientInfo, null, version, tlsConfiguration, proxyConfiguration, uri, connections);
+    }
+
+    /**
+     * Like {@link #warmUp(CXFClientInfo, HttpVersion, TlsConfiguration, ProxyConfiguration, URI, int)} but opens
+     * the connections using the client dedicated to the given load balancing {@link LoadBalancer.Target}.
+     *
+     * @param clientInfo the client for which the connections should be opened
+     * @param target the load balancing target or {@code null}
+     * @param version the HTTP version
+     * @param tlsConfiguration the TLS configuration or {@code null}
+     * @param proxyConfiguration the proxy configuration or {@code null}
+     * @param uri the URI to connect to
+     * @param connections the number of connections to open
+     * @return a {@link Future} completed once all requests are done, failed if any of them failed
+     */
+    public Future<Void> warmUp(CXFClientInfo clientInfo, LoadBalancer.Target target, HttpVersion version,
+            TlsConfiguration tlsConfiguration, ProxyConfiguration proxyConfiguration, URI uri, int connections) {
+        final boolean isHttps = "https".equals(uri.getScheme());
+        final int port = uri.getPort() >= 0 ? uri.getPort() : (isHttps ? 443 : 80);
+        final List<Future<Void>> results = new ArrayList<>(connections);
+        for (int i = 0; i < connections; i++) {
+            final PooledClient pc = lookup(clientInfo, target, version, tlsConfiguration, proxyConfiguration, true);
+            pc.pinned = true;
+            final RequestOptions opts = new RequestOptions()
+                    .setMethod(HttpMethod.OPTIONS)
+                    .setHost(uri.getHost())
+                    .setPort(port)
+                    .setURI("*");
+            results.add(pc.httpClient.request(opts)
+                    .compose(req -> req.send())
+                    .compose(resp -> resp.end())
+                    .onComplete(r -> pc.release()));
+        }
+        return Future.join(results).mapEmpty();
+    }
+
+    PooledClient lookupOrCreate(String configKey, CXFClientInfo clientInfo, HttpVersion version,
+            TlsConfiguration tlsConfiguration, ProxyConfiguration proxyConfiguration) {
+        final HttpClientOptions opts = createOptions(clientInfo, version, tlsConfiguration, proxyConfiguration);
+        final String tlsConfigurationName = tlsConfiguration != null ? tlsConfiguration.getName() : null;
+        final PooledClient result;
+        if (shareIdenticalOptions) {
+            final JsonObject optsJson = opts.toJson().put("poolOptions", opts.getPoolOptions().toJson());
+            final PoolKey poolKey = new PoolKey(optsJson, tlsConfiguration);
+            result = clientsByOptions.compute(poolKey, (k, existing) -> {
+                if (existing != null && !existing.closed) {
+                    return existing;
+                }
+                return new PooledClient(opts, tlsConfigurationName, k);
+            });
+        } else {
+            result = new PooledClient(opts, tlsConfigurationName, null);
+        }
+        result.configKeys.add(configKey);
+        result.clientConfigKeys.add(clientInfo.getConfigKey());
+        return result;
+    }
+
+    HttpClientOptions createOptions(CXFClientInfo clientInfo, HttpVersion version, TlsConfiguration tlsConfiguration,
+            ProxyConfiguration proxyConfiguration) {
+        final HttpClientOptions opts = new HttpClientOptions()
+                .setProtocolVersion(version);
+        if (tlsConfiguration != null) {
+            /* Before VertxConfig so that the ALPN settings required for HTTP/2 negotiation are not overridden */
+            TlsConfigUtils.configure(opts, tlsConfiguration);
+        }
+        /* ALPN with fallback to HTTP/1.1 only if HTTP/2 was not requested explicitly */
+        final boolean negotiateHttp2 = version == HttpVersion.HTTP_2
+                && "auto".equals(clientInfo.getVersion())
+                && clientInfo.getVertxConfig().http2().autoNegotiate();
+        clientInfo.getVertxConfig().configure(opts, clientInfo.getConnection(), negotiateHttp2);
+        if (proxyConfiguration != null) {
+            proxyConfiguration.nonProxyHosts().ifPresent(nph -> nph.forEach(opts::addNonProxyHost));
+            final ProxyOptions proxyOpts = new ProxyOptions()
+                    .setHost(proxyConfiguration.host())
+                    .setPort(proxyConfiguration.port())
+                    .setType(toProxyType(proxyConfiguration.type()));
+            proxyConfiguration.username().ifPresent(proxyOpts::setUsername);
+            proxyConfiguration.password().ifPresent(proxyOpts::setPassword);
+            opts.setProxyOptions(proxyOpts);
+        }
+
+        HttpClientPoolRecorder.configure(clientInfo, opts);
+        return opts;
     }
 
     /**
-     * Called upon certificate reload. Clients having the given {@link ClientSpec#tlsConfigurationName} will be
-     * removed from this pool, so that they are created anew via {@link #getClient(ClientSpec)} on the next request.
+     * Called upon certificate reload. Clients having the given {@link TlsConfiguration} name will be
+     * removed from this pool, so that they are created anew via
+     * {@link #getClient(CXFClientInfo, HttpVersion, TlsConfiguration, ProxyConfiguration)} on the next request.
      *
      * @param event the update event
      */
     public void onCertificateUpdate(@Observes CertificateUpdatedEvent event) {
         final String tlsConfigName = event.name();
         if (tlsConfigName != null) {
-            final Iterator<Entry<String, ClientEntry>> it = clients.entrySet().iterator();
-            while (it.hasNext()) {
-                final Entry<String, ClientEntry> en = it.next();
-                if (tlsConfigName.equals(en.getValue().tlsConfigurationName)) {
-                    final HttpClient cl = en.getValue().httpClient();
-                    it.remove();
-                    cl.close(r -> {
-                    });
+            for (PooledClient pc : liveClientsSnapshot()) {
+                if (tlsConfigName.equals(pc.tlsConfigurationName)) {
+                    evict(pc, "certificate update");
                 }
             }
         }
     }
 
+    @PreDestroy
+    void destroy() {
+        if (idleTimerId >= 0) {
+            vertx.cancelTimer(idleTimerId);
+        }
+    }
+
+    /**
+     * Close and remove the clients that were not used since {@code now - idleTimeout}.
+     *
+     * @param now the current time in milliseconds
+     */
+    void evictIdle(long now) {
+        final long threshold = now - idleTimeoutMs;
+        for (PooledClient pc : liveClientsSnapshot()) {
+            if (pc.lastUsed < threshold && pc.inFlight.get() == 0 && !pc.pinned) {
+                evict(pc, "idle timeout");
+            }
+        }
+    }
+
+    void enforceMaxSize(PooledClient justCreated) {
+        if (maxSize <= 0) {
+            return;
+        }
+        while (liveClients.get() > maxSize) {
+            PooledClient lru = null;
+            PooledClient lruIdle = null;
+            for (PooledClient pc : liveClientsSnapshot()) {
+                if (pc == justCreated || pc.pinned) {
+                    continue;
+                }
+                if (lru == null || pc.lastUsed < lru.lastUsed) {
+                    lru = pc;
+                }
+                if (pc.inFlight.get() == 0 && (lruIdle == null || pc.lastUsed < lruIdle.lastUsed)) {
+                    lruIdle = pc;
+                }
+            }
+            if (lruIdle != null) {
+                /* Prefer clients without in-flight requests so that they can be closed right away */
+                lru = lruIdle;
+            }
+            if (lru == null) {
+                return;
+            }
+            evict(lru, "max size " + maxSize + " exceeded");
+        }
+    }
+
+    void evict(PooledClient pc, String reason) {
+        synchronized (pc) {
+            if (pc.closed) {
+                return;
+            }
+            pc.closed = true;
+        }
+        for (String configKey : pc.configKeys) {
+            clientsByConfigKey.remove(configKey, pc);
+        }
+        if (pc.poolKey != null) {
+            clientsByOptions.remove(pc.poolKey, pc);
+        }
+        liveClients.decrementAndGet();
+        evictions.incrementAndGet();
+        for (String configKey : pc.clientConfigKeys) {
+            if (!isReferenced(configKey)) {
+                forgetConfigKey(configKey);
+            }
+        }
+        if (pc.inFlight.get() == 0) {
+            log.debugf("Evicting HTTP client used by %s due to %s", pc.configKeys, reason);
+            pc.closeHttpClient();
+        } else {
+            /* The last release() will close it */
+            log.debugf("Evicting HTTP client used by %s due to %s once its %d in-flight requests are done",
+                    pc.configKeys, reason, pc.inFlight.get());
+        }
+    }
+
+    /**
+     * @param configKey the client config key
+     * @return {@code true} if any live client serves the given config key; {@code false} otherwise
+     */
+    boolean isReferenced(String configKey) {
+        for (PooledClient pc : liveClientsSnapshot()) {
+            if (pc.clientConfigKeys.contains(configKey)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Drop the state kept for the given client config key. It is re-created lazily if the given client is used again.
+     *
+     * @param configKey the client config key
+     */
+    void forgetConfigKey(String configKey) {
+        log.debugf("Dropping the HTTP client state of %s", configKey);
+        replays.remove(configKey);
+        loadBalancers.remove(configKey);
+        hedgings.remove(configKey);
+        responseCaches.remove(configKey);
+    }
+
+    /**
+     * @return a snapshot of the distinct live clients
+     */
+    List<PooledClient> liveClientsSnapshot() {
+        final Map<PooledClient, Boolean> result = new IdentityHashMap<>();
+        for (PooledClient pc : clientsByConfigKey.values()) {
+            if (!pc.closed) {
+                result.put(pc, Boolean.TRUE);
+            }
+        }
+        for (PooledClient pc : clientsByOptions.values()) {
+            if (!pc.closed) {
+                result.put(pc, Boolean.TRUE);
+            }
+        }
+        return new ArrayList<>(result.keySet());
+    }
+
+    /**
+     * @return a snapshot of the statistics of this pool
+     */
+    public Stats getStats() {
+        int inFlight = 0;
+        for (PooledClient pc : liveClientsSnapshot()) {
+            inFlight += pc.inFlight.get();
+        }
+        return new Stats(liveClients.get(), clientsByConfigKey.size(), openConnections.get(), evictions.get(), inFlight);
+    }
+
+    /**
+     * Record a replay of a request body from the retransmit cache, e.g. after a redirect or an authentication
+     * challenge.
+     *
+     * @param configKey the client config key
+     * @param bytes the number of bytes replayed or a negative number if the replay failed
+     */
+    void recordReplay(String configKey, long bytes) {
+        final ReplayCounter counter = replays.computeIfAbsent(configKey, k -> new ReplayCounter());
+        if (bytes >= 0) {
+            counter.replays.increment();
+            counter.bytes.add(bytes);
+        } else {
+            counter.failures.increment();
+        }
+    }
+
+    /**
+     * @return a snapshot of request body replay statistics per client config key
+     */
+    public Map<String, ReplayStats> getReplayStats() {
+        final Map<String, ReplayStats> result = new TreeMap<>();
+        replays.forEach((k, v) -> result.put(k, new ReplayStats(v.replays.sum(), v.bytes.sum(), v.failures.sum())));
+        return result;
+    }
+
+    /**
+     * @param configKey the client config key
+     * @return the request body replay statistics of the given client; all zeros if there were no replays yet
+     */
+    public ReplayStats getReplayStats(String configKey) {
+        final ReplayCounter v = replays.get(configKey);
+        return v != null ? new ReplayStats(v.replays.sum(), v.bytes.sum(), v.failures.sum()) : ReplayStats.EMPTY;
+    }
+
+    /**
+     * @param clientInfo the client whose {@link LoadBalancer} should be returned
+     * @return the {@link LoadBalancer} of the given client or {@code null} if
+     *         {@code quarkus.cxf.client."client-name".vertx.load-balancing.addresses} is not set for it
+     */
+    public LoadBalancer getLoadBalancer(CXFClientInfo clientInfo) {
+        final String configKey = clientInfo.getConfigKey();
+        Objects.requireNonNull(configKey, "CXFClientInfo.configKey cannot be null");
+        return loadBalancers
+                .computeIfAbsent(configKey,
+                        k -> Optional.ofNullable(LoadBalancer.of(clientInfo.getVertxConfig().loadBalancing())))
+                .orElse(null);
+    }
+
+    /**
+     * @param clientInfo the client whose {@link Hedging} should be returned
+     * @return the {@link Hedging} of the given client or {@code null} if
+     *         {@code quarkus.cxf.client."client-name".vertx.hedging.operations} is not set for it
+     */
+    public Hedging getHedging(CXFClientInfo clientInfo) {
+        final String configKey = clientInfo.getConfigKey();
+        Objects.requireNonNull(configKey, "CXFClientInfo.configKey cannot be null");
+        return hedgings
+                .computeIfAbsent(configKey,
+                        k -> Optional.ofNullable(Hedging.of(clientInfo.getVertxConfig().hedging())))
+                .orElse(null);
+    }
+
+    /**
+     * @param clientInfo the client whose {@link ResponseCache} should be returned
+     * @param operationName the local name of a WSDL operation
+     * @return the {@link ResponseCache} of the given operation of the given client or {@code null} if
+     *         {@code quarkus.cxf.client."client-name".vertx.response-cache."operation-name".*} is not set for them
+     */
+    public ResponseCache getResponseCache(CXFClientInfo clientInfo, String operationName) {
+        if (operationName == null) {
+            return null;
+        }
+        final String configKey = clientInfo.getConfigKey();
+        Objects.requireNonNull(configKey, "CXFClientInfo.configKey cannot be null");
+        return responseCaches
+                .computeIfAbsent(configKey, k -> ResponseCache.of(clientInfo.getVertxConfig().responseCache()))
+                .get(operationName);
+    }
+
+    /**
+     * @param configKey the client config key
+     * @param operationName the local name of a WSDL operation
+     * @return a snapshot of the statistics of the {@link ResponseCache} of the given operation of the given client
+     *         or {@link ResponseCache.Stats#EMPTY} if the cache does not exist (yet)
+     */
+    public ResponseCache.Stats getResponseCacheStats(String configKey, String operationName) {
+        final Map<String, ResponseCache> caches = responseCaches.get(configKey);
+        final ResponseCache cache = caches != null ? caches.get(operationName) : null;
+        return cache != null ? cache.getStats() : ResponseCache.Stats.EMPTY;
+    }
+
     public Vertx getVertx() {
         return vertx;
     }
@@ -122,7 +580,88 @@ public class HttpClientPool {
         }
     }
 
-    static record ClientEntry(HttpClient httpClient, String tlsConfigurationName) {
+    /**
+     * Statistics of a {@link HttpClientPool}.
+     *
+     * @param liveClients the number of distinct Vert.x {@link HttpClient}s currently in the pool
+     * @param configKeys the number of client configurations (or pairs of client configuration and load balancing
+     *        target) currently mapped to some pooled {@link HttpClient}
+     * @param openConnections the number of open connections over all pooled {@link HttpClient}s
+     * @param evictions the number of {@link HttpClient}s evicted since the start of the application
+     * @param inFlightRequests the number of requests in flight over all live pooled {@link HttpClient}s
+     */
+    public static record Stats(int liveClients, int configKeys, int openConnections, long evictions,
+            int inFlightRequests) {
+    }
+
+    /**
+     * Request body replay statistics of a single client.
+     *
+     * @param replays the number of successful request body replays from the retransmit cache
+     * @param bytesReplayed the total number of bytes sent by the successful replays
+     * @param failures the number of replays that failed
+     */
+    public static record ReplayStats(long replays, long bytesReplayed, long failures) {
+        static final ReplayStats EMPTY = new ReplayStats(0, 0, 0);
+    }
+
+    static class ReplayCounter {
+        private final LongAdder replays = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+    }
+
+    /**
+     * The key under which the shareable clients are stored. Note that {@link TlsConfiguration} is compared by
+     * identity.
+     */
+    static record PoolKey(JsonObject options, TlsConfiguration tlsConfiguration) {
+    }
+
+    class PooledClient {
+        private final HttpClient httpClient;
+        private final String tlsConfigurationName;
+        private final PoolKey poolKey;
+        /** The keys under which this client is stored in {@link HttpClientPool#clientsByConfigKey} */
+        private final Set<String> configKeys = ConcurrentHashMap.newKeySet();
+        /** The {@link CXFClientInfo#getConfigKey()}s of the clients using this client */
+        private final Set<String> clientConfigKeys = ConcurrentHashMap.newKeySet();
+        private volatile long lastUsed = System.currentTimeMillis();
+        private volatile boolean closed;
+        private volatile boolean sizeCheckPending = true;
+        /** Holds warmed up connections; never evicted because of idleness or max size */
+        private volatile boolean pinned;
+        /** The number of requests created via {@link HttpClientPool#request} whose response was not received yet */
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicBoolean httpClientClosed = new AtomicBoolean();
+
+        PooledClient(HttpClientOptions opts, String tlsConfigurationName, PoolKey poolKey) {
+            this.tlsConfigurationName = tlsConfigurationName;
+            this.poolKey = poolKey;
+            this.httpClient = vertx.httpClientBuilder()
+                    .with(opts)
+                    .with(opts.getPoolOptions())
+                    .withConnectHandler(conn -> {
+                        openConnections.incrementAndGet();
+                        conn.closeHandler(v -> openConnections.decrementAndGet());
+                    })
+                    .build();
+            liveClients.incrementAndGet();
+        }
+
+        void release() {
+            lastUsed = System.currentTimeMillis();
+            if (inFlight.decrementAndGet() == 0 && closed) {
+                closeHttpClient();
+            }
+        }
+
+        void closeHttpClient() {
+            if (httpClientClosed.compareAndSet(false, true)) {
+                httpClient.close(r -> {
+                });
+            }
+        }
     }
 
     @Recorder
@@ -0,0 +1,166 @@
+package io.quarkiverse.cxf.vertx.http.client;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+import org.jboss.logging.Logger;
+
+import io.quarkiverse.cxf.CXFClientData;
+import io.quarkiverse.cxf.CXFClientInfo;
+import io.quarkiverse.cxf.CxfClientConfig;
+import io.quarkiverse.cxf.CxfConfig;
+import io.quarkiverse.cxf.CxfFixedConfig;
+import io.quarkiverse.cxf.CxfFixedConfig.ClientFixedConfig;
+import io.quarkiverse.cxf.HTTPConduitImpl;
+import io.quarkus.runtime.StartupEvent;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.http.PoolOptions;
+
+/**
+ * Opens the connections requested via {@code quarkus.cxf.client."client-name".vertx.connection-pool.warmup-connections}
+ * when the application starts. The startup waits for the connections to get opened at most for
+ * {@code quarkus.cxf.client."client-name".vertx.connection-pool.warmup-timeout}, so that the application does not
+ * report itself ready before its connections exist.
+ */
+@ApplicationScoped
+public class HttpClientWarmup {
+    private static final Logger log = Logger.getLogger(HttpClientWarmup.class);
+
+    @Inject
+    CxfConfig config;
+
+    @Inject
+    CxfFixedConfig fixedConfig;
+
+    @Inject
+    HttpClientPool httpClientPool;
+
+    @Inject
+    Vertx vertx;
+
+    void onStart(@Observes StartupEvent event) {
+        final long start = System.currentTimeMillis();
+        final List<Warmup> warmups = new ArrayList<>();
+        for (Entry<String, CxfClientConfig> en : config.clients().entrySet()) {
+            final CxfClientConfig clientConfig = en.getValue();
+            final int warmupConnections = clientConfig.vertx().connectionPool().warmupConnections();
+            if (warmupConnections > 0 && (clientConfig.clientEndpointUrl().isPresent()
+                    || clientConfig.vertx().loadBalancing().addresses().isPresent())) {
+                try {
+                    final Future<Void> result = warmUp(en.getKey(), clientConfig, warmupConnections);
+                    if (result != null) {
+                        final long timeoutMs = clientConfig.vertx().connectionPool().warmupTimeout().toMillis();
+                        warmups.add(new Warmup(en.getKey(), result, start + timeoutMs));
+                    }
+                } catch (Exception e) {
+                    log.warnf(e, "Could not warm up connections of client %s", en.getKey());
+                }
+            }
+        }
+        for (Warmup warmup : warmups) {
+            warmup.await();
+        }
+    }
+
+    /**
+     * @param configKey the client config key
+     * @param clientConfig the client configuration
+     * @param warmupConnections the number of connections to open
+     * @return a {@link Future} completed once the connections are open or {@code null} if the given client does not
+     *         support warming up
+     */
+    Future<Void> warmUp(String configKey, CxfClientConfig clientConfig, int warmupConnections) {
+        final String sei = Optional.ofNullable(fixedConfig.clients().get(configKey))
+                .flatMap(ClientFixedConfig::serviceInterface)
+                .orElse("");
+        final CXFClientInfo clientInfo = new CXFClientInfo(
+                new CXFClientData(null, sei, null, null, false),
+                config,
+                clientConfig,
+                configKey,
+                vertx);
+
+        HTTPConduitImpl conduitImpl = clientInfo.getHttpConduitImpl();
+        if (conduitImpl == null) {
+            conduitImpl = fixedConfig.httpConduitFactory().orElse(HTTPConduitImpl.QuarkusCXFDefault);
+        }
+        if (conduitImpl.resolveDefault() != HTTPConduitImpl.VertxHttpClientHTTPConduitFactory) {
+            log.debugf("Not warming up connections of client %s because it does not use %s", configKey,
+                    HTTPConduitImpl.VertxHttpClientHTTPConduitFactory.name());
+            return null;
+        }
+
+        final HttpVersion version = VertxHttpClientHTTPConduit.toHttpVersion(clientInfo.getVersion(),
+                clientConfig.vertx().http2().autoNegotiate());
+        final PoolOptions poolOptions = new PoolOptions();
+        clientConfig.vertx().connectionPool().configure(poolOptions);
+        final int max = version == HttpVersion.HTTP_2 ? poolOptions.getHttp2MaxSize() : poolOptions.getHttp1MaxSize();
+        final int connections = Math.min(warmupConnections, max);
+
+        final LoadBalancer loadBalancer = httpClientPool.getLoadBalancer(clientInfo);
+        if (loadBalancer != null) {
+            final List<Future<Void>> results = new ArrayList<>();
+            for (LoadBalancer.Target target : loadBalancer.getTargets()) {
+                results.add(warmUp(clientInfo, target, version, target.getUri(), connections));
+            }
+            return Future.join(results).mapEmpty();
+        } else {
+            return warmUp(clientInfo, null, version, URI.create(clientInfo.getEndpointAddress()), connections);
+        }
+    }
+
+    Future<Void> warmUp(CXFClientInfo clientInfo, LoadBalancer.Target target, HttpVersion version, URI uri,
+            int connections) {
+        final String configKey = clientInfo.getConfigKey();
+        log.debugf("Warming up %d connections of client %s to %s", connections, configKey, uri);
+        return httpClientPool.warmUp(
+                clientInfo,
+                target,
+                version,
+                "https".equals(uri.getScheme()) ? clientInfo.getTlsConfiguration() : null,
+                clientInfo.getProxyConfiguration(),
+                uri,
+                connections)
+                .onSuccess(v -> log.debugf("Warmed up %d connections of client %s to %s", connections, configKey, uri))
+                .onFailure(e -> log.warnf(e, "Could not warm up connections of client %s to %s", configKey, uri));
+    }
+
+    record Warmup(String configKey, Future<Void> result, long deadline) {
+
+        /**
+         * Block until {@link #result} is complete or until {@link #deadline}, whichever comes first. Failures are
+         * logged by the {@link Future} itself.
+         */
+        void await() {
+            final long rest = deadline - System.currentTimeMillis();
+            if (rest <= 0 && !result.isComplete()) {
+                log.debugf("Not waiting for the warm up of client %s", configKey);
+                return;
+            }
+            try {
+                result.toCompletionStage().toCompletableFuture().get(Math.max(rest, 0), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                log.warnf("Warming up the connections of client %s did not finish within"
+                        + " quarkus.cxf.client.\"%s\".vertx.connection-pool.warmup-timeout;"
+                        + " the remaining connections are being opened in the background", configKey, configKey);
+            } catch (ExecutionException e) {
+                /* Logged in warmUp() already */
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+}
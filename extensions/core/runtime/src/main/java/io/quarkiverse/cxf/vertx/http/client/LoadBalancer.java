@@ -0,0 +1,309 @@
+package io.quarkiverse.cxf.vertx.http.client;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.quarkiverse.cxf.CxfClientConfig.LoadBalancing;
+import io.quarkiverse.cxf.CxfClientConfig.LoadBalancingStrategy;
+
+/**
+ * Selects the endpoint URL for a request out of
+ * {@code quarkus.cxf.client."client-name".vertx.load-balancing.addresses} according to a
+ * {@link LoadBalancingStrategy}.
+ * <p>
+ * The {@link Target}s are ejected for {@code quarkus.cxf.client."client-name".vertx.load-balancing.ejection-time} after
+ * a connection failure, after a receive timeout or after responding with a status code signalling that the service is
+ * not available. Other failures count as slow responses in the {@link LoadBalancingStrategy#EWMA} statistics.
+ * <p>
+ * Thread safe.
+ */
+public class LoadBalancer {
+    /** The weight of the newest sample in the exponentially weighted moving average of response times */
+    static final double EWMA_ALPHA = 0.3;
+    /** A failed request counts as a response taking at least this many times the current average */
+    static final double FAILURE_PENALTY_FACTOR = 2;
+    /**
+     * The score of a {@link Target} without any samples that has a probe request in flight already; high enough for
+     * any measured {@link Target} to be preferred
+     */
+    static final double UNPROBED_BUSY_SCORE = 1e18;
+
+    private final List<Target> targets;
+    private final LoadBalancingStrategy strategy;
+    private final long ejectionTimeNanos;
+    private final AtomicInteger next = new AtomicInteger();
+
+    LoadBalancer(List<URI> uris, LoadBalancingStrategy strategy, long ejectionTimeNanos) {
+        if (uris.isEmpty()) {
+            throw new IllegalArgumentException("At least one URI required");
+        }
+        final List<Target> ts = new ArrayList<>(uris.size());
+        for (URI uri : uris) {
+            ts.add(new Target(uri));
+        }
+        this.targets = Collections.unmodifiableList(ts);
+        this.strategy = strategy;
+        this.ejectionTimeNanos = ejectionTimeNanos;
+    }
+
+    /**
+     * @param config the load balancing configuration of a client
+     * @return a new {@link LoadBalancer} or {@code null} if no addresses are configured
+     */
+    static LoadBalancer of(LoadBalancing config) {
+        final List<String> addresses = config.addresses().orElse(null);
+        if (addresses == null || addresses.isEmpty()) {
+            return null;
+        }
+        final List<URI> uris = new ArrayList<>(addresses.size());
+        for (String address : addresses) {
+            uris.add(URI.create(address.trim()));
+        }
+        return new LoadBalancer(uris, config.strategy(), config.ejectionTime().toNanos());
+    }
+
+    /**
+     * @return the {@link Target} to send the next request to
+     */
+    public Target select() {
+        return select(System.nanoTime());
+    }
+
+    Target select(long now) {
+        return select(now, null);
+    }
+
+    /**
+     * @param now the current {@link System#nanoTime()}
+     * @param excluded a {@link Target} not to select or {@code null}
+     * @return the best {@link Target} other than {@code excluded} having the same scheme as {@code excluded};
+     *         {@code excluded} itself if there is no such {@link Target} available
+     */
+    Target select(long now, Target excluded) {
+        final int size = targets.size();
+        if (size == 1) {
+            return targets.get(0);
+        }
+        /* Rotating the start position spreads the load also among the equally good targets */
+        final int start = Math.floorMod(next.getAndIncrement(), size);
+        Target best = null;
+        double bestScore = Double.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            final Target t = targets.get((start + i) % size);
+            if (t.isEjected(now)
+                    || (excluded != null && (t == excluded || !t.uri.getScheme().equals(excluded.uri.getScheme())))) {
+                continue;
+            }
+            final double score;
+            switch (strategy) {
+                case ROUND_ROBIN:
+                    return t;
+                case LEAST_IN_FLIGHT:
+                    score = t.inFlight.get();
+                    break;
+                case EWMA:
+                    final double ewma = t.ewmaNanos;
+                    final int inFlight = t.inFlight.get();
+                    if (ewma > 0) {
+                        score = ewma * (inFlight + 1);
+                    } else {
+                        /*
+                         * Targets without any sample score 0 so that they get probed first, but only one probe at a time
+                         * so that a hanging target does not attract all requests
+                         */
+                        score = inFlight == 0 ? 0 : UNPROBED_BUSY_SCORE * inFlight;
+                    }
+                    break;
+                default:
+                    throw new IllegalStateException("Unexpected " + LoadBalancingStrategy.class.getName() + " " + strategy);
+            }
+            if (score < bestScore) {
+                best = t;
+                bestScore = score;
+            }
+        }
+        if (best != null) {
+            return best;
+        }
+        if (excluded != null) {
+            return excluded;
+        }
+        /* All ejected: take the one that will recover first */
+        best = targets.get(0);
+        for (int i = 1; i < size; i++) {
+            final Target t = targets.get(i);
+            if (t.ejectedUntil - best.ejectedUntil < 0) {
+                best = t;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @return an unmodifiable {@link List} of all {@link Target}s of this {@link LoadBalancer}
+     */
+    public List<Target> getTargets() {
+        return targets;
+    }
+
+    /**
+     * A single endpoint URL with its health and load statistics.
+     */
+    public class Target {
+        private final URI uri;
+        private final String origin;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        /*
+         * 0 until the first response or failure arrives; updates may be lost under contention, which is fine for our
+         * purposes
+         */
+        private volatile double ewmaNanos;
+        private volatile boolean ejected;
+        private volatile long ejectedUntil;
+
+        Target(URI uri) {
+            this.uri = uri;
+            final int port = uri.getPort() >= 0 ? uri.getPort() : ("https".equals(uri.getScheme()) ? 443 : 80);
+            this.origin = uri.getScheme() + "://" + uri.getHost() + ":" + port;
+        }
+
+        /**
+         * @return the endpoint URL
+         */
+        public URI getUri() {
+            return uri;
+        }
+
+        /**
+         * @return scheme, host and port of {@link #getUri()}
+         */
+        public String getOrigin() {
+            return origin;
+        }
+
+        /**
+         * @return the number of requests sent to this {@link Target} still awaiting the response headers
+         */
+        public int getInFlight() {
+            return inFlight.get();
+        }
+
+        /**
+         * @return the exponentially weighted moving average of response times in milliseconds
+         */
+        public double getEwmaMillis() {
+            return ewmaNanos / 1_000_000d;
+        }
+
+        /**
+         * @return {@code true} if this {@link Target} is currently ejected
+         */
+        public boolean isEjected() {
+            return isEjected(System.nanoTime());
+        }
+
+        boolean isEjected(long now) {
+            if (!ejected) {
+                return false;
+            }
+            if (now - ejectedUntil < 0) {
+                return true;
+            }
+            ejected = false;
+            return false;
+        }
+
+        void eject(long now) {
+            ejectedUntil = now + ejectionTimeNanos;
+            ejected = true;
+        }
+
+        /**
+         * @return another non-ejected {@link Target} with the same scheme for sending a duplicate request or this
+         *         {@link Target} if there is none
+         */
+        public Target alternative() {
+            return select(System.nanoTime(), this);
+        }
+
+        /**
+         * Must be called before sending a request to this {@link Target}.
+         *
+         * @return a new {@link Call} that must be ended via {@link Call#responded(boolean)},
+         *         {@link Call#failed(boolean)} or {@link Call#cancelled()}
+         */
+        public Call start() {
+            inFlight.incrementAndGet();
+            return new Call(this, System.nanoTime());
+        }
+
+        void end(long startNanos, boolean success, boolean eject) {
+            inFlight.decrementAndGet();
+            final long now = System.nanoTime();
+            if (eject) {
+                eject(now);
+            }
+            final double old = ewmaNanos;
+            final double elapsed = now - startNanos;
+            /* A failure is a penalty sample so that a failing target is not preferred over the healthy ones */
+            final double sample = success ? elapsed : Math.max(elapsed, old * FAILURE_PENALTY_FACTOR);
+            ewmaNanos = old == 0 ? sample : old + EWMA_ALPHA * (sample - old);
+        }
+
+        @Override
+        public String toString() {
+            return uri.toString();
+        }
+    }
+
+    /**
+     * A single request sent to a {@link Target}. Only the first invocation of {@link #responded(boolean)},
+     * {@link #failed(boolean)} or {@link #cancelled()} has an effect.
+     */
+    public static class Call {
+        private final Target target;
+        private final long startNanos;
+        private final AtomicBoolean ended = new AtomicBoolean();
+
+        Call(Target target, long startNanos) {
+            this.target = target;
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * To be called when the response headers arrived.
+         *
+         * @param serviceNotAvailable if {@code true} the {@link Target} will be ejected
+         */
+        public void responded(boolean serviceNotAvailable) {
+            if (ended.compareAndSet(false, true)) {
+                target.end(startNanos, !serviceNotAvailable, serviceNotAvailable);
+            }
+        }
+
+        /**
+         * To be called when the request failed before receiving the response headers.
+         *
+         * @param eject if {@code true} the {@link Target} will be ejected
+         */
+        public void failed(boolean eject) {
+            if (ended.compareAndSet(false, true)) {
+                target.end(startNanos, false, eject);
+            }
+        }
+
+        /**
+         * To be called when the request was reset by the client, e.g. because a hedged request won. No statistics
+         * are recorded.
+         */
+        public void cancelled() {
+            if (ended.compareAndSet(false, true)) {
+                target.inFlight.decrementAndGet();
+            }
+        }
+    }
+}
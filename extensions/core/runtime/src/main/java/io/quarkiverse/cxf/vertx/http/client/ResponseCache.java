@@ -0,0 +1,322 @@
+package io.quarkiverse.cxf.vertx.http.client;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.quarkiverse.cxf.CxfClientConfig.ResponseCacheConfig;
+import io.quarkiverse.cxf.CxfClientConfig.ResponseCacheEviction;
+import io.quarkiverse.cxf.vertx.http.client.VertxHttpClientHTTPConduit.ResponseHead;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * A cache of responses of a single operation of a single client configured via
+ * {@code quarkus.cxf.client."client-name".vertx.response-cache."operation-name".*}.
+ * <p>
+ * With {@link ResponseCacheEviction#LRU}, all entries are kept in a single access-ordered map. With
+ * {@link ResponseCacheEviction#W_TINY_LFU}, new entries enter a small window area first. When they fall out of the
+ * window, they are admitted to the main area only if a {@link FrequencySketch} estimates that they were requested
+ * more often than the least recently used entry of the main area.
+ * <p>
+ * Thread safe.
+ */
+public class ResponseCache {
+    /** The share of {@code max-entries} reserved for the window area of {@link ResponseCacheEviction#W_TINY_LFU} */
+    static final int WINDOW_PERCENT = 1;
+    /** The request headers identifying the caller; they are a part of the cache key */
+    static final List<String> PRINCIPAL_HEADERS = List.of("Authorization", "Proxy-Authorization", "Cookie");
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final long maxEntryBytes;
+    private final long maxBytes;
+
+    /* Guarded by this */
+    private final LinkedHashMap<String, CachedResponse> main = new LinkedHashMap<>(16, 0.75f, true);
+    /* null with LRU eviction */
+    private final LinkedHashMap<String, CachedResponse> window;
+    private final FrequencySketch sketch;
+    private final int windowCapacity;
+    private long bytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    ResponseCache(ResponseCacheConfig config) {
+        this(config.ttl().toNanos(), config.maxEntries(), config.maxEntrySize().asLongValue(),
+                config.maxSize().asLongValue(), config.eviction());
+    }
+
+    ResponseCache(long ttlNanos, int maxEntries, long maxEntryBytes, long maxBytes, ResponseCacheEviction eviction) {
+        this.ttlNanos = ttlNanos;
+        this.maxEntries = maxEntries;
+        this.maxEntryBytes = Math.min(maxEntryBytes, maxBytes);
+        this.maxBytes = maxBytes;
+        if (eviction == ResponseCacheEviction.W_TINY_LFU && maxEntries >= 2) {
+            this.windowCapacity = Math.max(1, maxEntries * WINDOW_PERCENT / 100);
+            this.window = new LinkedHashMap<>(16, 0.75f, true);
+            this.sketch = new FrequencySketch(maxEntries);
+        } else {
+            this.windowCapacity = 0;
+            this.window = null;
+            this.sketch = null;
+        }
+    }
+
+    /**
+     * @param config the response cache configuration of a client
+     * @return an unmodifiable {@link Map} from operation names to new {@link ResponseCache}s; empty if no operations
+     *         are configured
+     */
+    static Map<String, ResponseCache> of(Map<String, ResponseCacheConfig> config) {
+        if (config.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final Map<String, ResponseCache> result = new TreeMap<>();
+        config.forEach((operationName, c) -> result.put(operationName, new ResponseCache(c)));
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * @param uri the endpoint address of the client, not the address selected by load balancing, so that a response
+     *        received from any load balancing target serves the requests sent to any other one
+     * @param headers the request headers
+     * @param body the request body
+     * @return a cache key composed of the given {@code uri} and a SHA-256 hash of the given {@code body} and of the
+     *         {@link #PRINCIPAL_HEADERS} so that a response is never served to another principal
+     */
+    static String key(URI uri, MultiMap headers, Buffer body) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        digest.update(body.getByteBuf().nioBuffer());
+        for (String name : PRINCIPAL_HEADERS) {
+            for (String value : headers.getAll(name)) {
+                /* The separator cannot occur in header names and values */
+                digest.update((byte) 0);
+                digest.update(name.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+                digest.update(value.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return uri + " " + HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * @return the maximum size of a single cached response body in bytes; never greater than the total size limit of
+     *         this cache
+     */
+    long getMaxEntryBytes() {
+        return maxEntryBytes;
+    }
+
+    /**
+     * @param key the key produced by {@link #key(URI, MultiMap, Buffer)}
+     * @return the cached response or {@code null} if there is none or it has expired
+     */
+    CachedResponse get(String key) {
+        return get(key, System.nanoTime());
+    }
+
+    synchronized CachedResponse get(String key, long now) {
+        if (sketch != null) {
+            sketch.increment(key);
+        }
+        LinkedHashMap<String, CachedResponse> segment = main;
+        CachedResponse result = main.get(key);
+        if (result == null && window != null) {
+            segment = window;
+            result = window.get(key);
+        }
+        if (result == null) {
+            misses.increment();
+            return null;
+        }
+        if (now - result.expiresAtNanos() >= 0) {
+            segment.remove(key);
+            bytes -= result.body().length;
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return result;
+    }
+
+    /**
+     * Store the given response unless it is bigger than {@code max-entry-size}. Evict other responses if the total
+     * size of the cached responses gets bigger than {@code max-size}.
+     *
+     * @param key the key produced by {@link #key(URI, MultiMap, Buffer)}
+     * @param head the status and headers of the response
+     * @param body the response body
+     */
+    void put(String key, ResponseHead head, byte[] body) {
+        if (body.length > maxEntryBytes || maxEntries <= 0) {
+            return;
+        }
+        final CachedResponse response = new CachedResponse(head, body, System.nanoTime() + ttlNanos);
+        synchronized (this) {
+            remove(key);
+            bytes += body.length;
+            if (window == null) {
+                main.put(key, response);
+                while (main.size() > maxEntries) {
+                    evictEldest(main);
+                }
+            } else {
+                sketch.increment(key);
+                window.put(key, response);
+                while (window.size() > windowCapacity) {
+                    admit(window);
+                }
+            }
+            while (bytes > maxBytes) {
+                evictEldest(!main.isEmpty() ? main : window);
+            }
+        }
+    }
+
+    /** Move the eldest entry of the window to the main area or evict it */
+    private void admit(LinkedHashMap<String, CachedResponse> win) {
+        final Iterator<Map.Entry<String, CachedResponse>> it = win.entrySet().iterator();
+        final Map.Entry<String, CachedResponse> candidate = it.next();
+        it.remove();
+        if (main.size() < maxEntries - windowCapacity) {
+            main.put(candidate.getKey(), candidate.getValue());
+            return;
+        }
+        final Map.Entry<String, CachedResponse> victim = main.entrySet().iterator().next();
+        if (sketch.frequency(candidate.getKey()) > sketch.frequency(victim.getKey())) {
+            evictEldest(main);
+            main.put(candidate.getKey(), candidate.getValue());
+        } else {
+            bytes -= candidate.getValue().body().length;
+            evictions.increment();
+        }
+    }
+
+    private void evictEldest(LinkedHashMap<String, CachedResponse> segment) {
+        final Iterator<CachedResponse> it = segment.values().iterator();
+        bytes -= it.next().body().length;
+        it.remove();
+        evictions.increment();
+    }
+
+    private void remove(String key) {
+        CachedResponse old = main.remove(key);
+        if (old == null && window != null) {
+            old = window.remove(key);
+        }
+        if (old != null) {
+            bytes -= old.body().length;
+        }
+    }
+
+    /**
+     * @return a snapshot of the statistics of this {@link ResponseCache}
+     */
+    public synchronized Stats getStats() {
+        return new Stats(
+                hits.sum(),
+                misses.sum(),
+                evictions.sum(),
+                main.size() + (window != null ? window.size() : 0),
+                bytes);
+    }
+
+    /**
+     * A cached response.
+     *
+     * @param head the status and headers of the response
+     * @param body the response body
+     * @param expiresAtNanos the {@link System#nanoTime()} after which this response must not be used anymore
+     */
+    static record CachedResponse(ResponseHead head, byte[] body, long expiresAtNanos) {
+    }
+
+    /**
+     * Statistics of a {@link ResponseCache}.
+     *
+     * @param hits the number of requests served from the cache
+     * @param misses the number of requests not found in the cache, including the expired ones
+     * @param evictions the number of responses evicted because the cache was full
+     * @param entries the number of responses currently in the cache
+     * @param bytes the total size of the response bodies currently in the cache
+     */
+    public static record Stats(long hits, long misses, long evictions, int entries, long bytes) {
+        public static final Stats EMPTY = new Stats(0, 0, 0, 0, 0);
+    }
+
+    /**
+     * A count-min sketch of 4-bit counters estimating how often a key was requested. All counters are halved after
+     * {@code 10 * maxEntries} increments, so that the frequencies of the keys not requested anymore decrease over
+     * time.
+     * <p>
+     * Not thread safe.
+     */
+    static class FrequencySketch {
+        private static final int[] SEEDS = { 0x97CB3127, 0xB9F5A51D, 0x2F0B52D3, 0x4F8A6B1F };
+        private static final int MAX_COUNT = 15;
+
+        private final byte[][] rows = new byte[SEEDS.length][];
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int maxEntries) {
+            final int width = Integer.highestOneBit(Math.max(16, maxEntries) - 1) << 1;
+            for (int i = 0; i < rows.length; i++) {
+                rows[i] = new byte[width];
+            }
+            this.mask = width - 1;
+            this.sampleSize = 10 * Math.max(16, maxEntries);
+        }
+
+        void increment(String key) {
+            final int h = key.hashCode();
+            for (int i = 0; i < rows.length; i++) {
+                final int index = index(h, i);
+                if (rows[i][index] < MAX_COUNT) {
+                    rows[i][index]++;
+                }
+            }
+            if (++additions >= sampleSize) {
+                for (byte[] row : rows) {
+                    for (int i = 0; i < row.length; i++) {
+                        row[i] >>>= 1;
+                    }
+                }
+                additions >>>= 1;
+            }
+        }
+
+        int frequency(String key) {
+            final int h = key.hashCode();
+            int result = MAX_COUNT;
+            for (int i = 0; i < rows.length; i++) {
+                result = Math.min(result, rows[i][index(h, i)]);
+            }
+            return result;
+        }
+
+        private int index(int hash, int row) {
+            int x = (hash ^ SEEDS[row]) * 0x9E3779B9;
+            x ^= x >>> 16;
+            return x & mask;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package io.quarkiverse.cxf.vertx.http.client;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+
+import io.vertx.core.MultiMap;
+
+/**
+ * A case-insensitive {@code Map<String, List<String>>} view of the {@link MultiMap} headers of a Vert.x HTTP response
+ * suitable for storing under {@code Message.PROTOCOL_HEADERS}.
+ * <p>
+ * Single-key lookups such as {@link #get(Object)} and {@link #containsKey(Object)} are served directly by the
+ * underlying {@link MultiMap}. The headers are copied to a case-insensitive {@link TreeMap} only when the whole map is
+ * iterated over or when the map is modified. {@link #get(Object)} copies just the values of the given header, once: the
+ * list is kept and returned by the subsequent lookups of the same header and it becomes the value of the header when
+ * the map is copied, so that modifying it modifies this map.
+ * <p>
+ * Not thread safe.
+ */
+final class ResponseHeaders extends AbstractMap<String, List<String>> {
+
+    private final MultiMap headers;
+
+    /* null until the first bulk read or write */
+    private Map<String, List<String>> materialized;
+
+    /* The lists returned by get() before materialization; null until the first get() */
+    private Map<String, List<String>> fetched;
+
+    ResponseHeaders(MultiMap headers) {
+        this.headers = headers;
+    }
+
+    @Override
+    public List<String> get(Object key) {
+        if (materialized != null) {
+            return materialized.get(key);
+        }
+        if (!(key instanceof String)) {
+            return null;
+        }
+        if (fetched != null) {
+            final List<String> result = fetched.get(key);
+            if (result != null) {
+                return result;
+            }
+        } else {
+            fetched = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        }
+        final List<String> values = headers.getAll((String) key);
+        if (values.isEmpty()) {
+            return null;
+        }
+        final List<String> result = new ArrayList<>(values);
+        fetched.put((String) key, result);
+        return result;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (materialized != null) {
+            return materialized.containsKey(key);
+        }
+        return key instanceof String && headers.contains((String) key);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return materialized != null ? materialized.isEmpty() : headers.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return materialized != null ? materialized.size() : headers.names().size();
+    }
+
+    @Override
+    public List<String> put(String key, List<String> value) {
+        return materialize().put(key, value);
+    }
+
+    @Override
+    public List<String> remove(Object key) {
+        return materialize().remove(key);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends List<String>> m) {
+        materialize().putAll(m);
+    }
+
+    @Override
+    public void clear() {
+        materialize().clear();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return materialize().keySet();
+    }
+
+    @Override
+    public Collection<List<String>> values() {
+        return materialize().values();
+    }
+
+    @Override
+    public Set<Entry<String, List<String>>> entrySet() {
+        return materialize().entrySet();
+    }
+
+    /**
+     * @return {@code true} if the headers were copied from the underlying {@link MultiMap}
+     */
+    boolean isMaterialized() {
+        return materialized != null;
+    }
+
+    private Map<String, List<String>> materialize() {
+        Map<String, List<String>> result = materialized;
+        if (result == null) {
+            result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            for (Entry<String, String> en : headers.entries()) {
+                result.computeIfAbsent(en.getKey(), k -> new ArrayList<>()).add(en.getValue());
+            }
+            if (fetched != null) {
+                /* Keep the lists handed out by get() including any modifications done to them */
+                result.putAll(fetched);
+                fetched = null;
+            }
+            materialized = result;
+        }
+        return result;
+    }
+
+}
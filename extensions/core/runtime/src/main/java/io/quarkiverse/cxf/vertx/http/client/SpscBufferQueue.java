@@ -0,0 +1,182 @@
+package io.quarkiverse.cxf.vertx.http.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * A lock-free single-producer/single-consumer queue of {@link Buffer}s backed by a ring array.
+ * <p>
+ * {@link #offer(Buffer)} must only be called from a single producer thread (typically the event loop) and
+ * {@link #poll()}, {@link #poll(long, TimeUnit)} and {@link #bytes()} must only be called from a single consumer
+ * thread. {@link #size()} can be called from both.
+ * <p>
+ * The queue is unbounded: when the ring is full, the producer links a new ring of double size and leaves a
+ * {@link #JUMP} marker in the old one, so that the consumer knows where to continue. One slot of each ring is always
+ * kept empty so that the producer can tell a full ring from an empty one just by looking at the next slot.
+ * <p>
+ * The number of elements and the number of data bytes in the queue are tracked by running counters, each written by
+ * a single thread, so that {@link #size()} and {@link #bytes()} are O(1).
+ */
+final class SpscBufferQueue {
+
+    /** Marks the slot after which the consumer has to continue in {@link Ring#next} */
+    private static final Buffer JUMP = new ErrorBuffer();
+
+    /* Read and written from the producer thread */
+    private Ring producerRing;
+    private long producerIndex;
+
+    /* Read and written from the consumer thread */
+    private Ring consumerRing;
+    private long consumerIndex;
+
+    /* Written from the producer thread, read from the consumer thread */
+    private volatile long offered;
+    private volatile long offeredBytes;
+
+    /* Written from the consumer thread, read from the producer thread */
+    private volatile long taken;
+    private long takenBytes;
+
+    /* The consumer thread parked in poll(long, TimeUnit) or null */
+    private volatile Thread waiter;
+
+    SpscBufferQueue(int initialCapacity) {
+        /* + 1 for the slot that is kept empty */
+        final int capacity = Integer.highestOneBit(Math.max(initialCapacity + 1, 2) - 1) << 1;
+        this.producerRing = this.consumerRing = new Ring(capacity);
+    }
+
+    /**
+     * Add the given {@link Buffer} to the tail of this queue and wake up the consumer, if it is waiting. Never blocks.
+     * Must only be called from the producer thread.
+     *
+     * @param buffer the {@link Buffer} to add
+     */
+    void offer(Buffer buffer) {
+        final Ring ring = producerRing;
+        final long i = producerIndex;
+        final int index = (int) i & ring.mask;
+        if (ring.slots.get((int) (i + 1) & ring.mask) == null) {
+            ring.slots.lazySet(index, buffer);
+            producerIndex = i + 1;
+        } else {
+            /* The ring is full */
+            final Ring next = new Ring(ring.slots.length() << 1);
+            next.slots.lazySet(0, buffer);
+            ring.next = next;
+            /* The slot at index is always free - we have checked that before writing to the previous slot */
+            ring.slots.lazySet(index, JUMP);
+            producerRing = next;
+            producerIndex = 1;
+        }
+        /* Both the slot and ring.next are published by the following volatile writes */
+        offeredBytes = offeredBytes + dataLength(buffer);
+        offered = offered + 1;
+
+        final Thread w = waiter;
+        if (w != null) {
+            LockSupport.unpark(w);
+        }
+    }
+
+    /**
+     * Must only be called from the consumer thread.
+     *
+     * @return the head of this queue or {@code null} if the queue is empty
+     */
+    Buffer poll() {
+        final long t = taken;
+        if (t == offered) {
+            return null;
+        }
+        Ring ring = consumerRing;
+        int index = (int) consumerIndex & ring.mask;
+        Buffer result = ring.slots.get(index);
+        if (result == JUMP) {
+            consumerRing = ring = ring.next;
+            consumerIndex = index = 0;
+            result = ring.slots.get(0);
+        }
+        ring.slots.lazySet(index, null);
+        consumerIndex++;
+        takenBytes += dataLength(result);
+        taken = t + 1;
+        return result;
+    }
+
+    /**
+     * Retrieve and remove the head of this queue, waiting up to the given timeout for an element to become available.
+     * Must only be called from the consumer thread.
+     *
+     * @param timeout how long to wait
+     * @param unit the unit of {@code timeout}
+     * @return the head of this queue or {@code null} if no element became available before the timeout elapsed
+     * @throws InterruptedException if the current thread was interrupted while waiting
+     */
+    Buffer poll(long timeout, TimeUnit unit) throws InterruptedException {
+        Buffer result = poll();
+        if (result != null) {
+            return result;
+        }
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        /*
+         * Setting waiter before re-checking the queue in poll() pairs with offer() writing offered before reading
+         * waiter, so that either we see the new element or the producer sees us and unparks us
+         */
+        waiter = Thread.currentThread();
+        try {
+            while ((result = poll()) == null) {
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0L) {
+                    return null;
+                }
+                LockSupport.parkNanos(this, remaining);
+            }
+            return result;
+        } finally {
+            waiter = null;
+        }
+    }
+
+    /**
+     * @return the number of elements in this queue
+     */
+    int size() {
+        /* Read taken first so that the result is never negative */
+        final long t = taken;
+        return (int) (offered - t);
+    }
+
+    /**
+     * Must only be called from the consumer thread.
+     *
+     * @return the number of data bytes in this queue, not counting any {@link ErrorBuffer}s
+     */
+    long bytes() {
+        return offeredBytes - takenBytes;
+    }
+
+    private static int dataLength(Buffer buffer) {
+        return buffer instanceof ErrorBuffer ? 0 : buffer.length();
+    }
+
+    static final class Ring {
+        private final AtomicReferenceArray<Buffer> slots;
+        private final int mask;
+        /* Written by the producer before publishing the JUMP marker, read by the consumer after seeing it */
+        private Ring next;
+
+        Ring(int capacity) {
+            this.slots = new AtomicReferenceArray<>(capacity);
+            this.mask = capacity - 1;
+        }
+    }
+
+}
@@ -1,15 +1,20 @@
 package io.quarkiverse.cxf.vertx.http.client;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.jboss.logging.Logger;
 
 import io.vertx.core.Closeable;
-import io.vertx.core.CompositeFuture;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
@@ -24,6 +29,26 @@ public class TempStore {
     private static final long MIN_DELAY = 2000; /* 2 seconds */
     public static final String CONTEXT_KEY = TempStore.class.getName();
 
+    /* Gauges over all TempStores */
+    private static final AtomicLong files = new AtomicLong();
+    private static final AtomicLong bytes = new AtomicLong();
+
+    /**
+     * @return a snapshot of the number of temporary files and their size over all {@link TempStore}s
+     */
+    public static Stats getStats() {
+        return new Stats(files.get(), bytes.get());
+    }
+
+    /**
+     * Statistics of temporary files.
+     *
+     * @param files the number of temporary files leased and not deleted yet
+     * @param bytes the number of bytes written to the temporary files that were not deleted yet
+     */
+    public static record Stats(long files, long bytes) {
+    }
+
     /**
      *
      * @param ctx the {@link Context} to bind the returned {@link InitializedTempStore} to
@@ -130,14 +155,18 @@ public class TempStore {
         /* Read/written from a single specific thread */
         private int counter = 0;
 
+        /* Read/written from a single specific thread; close() hops to that thread too */
+        private long timerId = -1;
         /*
-         * Typically read/written from a single specific thread
-         * but the cleaning ops on close, can be done from another thread, such as main.
-         * We are deliberately not making it volatile for that case,
-         * because we hold race conditions after close for highly unlikely
+         * Ordered by creation time and thus also by TempPath.gcTime because fileDelayMs is constant
+         * Read/written from a single specific thread; close() hops to that thread too
          */
-        private long timerId = -1;
-        private List<TempPath> tempFiles = new CopyOnWriteArrayList<>();
+        private LinkedHashSet<TempPath> tempFiles = new LinkedHashSet<>();
+        /*
+         * Stale paths whose deletion failed; retried by the next gc()
+         * Read/written from a single specific thread; close() hops to that thread too
+         */
+        private final Set<TempPath> undeleted = new LinkedHashSet<>();
 
         InitializedTempStore(ContextInternal ctx, Path directory, long gcDelayMs, long fileDelayMs, boolean gcOnShutDown) {
             super();
@@ -172,6 +201,7 @@ public class TempStore {
                         directory.resolve(prefix + (counter++)),
                         System.currentTimeMillis() + fileDelayMs);
                 tempFiles.add(newPath);
+                files.incrementAndGet();
                 if (fileDelayMs >= MIN_DELAY && timerId < 0) {
                     timerId = ctx.owner().setPeriodic(gcDelayMs, tid -> gc());
                 }
@@ -187,26 +217,77 @@ public class TempStore {
                     assert Thread.currentThread().getName().equals(threadName)
                             : "Expected " + threadName + "; found " + Thread.currentThread().getName();
 
-                    if (tempFiles != null) {
-                        delete(new ArrayList<>(tempFiles), System.currentTimeMillis())
-                                .onSuccess(dels -> log.debugf("Gc'd %d temporary files in TempStore %s/%s*", dels.size(),
+                    final LinkedHashSet<TempPath> tfs = tempFiles;
+                    if (tfs != null) {
+                        /* Collect the stale paths from the head of the time ordered index */
+                        final long now = System.currentTimeMillis();
+                        final List<TempPath> stale = new ArrayList<>(undeleted);
+                        undeleted.clear();
+                        final Iterator<TempPath> it = tfs.iterator();
+                        while (it.hasNext()) {
+                            final TempPath path = it.next();
+                            if (path.gcTime > now) {
+                                break;
+                            }
+                            it.remove();
+                            stale.add(path);
+                        }
+                        delete(stale)
+                                .onSuccess(dels -> log.debugf("Gc'd %d temporary files in TempStore %s/%s*", dels,
                                         directory, prefix))
                                 .onFailure(e -> log.errorf(e, "Could not gc some temporary files in TempStore %s/%s*",
-                                        directory, prefix));
+                                        directory, prefix))
+                                .onComplete(ar -> retryLater(stale));
                     }
                 });
             }
         }
 
+        /**
+         * Keep the paths whose deletion failed so that the next {@link #gc()} retries deleting them. Must be called on
+         * {@link #ctx}.
+         *
+         * @param paths the paths passed to {@link #delete(List)}
+         */
+        void retryLater(List<TempPath> paths) {
+            if (tempFiles == null) {
+                /* Closed meanwhile */
+                return;
+            }
+            for (TempPath path : paths) {
+                if (!path.deleted.get()) {
+                    undeleted.add(path);
+                }
+            }
+            if (!undeleted.isEmpty()) {
+                log.debugf("Will retry deleting %d temporary files in TempStore %s/%s* on next gc", undeleted.size(),
+                        directory, prefix);
+            }
+        }
+
         @Override
         public void close(Promise<Void> completion) {
+            if (ctx.isRunningOnContext()) {
+                doClose(completion);
+            } else {
+                /* tempFiles is not thread safe, so we need to access it from the thread owning it */
+                ctx.runOnContext(v -> doClose(completion));
+            }
+        }
+
+        void doClose(Promise<Void> completion) {
+            assert Thread.currentThread().getName().equals(threadName)
+                    : "Expected " + threadName + "; found " + Thread.currentThread().getName();
+
             if (timerId >= 0) {
                 ctx.owner().cancelTimer(timerId);
                 timerId = -1;
             }
             ctx.contextData().remove(CONTEXT_KEY);
             if (tempFiles != null) {
-                final List<TempPath> tempFiles = this.tempFiles;
+                final List<TempPath> tempFiles = new ArrayList<>(undeleted);
+                tempFiles.addAll(this.tempFiles);
+                undeleted.clear();
                 this.tempFiles = null; // disallow adding new files
                 if (!gcOnShutDown) {
                     log.debugf("Skipping deletion of %d temporary files in TempStore %s/%s* on close", tempFiles.size(),
@@ -215,9 +296,9 @@ public class TempStore {
                     completion.complete();
                     return;
                 }
-                delete(tempFiles, 0 /* 0 to delete all files immediately */)
+                delete(tempFiles)
                         .onSuccess(dels -> {
-                            log.debugf("Deleted %d files on close in TempStore %s/%s*", dels.size(), directory,
+                            log.debugf("Deleted %d files on close in TempStore %s/%s*", dels, directory,
                                     prefix);
                             completion.complete();
                         })
@@ -233,40 +314,35 @@ public class TempStore {
             }
         }
 
-        CompositeFuture delete(final List<TempPath> tempFiles, long currentTimeMillis) {
-            final List<Future<Void>> deletions = new ArrayList<>(tempFiles.size());
-            for (TempPath path : tempFiles) {
-                if (path.gcTime >= currentTimeMillis) {
-                    deletions.add(ctx.owner().fileSystem()
-                            .exists(path.path.toString())
-                            .compose(
-                                    exists -> {
-                                        if (exists) {
-                                            return ctx.owner().fileSystem()
-                                                    .delete(path.path.toString())
-                                                    .andThen(ar -> {
-                                                        if (ar.succeeded()) {
-                                                            log.debugf("Deleted temporary file %s", path.path);
-                                                        } else {
-                                                            log.warnf(ar.cause(), "Could not delete temporary file %s",
-                                                                    path.path);
-                                                        }
-                                                    });
-                                        } else {
-                                            log.debugf("Temporary file %s did not exist when attempting to delete it",
-                                                    path.path);
-                                            return Future.succeededFuture();
-                                        }
-                                    }));
-                }
+        /**
+         * Delete the given paths in a single blocking task.
+         *
+         * @param paths the paths to delete; they must have been removed from {@link #tempFiles} already
+         * @return a {@link Future} holding the number of deleted files
+         */
+        Future<Integer> delete(final List<TempPath> paths) {
+            if (paths.isEmpty()) {
+                return Future.succeededFuture(0);
             }
-            return Future.all(deletions);
+            return ctx.executeBlocking(() -> {
+                int deleted = 0;
+                for (TempPath path : paths) {
+                    if (path.delete()) {
+                        deleted++;
+                    }
+                }
+                return deleted;
+            }, false);
         }
 
         public class TempPath {
             private final Path path;
             /** Unix era time at or after which this {@link TempPath} can be deleted */
             private final long gcTime;
+            /* Written from a single specific thread, read when deleting */
+            private volatile long size = 0;
+            /* Set by the first delete() call so that the gauges get decremented only once */
+            private final AtomicBoolean deleted = new AtomicBoolean();
 
             public TempPath(Path path, long gcTime) {
                 super();
@@ -274,34 +350,62 @@ public class TempStore {
                 this.gcTime = gcTime;
             }
 
+            /**
+             * Record that the given number of bytes was written to this {@link TempPath}.
+             *
+             * @param byteCount the number of bytes written
+             */
+            public void written(long byteCount) {
+                size += byteCount;
+                bytes.addAndGet(byteCount);
+            }
+
+            /**
+             * Remove this {@link TempPath} from the index of its {@link InitializedTempStore} and delete the underlying
+             * file immediately. If the deletion fails, it is retried by the next {@link InitializedTempStore#gc()}.
+             *
+             * @return a {@link Future} completed once the file is deleted
+             */
             public Future<Void> discard() {
-                final String p = path.toString();
-                final FileSystem fs = ctx.owner().fileSystem();
-                return fs
-                        .exists(p)
-                        .compose(exists -> {
-                            if (exists) {
-                                return fs
-                                        .delete(p)
-                                        .andThen(ar -> {
-                                            if (ar.succeeded()) {
-                                                log.debugf("Deleted temporary file %s", p);
-                                            } else {
-                                                log.warnf(ar.cause(), "Could not delete temporary file %s", p);
-                                            }
-                                        });
-                            } else {
-                                log.debugf("Temporary file %s did not exist when attempting to delete it", p);
-                                return Future.succeededFuture();
-                            }
-                        })
-                        .andThen(f -> {
-                            final List<TempPath> tfs = tempFiles;
-                            /* tempFiles can be null when TempStore.close() was called */
-                            if (tfs != null) {
-                                tfs.remove(this);
-                            }
-                        });
+                final LinkedHashSet<TempPath> tfs = tempFiles;
+                /* tempFiles can be null when TempStore.close() was called */
+                if (tfs != null) {
+                    tfs.remove(this);
+                }
+                if (deleted.get()) {
+                    /* Deleted by gc() already */
+                    return Future.succeededFuture();
+                }
+                return delete(List.of(this))
+                        .onComplete(ar -> retryLater(List.of(this)))
+                        .mapEmpty();
+            }
+
+            /**
+             * Delete the underlying file. This is a blocking operation.
+             *
+             * @return {@code true} if the file existed and was deleted
+             */
+            boolean delete() {
+                if (!deleted.compareAndSet(false, true)) {
+                    return false;
+                }
+                try {
+                    final boolean result = Files.deleteIfExists(path);
+                    if (result) {
+                        log.debugf("Deleted temporary file %s", path);
+                    } else {
+                        log.debugf("Temporary file %s did not exist when attempting to delete it", path);
+                    }
+                    files.decrementAndGet();
+                    bytes.addAndGet(-size);
+                    return result;
+                } catch (IOException e) {
+                    log.warnf(e, "Could not delete temporary file %s", path);
+                    /* Allow retrying */
+                    deleted.set(false);
+                    return false;
+                }
             }
 
             public Path getPath() {
@@ -21,6 +21,7 @@ package io.quarkiverse.cxf.vertx.http.client;
 
 import static io.vertx.core.http.HttpHeaders.CONTENT_LENGTH;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -28,7 +29,6 @@ import java.io.PushbackInputStream;
 import java.net.HttpURLConnection;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -37,8 +37,8 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
@@ -58,6 +58,7 @@ import org.apache.cxf.message.Message;
 import org.apache.cxf.message.MessageImpl;
 import org.apache.cxf.message.MessageUtils;
 import org.apache.cxf.phase.PhaseInterceptorChain;
+import org.apache.cxf.service.model.BindingOperationInfo;
 import org.apache.cxf.service.model.EndpointInfo;
 import org.apache.cxf.transport.Conduit;
 import org.apache.cxf.transport.MessageObserver;
@@ -73,9 +74,14 @@ import org.apache.cxf.transports.http.configuration.HTTPClientPolicy;
 import org.apache.cxf.version.Version;
 import org.apache.cxf.ws.addressing.EndpointReferenceType;
 import org.eclipse.microprofile.context.ManagedExecutor;
+import org.eclipse.microprofile.context.ThreadContext;
 import org.jboss.logging.Logger;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
 import io.quarkiverse.cxf.CXFClientInfo;
+import io.quarkiverse.cxf.ClientDispatch;
 import io.quarkiverse.cxf.QuarkusCxfUtils;
 import io.quarkiverse.cxf.QuarkusTLSClientParameters;
 import io.quarkiverse.cxf.vertx.http.client.BodyRecorder.BodyWriter;
@@ -86,13 +92,14 @@ import io.quarkus.arc.InstanceHandle;
 import io.quarkus.proxy.ProxyConfiguration;
 import io.quarkus.runtime.BlockingOperationControl;
 import io.quarkus.tls.TlsConfiguration;
+import io.quarkus.virtual.threads.VirtualThreadsRecorder;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
 import io.vertx.core.buffer.Buffer;
-import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.ConnectionPoolTooBusyException;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpClientResponse;
 import io.vertx.core.http.HttpHeaders;
@@ -139,7 +146,14 @@ public class VertxHttpClientHTTPConduit extends HTTPConduit {
     protected void setupConnection(Message message, Address address, HTTPClientPolicy csPolicy) throws IOException {
         final RequestOptions requestOptions = new RequestOptions();
 
-        final URI uri = address.getURI();
+        final LoadBalancer loadBalancer = httpClientPool.getLoadBalancer(clientInfo);
+        final LoadBalancer.Target target = loadBalancer != null ? loadBalancer.select() : null;
+        final URI uri = target != null ? target.getUri() : address.getURI();
+        final boolean twoWay = message.getExchange() != null && !message.getExchange().isOneWay();
+        final String operationName = twoWay ? operationName(message) : null;
+        final Hedging hedging = httpClientPool.getHedging(clientInfo);
+        final Hedging.Operation hedgedOperation = hedging != null ? hedging.getOperation(operationName) : null;
+        final ResponseCache responseCache = httpClientPool.getResponseCache(clientInfo, operationName);
         final String scheme = uri.getScheme();
         message.put("http.scheme", scheme);
 
@@ -158,10 +172,13 @@ public class VertxHttpClientHTTPConduit extends HTTPConduit {
                             + " You need to offload the blocking CXF client call to a worker thread,"
                             + " e.g. by using the @io.smallrye.common.annotation.Blocking annotation on a caller method"
                             + " where it is supported by the underlying Quarkus extension, such as quarkus-rest, quarkus-vertx,"
-                            + " quarkus-reactive-routes, quarkus-grpc, quarkus-messaging-* and possibly others.");
+                            + " quarkus-reactive-routes, quarkus-grpc, quarkus-messaging-* and possibly others."
+                            + " Alternatively, you can annotate the caller method with"
+                            + " @io.smallrye.common.annotation.RunOnVirtualThread or use the asynchronous variant"
+                            + " of the service method.");
         }
 
-        final HttpVersion version = getVersion(message, csPolicy);
+        final HttpVersion version = getVersion(message, csPolicy, clientInfo.getVertxConfig().http2().autoNegotiate());
         final boolean isHttps = "https".equals(uri.getScheme());
         final QuarkusTLSClientParameters clientParameters;
         if (isHttps) {
@@ -184,41 +201,64 @@ public class VertxHttpClientHTTPConduit extends HTTPConduit {
             clientParameters = null;
         }
 
-        final String query = uri.getQuery();
-        final String pathAndQuery = query != null && !query.isEmpty()
-                ? uri.getPath() + "?" + query
-                : uri.getPath();
         requestOptions
                 .setMethod(method)
-                .setHost(uri.getHost())
-                .setURI(pathAndQuery)
                 .setConnectTimeout(determineConnectionTimeout(message, csPolicy));
-
-        final int port = uri.getPort();
-        if (port >= 0) {
-            /* Port was set explicitly */
-            requestOptions.setPort(uri.getPort());
-        } else if (isHttps) {
-            requestOptions.setPort(443);
-        } else {
-            requestOptions.setPort(80);
-        }
+        setUri(requestOptions, uri);
 
         final RequestContext requestContext = new RequestContext(
                 clientInfo,
                 uri,
+                address.getURI(),
                 requestOptions,
                 version,
                 clientParameters != null ? clientParameters.getTlsConfiguration() : null,
                 proxyConfiguration,
                 determineReceiveTimeout(message, csPolicy),
                 isAsync,
+                /* An async call on the event loop in event-loop dispatch mode: we must not block anywhere */
+                isAsync && !blockingAllowed && clientInfo.getAsyncDispatch() == ClientDispatch.EVENT_LOOP,
                 csPolicy.getMaxRetransmits(),
-                csPolicy.isAutoRedirect());
+                csPolicy.isAutoRedirect(),
+                target,
+                hedgedOperation,
+                responseCache);
         message.put(RequestContext.class, requestContext);
 
     }
 
+    /**
+     * Set host, port and path with query of the given {@link URI} on the given {@link RequestOptions}.
+     *
+     * @param requestOptions the {@link RequestOptions} to modify
+     * @param uri the {@link URI} to take the values from
+     */
+    static void setUri(RequestOptions requestOptions, URI uri) {
+        final String query = uri.getQuery();
+        final String pathAndQuery = query != null && !query.isEmpty()
+                ? uri.getPath() + "?" + query
+                : uri.getPath();
+        requestOptions
+                .setHost(uri.getHost())
+                .setURI(pathAndQuery);
+
+        final int port = uri.getPort();
+        if (port >= 0) {
+            /* Port was set explicitly */
+            requestOptions.setPort(uri.getPort());
+        } else if ("https".equals(uri.getScheme())) {
+            requestOptions.setPort(443);
+        } else {
+            requestOptions.setPort(80);
+        }
+    }
+
+    static String operationName(Message message) {
+        final Exchange exchange = message.getExchange();
+        final BindingOperationInfo boi = exchange != null ? exchange.getBindingOperationInfo() : null;
+        return boi != null ? boi.getName().getLocalPart() : null;
+    }
+
     private static void validateClientParameters(QuarkusTLSClientParameters clientParameters) {
         if (clientParameters.getSSLSocketFactory() != null) {
             throw new IllegalStateException(VertxHttpClientHTTPConduit.class.getName()
@@ -263,14 +303,47 @@ public class VertxHttpClientHTTPConduit extends HTTPConduit {
                 requestContext.receiveTimeoutMs,
                 responseHandler,
                 requestContext.async,
+                requestContext.nonBlocking,
                 requestContext.autoRedirect || (authSupp != null && authSupp.requiresRequestCaching()),
                 requestContext.maxRetransmits,
                 getAuthorization(),
-                authSupp);
-        return new RequestBodyOutputStream(chunkThreshold, requestBodyHandler);
+                authSupp,
+                requestContext.target,
+                requestContext.hedgedOperation,
+                requestContext.responseCache,
+                requestContext.endpointUri);
+        /*
+         * In non-blocking mode, we cannot wait for the connection before sending the second chunk,
+         * so we send the whole body at once. The response cache needs the whole body for computing the key
+         */
+        final RequestBodyOutputStream out = new RequestBodyOutputStream(
+                requestContext.nonBlocking || requestContext.responseCache != null ? 0 : chunkThreshold,
+                requestBodyHandler);
+        message.put(RequestBodyOutputStream.class, out);
+        return out;
+    }
+
+    @Override
+    public void close(Message msg) throws IOException {
+        if (msg.getContent(Exception.class) != null) {
+            final RequestBodyOutputStream out = msg.get(RequestBodyOutputStream.class);
+            if (out != null && out.abort()) {
+                /* Do not send a partially written body; super.close() would do so by closing the stream */
+                log.debugf("Aborted sending the request body to %s", msg.get(Message.ENDPOINT_ADDRESS));
+            }
+        }
+        super.close(msg);
     }
 
-    static HttpVersion getVersion(Message message, HTTPClientPolicy csPolicy) {
+    /**
+     * @param message the current {@link Message}
+     * @param csPolicy the {@link HTTPClientPolicy}
+     * @param autoHttp2 if {@code true} then {@code auto} resolves to {@link HttpVersion#HTTP_2} which falls back to
+     *        {@link HttpVersion#HTTP_1_1} through ALPN or h2c upgrade; otherwise {@code auto} resolves to
+     *        {@link HttpVersion#HTTP_1_1}
+     * @return the {@link HttpVersion} to use
+     */
+    static HttpVersion getVersion(Message message, HTTPClientPolicy csPolicy, boolean autoHttp2) {
         String verc = (String) message.getContextualProperty(FORCE_HTTP_VERSION);
         final Object enableHttp2 = message.getContextualProperty(ENABLE_HTTP2);
         if (verc == null && enableHttp2 != null) {
@@ -279,6 +352,16 @@ public class VertxHttpClientHTTPConduit extends HTTPConduit {
         if (verc == null) {
             verc = csPolicy.getVersion();
         }
+        return toHttpVersion(verc, autoHttp2);
+    }
+
+    /**
+     * @param verc the HTTP version as specified via {@code quarkus.cxf.client."client-name".version}; {@code null}
+     *        means {@code 1.1}
+     * @param autoHttp2 see {@link #getVersion(Message, HTTPClientPolicy, boolean)}
+     * @return the {@link HttpVersion} to use
+     */
+    public static HttpVersion toHttpVersion(String verc, boolean autoHttp2) {
         if (verc == null) {
             verc = "1.1";
         }
@@ -286,7 +369,9 @@ public class VertxHttpClientHTTPConduit extends HTTPConduit {
             case "2": {
                 yield HttpVersion.HTTP_2;
             }
-            case "auto":
+            case "auto": {
+                yield autoHttp2 ? HttpVersion.HTTP_2 : HttpVersion.HTTP_1_1;
+            }
             case "1.1": {
                 yield HttpVersion.HTTP_1_1;
             }
@@ -343,20 +428,42 @@ public class VertxHttpClientHTTPConduit extends HTTPConduit {
         super.setTlsClientParameters(params);
     }
 
+    /**
+     * @param uri the URI to send the request to; possibly selected by load balancing
+     * @param endpointUri the endpoint address of the client
+     */
     static record RequestContext(
             CXFClientInfo clientInfo,
             URI uri,
+            URI endpointUri,
             RequestOptions requestOptions,
             HttpVersion version,
             TlsConfiguration tlsConfiguration,
             ProxyConfiguration proxyConfiguration,
             long receiveTimeoutMs,
             boolean async,
+            boolean nonBlocking,
             int maxRetransmits,
-            boolean autoRedirect) {
+            boolean autoRedirect,
+            LoadBalancer.Target target,
+            Hedging.Operation hedgedOperation,
+            ResponseCache responseCache) {
     }
 
-    static record RequestBodyEvent(Buffer buffer, RequestBodyEventType eventType) {
+    /**
+     * @param byteBuf a pooled {@link ByteBuf} holding the data; the receiver of the event owns it and is responsible
+     *        for releasing it
+     * @param eventType the type of the event
+     */
+    static record RequestBodyEvent(ByteBuf byteBuf, RequestBodyEventType eventType) {
+
+        /**
+         * @return a {@link Buffer} view of {@link #byteBuf} not changing its reference count
+         */
+        Buffer buffer() {
+            return Buffer.buffer(byteBuf);
+        }
+
         public enum RequestBodyEventType {
             NON_FINAL_CHUNK(false),
             FINAL_CHUNK(true),
@@ -374,8 +481,13 @@ public class VertxHttpClientHTTPConduit extends HTTPConduit {
         };
     }
 
+    /**
+     * Collects the request body in pooled, direct where possible, {@link ByteBuf}s and passes them to
+     * {@code bodyHandler} either in chunks of {@code chunkSize} or all at once on {@link #close()}.
+     */
     static class RequestBodyOutputStream extends OutputStream {
-        private Buffer buffer;
+        /* Allocated lazily on first write so that a stream never written to does not hold a pooled buffer */
+        private ByteBuf buffer;
         private final int chunkSize;
         private final IOEHandler<RequestBodyEvent> bodyHandler;
         private boolean closed = false;
@@ -391,41 +503,62 @@ public class VertxHttpClientHTTPConduit extends HTTPConduit {
         public RequestBodyOutputStream(int chunkSize, IOEHandler<RequestBodyEvent> bodyHandler) {
             this.chunkSize = chunkSize;
             this.bodyHandler = bodyHandler;
-            this.buffer = Buffer.buffer(chunkSize);
+        }
+
+        static ByteBuf newBuffer(int chunkSize) {
+            return chunkSize > 0
+                    ? PooledByteBufAllocator.DEFAULT.ioBuffer(chunkSize)
+                    : PooledByteBufAllocator.DEFAULT.ioBuffer();
+        }
+
+        private ByteBuf buffer() throws IOException {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+            ByteBuf buf = buffer;
+            if (buf == null) {
+                buffer = buf = newBuffer(chunkSize);
+            }
+            return buf;
         }
 
         @Override
         public void write(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return;
+            }
             if (chunkSize > 0) {
                 int remainingCapacity;
-                while ((remainingCapacity = chunkSize - buffer.length()) < len) {
+                while ((remainingCapacity = chunkSize - buffer().readableBytes()) < len) {
                     /* Split the bytes */
-                    buffer.appendBytes(b, off, remainingCapacity);
+                    buffer.writeBytes(b, off, remainingCapacity);
                     off += remainingCapacity;
                     len -= remainingCapacity;
-                    final Buffer buf = buffer;
-                    bodyHandler.handle(new RequestBodyEvent(buf, RequestBodyEventType.NON_FINAL_CHUNK));
-                    firstChunkSent = true;
-                    buffer = Buffer.buffer(chunkSize);
+                    sendChunk();
                 }
             }
 
             if (len > 0) {
                 /* Write the rest */
-                buffer.appendBytes(b, off, len);
+                buffer().writeBytes(b, off, len);
             }
 
         }
 
         @Override
         public void write(int b) throws IOException {
-            if (chunkSize > 0 && buffer.length() == chunkSize) {
-                final Buffer buf = buffer;
-                bodyHandler.handle(new RequestBodyEvent(buf, RequestBodyEventType.NON_FINAL_CHUNK));
-                firstChunkSent = true;
-                buffer = Buffer.buffer(chunkSize);
+            if (chunkSize > 0 && buffer != null && buffer.readableBytes() == chunkSize) {
+                sendChunk();
             }
-            buffer.appendByte((byte) b);
+            buffer().writeByte(b);
+        }
+
+        private void sendChunk() throws IOException {
+            final ByteBuf buf = buffer;
+            /* Unset it first so that we do not release buf twice if the handler throws */
+            buffer = null;
+            firstChunkSent = true;
+            bodyHandler.handle(new RequestBodyEvent(buf, RequestBodyEventType.NON_FINAL_CHUNK));
         }
 
         @Override
@@ -435,11 +568,30 @@ public class VertxHttpClientHTTPConduit extends HTTPConduit {
                 super.close();
                 RequestBodyEventType eventType = firstChunkSent ? RequestBodyEventType.FINAL_CHUNK
                         : RequestBodyEventType.COMPLETE_BODY;
-                final Buffer buf = buffer;
+                final ByteBuf buf = buffer != null ? buffer : Unpooled.EMPTY_BUFFER;
                 buffer = null;
                 bodyHandler.handle(new RequestBodyEvent(buf, eventType));
             }
         }
+
+        /**
+         * Release the pending buffer, if any, without passing it to the {@code bodyHandler}. Any subsequent
+         * {@link #close()} is a no-op. Used when writing the request body failed half way through.
+         *
+         * @return {@code true} if the stream was not closed before calling this method
+         */
+        boolean abort() {
+            if (!closed) {
+                closed = true;
+                final ByteBuf buf = buffer;
+                buffer = null;
+                if (buf != null) {
+                    buf.release();
+                }
+                return true;
+            }
+            return false;
+        }
     }
 
     static class RequestBodyHandler implements IOEHandler<RequestBodyEvent> {
@@ -455,9 +607,24 @@ public class VertxHttpClientHTTPConduit extends HTTPConduit {
         private final ContextInternal context;
         private final AuthorizationPolicy authorizationPolicy;
         private final HttpAuthSupplier authSupplier;
+        private final LoadBalancer.Target target;
+        private final Hedging.Operation hedgedOperation;
+        private final Hedging.Race race;
+        private final ResponseCache responseCache;
+        /* The endpoint address of the client; unlike url, not selected by load balancing */
+        private final URI endpointUri;
 
         /* Read an written only from the producer thread */
         private boolean firstEvent = true;
+
+        /* Written from the producer thread before sending the request, read from the event loop; null on no caching */
+        private String cacheKey;
+
+        /* Written from the producer thread before sending the request, read from the event loop */
+        private LoadBalancer.Call call;
+        /* Written from the event loop before sending the hedged request, read on its completion; null if not hedged */
+        private volatile LoadBalancer.Call hedgeCall;
+        private long startNanos;
         private Future<BodyWriter> bodyWriter;
         private Future<StoredBody> body;
 
@@ -499,10 +666,15 @@ public class VertxHttpClientHTTPConduit extends HTTPConduit {
                 long receiveTimeoutMs,
                 IOEHandler<ResponseEvent> responseHandler,
                 boolean isAsync,
+                boolean nonBlocking,
                 boolean possibleRetransmit,
                 int maxRetransmits,
                 AuthorizationPolicy authorizationPolicy,
-                HttpAuthSupplier authSupplier) {
+                HttpAuthSupplier authSupplier,
+                LoadBalancer.Target target,
+                Hedging.Operation hedgedOperation,
+                ResponseCache responseCache,
+                URI endpointUri) {
             super();
             this.context = context;
             this.clientInfo = clientInfo;
@@ -521,7 +693,7 @@ public class VertxHttpClientHTTPConduit extends HTTPConduit {
                     receiveTimeoutMs,
                     url);
             this.mode = isAsync
-                    ? new Mode.Async(timeoutSpec, responseHandler, outMessage)
+                    ? new Mode.Async(timeoutSpec, responseHandler, outMessage, clientInfo.getAsyncDispatch(), nonBlocking)
                     : new Mode.Sync(timeoutSpec, responseHandler, lock);
 
             this.possibleRetransmit = possibleRetransmit;
@@ -529,20 +701,45 @@ public class VertxHttpClientHTTPConduit extends HTTPConduit {
 
             this.authorizationPolicy = authorizationPolicy;
             this.authSupplier = authSupplier;
+            this.target = target;
+            this.hedgedOperation = hedgedOperation;
+            this.race = hedgedOperation != null ? new Hedging.Race() : null;
+            this.responseCache = responseCache;
+            this.endpointUri = endpointUri;
         }
 
         @Override
         public void handle(RequestBodyEvent event) throws IOException {
 
+            /*
+             * We own the reference to byteBuf passed via the event. We release it once the buffer is written
+             * to the wire. The retransmit cache shares it by reference and takes care for releasing its own reference
+             */
+            final ByteBuf byteBuf = event.byteBuf();
             final Buffer buffer = event.buffer();
             final boolean finalChunk = event.eventType().isFinalChunk();
             if (firstEvent) {
                 firstEvent = false;
-                if (possibleRetransmit) {
+                setProtocolHeaders(outMessage, requestOptions, userAgent, version);
+                if (responseCache != null && event.eventType() == RequestBodyEventType.COMPLETE_BODY) {
+                    /* Not url, so that the load balancing target does not matter */
+                    final String key = ResponseCache.key(endpointUri, requestOptions.getHeaders(), buffer);
+                    final ResponseCache.CachedResponse cached = responseCache.get(key);
+                    if (cached != null) {
+                        log.debugf("Serving cached response for %s", endpointUri);
+                        byteBuf.release();
+                        mode.responseReady(new Result<>(ResponseEvent.cached(cached), null));
+                        mode.awaitResponse();
+                        return;
+                    }
+                    cacheKey = key;
+                }
+                /* Hedging needs the body for sending the duplicate request */
+                if (possibleRetransmit || hedgedOperation != null) {
                     Future<BodyWriter> bw = BodyRecorder.openWriter(
                             (ContextInternal) clientPool.getVertx().getOrCreateContext(),
                             clientInfo.getRetransmitCache());
-                    bw = bw.compose(w -> w.write(buffer.slice()));
+                    bw = recordChunk(bw, buffer, byteBuf);
                     if (finalChunk) {
                         body = bw.compose(w -> w.close());
                     } else {
@@ -552,20 +749,21 @@ public class VertxHttpClientHTTPConduit extends HTTPConduit {
                     redirs.add(url);
                 }
 
-                final HttpClient client = clientPool.getClient(clientInfo, version, tlsConfiguration, proxyConfiguration);
+                if (target != null) {
+                    call = target.start();
+                }
+                if (hedgedOperation != null) {
+                    startNanos = hedgedOperation.started();
+                }
                 if (event.eventType() == RequestBodyEventType.COMPLETE_BODY && requestHasBody(requestOptions.getMethod())) {
                     requestOptions.putHeader(CONTENT_LENGTH, String.valueOf(buffer.length()));
                 }
 
-                setProtocolHeaders(outMessage, requestOptions, userAgent, version);
-
-                client.request(requestOptions)
+                clientPool.request(clientInfo, target, version, tlsConfiguration, proxyConfiguration, requestOptions)
                         .onSuccess(req -> {
                             mode.timeoutSpec.connected();
                             if (!finalChunk) {
-                                req
-                                        .setChunked(true)
-                                        .write(buffer)
+                                releaseWhenDone(req.setChunked(true).write(buffer), byteBuf)
                                         .timeout(mode.timeoutSpec.remainingReceiveTimeout(), TimeUnit.MILLISECONDS)
                                         .recover(e -> mode.timeoutSpec.mapTimeoutException(e,
                                                 "Timeout %d ms sending request body to %s"))
@@ -579,10 +777,14 @@ public class VertxHttpClientHTTPConduit extends HTTPConduit {
                                     lock.unlock();
                                 }
                             } else {
-                                finishRequest(req, buffer);
+                                finishRequest(req, buffer, byteBuf);
                             }
                         })
                         .onFailure(t -> {
+                            byteBuf.release();
+                            discardBody();
+                            /* Could not connect; a busy pool says nothing about the health of the target */
+                            endCall(call, -1, t, !(t instanceof ConnectionPoolTooBusyException));
                             lock.lock();
                             try {
                                 request = Result.failure(t);
@@ -602,7 +804,7 @@ public class VertxHttpClientHTTPConduit extends HTTPConduit {
                 /* Non-first event */
                 Future<BodyWriter> bw = bodyWriter;
                 if (bw != null) {
-                    bw = bw.compose(w -> w.write(buffer.slice()));
+                    bw = recordChunk(bw, buffer, byteBuf);
                     if (finalChunk) {
                         body = bw.compose(w -> w.close());
                         bodyWriter = null;
@@ -610,112 +812,351 @@ public class VertxHttpClientHTTPConduit extends HTTPConduit {
                         bodyWriter = bw;
                     }
                 }
-                final HttpClientRequest req = awaitRequest();
+                final HttpClientRequest req;
+                try {
+                    req = awaitRequest();
+                } catch (IOException | RuntimeException e) {
+                    byteBuf.release();
+                    if (finalChunk) {
+                        discardBody();
+                    }
+                    throw e;
+                }
                 if (!finalChunk) {
-                    req
-                            .write(buffer)
+                    releaseWhenDone(req.write(buffer), byteBuf)
                             .timeout(mode.timeoutSpec.remainingReceiveTimeout(), TimeUnit.MILLISECONDS)
                             .recover(e -> mode.timeoutSpec.mapTimeoutException(e, "Timeout %d ms sending request body to %s"))
                             .onFailure(RequestBodyHandler.this::failResponse);
                 } else {
-                    finishRequest(req, buffer);
+                    finishRequest(req, buffer, byteBuf);
                     mode.awaitResponse();
                 }
             }
         }
 
+        /**
+         * Pass the given {@code buffer} to the retransmit cache, sharing the underlying {@code byteBuf} by reference.
+         */
+        private static Future<BodyWriter> recordChunk(Future<BodyWriter> bw, Buffer buffer, ByteBuf byteBuf) {
+            byteBuf.retain();
+            return bw.compose(
+                    w -> w.write(buffer, byteBuf),
+                    e -> {
+                        byteBuf.release();
+                        return Future.failedFuture(e);
+                    });
+        }
+
+        /**
+         * Report the outcome of a request to its load balancing {@link LoadBalancer.Target}, if any.
+         *
+         * @param c the {@link LoadBalancer.Call} to end or {@code null}
+         * @param statusCode the response status code; ignored if {@code failure} is not {@code null}
+         * @param failure the failure or {@code null}
+         * @param eject whether the target should be ejected on {@code failure}
+         */
+        private void endCall(LoadBalancer.Call c, int statusCode, Throwable failure, boolean eject) {
+            if (c != null) {
+                if (failure == null) {
+                    c.responded(ResponseHandler.isServiceNotAvailable(outMessage, statusCode));
+                } else {
+                    c.failed(eject);
+                }
+            }
+        }
+
+        private static Future<Void> releaseWhenDone(Future<Void> write, ByteBuf byteBuf) {
+            write.onComplete(ar -> byteBuf.release());
+            return write;
+        }
+
+        private void discardBody() {
+            final Future<StoredBody> b = body;
+            if (b != null) {
+                b.compose(StoredBody::discard);
+            }
+        }
+
         @SuppressWarnings("resource")
-        void finishRequest(HttpClientRequest req, Buffer buffer) {
-            prepareResponse(req);
-            req
-                    .end(buffer)
+        void finishRequest(HttpClientRequest req, Buffer buffer, ByteBuf byteBuf) {
+            final Hedging.Race r = race;
+            if (r != null) {
+                r.primary(req);
+            }
+            handleResponse(req.response(), r, false);
+            releaseWhenDone(req.end(buffer), byteBuf)
                     .timeout(mode.timeoutSpec.remainingReceiveTimeout(), TimeUnit.MILLISECONDS)
                     .recover(e -> mode.timeoutSpec.mapTimeoutException(e, "Timeout %d ms sending request body to %s"))
-                    .onFailure(t -> mode.responseFailed(t, true));
+                    .onFailure(t -> {
+                        /* The primary request might have been reset because the hedged one was faster */
+                        if (r == null || !r.isLoser(false)) {
+                            mode.responseFailed(t, true);
+                        }
+                    });
+            if (r != null) {
+                scheduleHedge(r);
+            }
+        }
 
+        /**
+         * Send a duplicate request after the delay given by {@link #hedgedOperation} unless the response arrives
+         * earlier.
+         */
+        private void scheduleHedge(Hedging.Race r) {
+            final Future<StoredBody> b = body;
+            if (b == null) {
+                /* Recording failed */
+                return;
+            }
+            clientPool.getVertx().setTimer(hedgedOperation.delayMillis(), id -> {
+                if (r.isOpen() && hedgedOperation.tryHedge() && r.startHedge()) {
+                    handleResponse(sendHedge(b, r), r, true);
+                }
+            });
+        }
+
+        private Future<HttpClientResponse> sendHedge(Future<StoredBody> b, Hedging.Race r) {
+            return b.compose(storedBody -> {
+                final RequestOptions options = new RequestOptions(requestOptions);
+                final long contentLength = storedBody.length();
+                if (contentLength >= 0 && requestHasBody(options.getMethod())) {
+                    options.putHeader(CONTENT_LENGTH, String.valueOf(contentLength));
+                } else {
+                    options.removeHeader(CONTENT_LENGTH);
+                }
+                /* Send the duplicate to another target if possible; the slowness may be specific to the first one */
+                final LoadBalancer.Target hedgeTarget = target != null ? target.alternative() : null;
+                final URI hedgeUrl;
+                if (hedgeTarget != null && hedgeTarget != target) {
+                    hedgeUrl = hedgeTarget.getUri();
+                    setUri(options, hedgeUrl);
+                    hedgeCall = hedgeTarget.start();
+                } else {
+                    hedgeUrl = url;
+                }
+                log.debugf("Sending hedged request to %s", hedgeUrl);
+                return clientPool.request(clientInfo, hedgeTarget != null ? hedgeTarget : target, version, tlsConfiguration,
+                        proxyConfiguration, options)
+                        .compose(req -> {
+                            if (!r.hedge(req)) {
+                                req.reset();
+                                return Future.failedFuture(new IOException("Hedged request to " + hedgeUrl + " cancelled"));
+                            }
+                            final Future<HttpClientResponse> response = req.response();
+                            return storedBody.pipeTo(req).compose(v -> response);
+                        });
+            });
         }
 
-        private void prepareResponse(HttpClientRequest req) {
-            req.response()
+        /**
+         * Wait for the response and pass it to {@link #mode}.
+         *
+         * @param responseFuture the response to wait for
+         * @param r the {@link Hedging.Race} to take part in or {@code null}
+         * @param isHedge {@code true} if {@code responseFuture} belongs to a duplicate request sent by
+         *        {@link #scheduleHedge(Hedging.Race)}
+         */
+        private void handleResponse(Future<HttpClientResponse> responseFuture, Hedging.Race r, boolean isHedge) {
+            responseFuture
                     .timeout(mode.timeoutSpec.remainingReceiveTimeout(), TimeUnit.MILLISECONDS)
                     .recover(e -> mode.timeoutSpec.mapTimeoutException(e,
                             "Timeout waiting %d ms to receive response headers from %s"))
-                    .onComplete(ar -> {
-                        final InputStreamWriteStream sink = new InputStreamWriteStream(context, mode.timeoutSpec, 2);
-                        final HttpClientResponse response = ar.result();
+                    .onComplete(outcome -> {
+                        final HttpClientResponse resp = outcome.succeeded() ? outcome.result() : null;
+                        final LoadBalancer.Call c = isHedge ? hedgeCall : call;
+                        if (c != null && outcome.failed() && r != null && r.isLoser(isHedge)) {
+                            /* We have reset the request because the other one won; nothing to learn about the target */
+                            c.cancelled();
+                        } else {
+                            /* A target not sending the response headers within the receive timeout is likely hanging */
+                            endCall(c, resp != null ? resp.statusCode() : -1, outcome.cause(),
+                                    outcome.cause() instanceof TimeoutIOException);
+                        }
+                        if (r == null) {
+                            processResponse(outcome);
+                            return;
+                        }
+                        final boolean failureStatus = resp != null && isFailureStatus(resp.statusCode());
+                        final AsyncResult<HttpClientResponse> ar = r.accept(isHedge, outcome, failureStatus);
+                        if (ar == null) {
+                            return;
+                        }
                         if (ar.succeeded()) {
+                            hedgedOperation.responded(startNanos);
+                        }
+                        processResponse(ar);
+                        if (ar != outcome) {
+                            /* A response held by the race was paused; processResponse() has set the handlers by now */
+                            ar.result().resume();
+                        }
+                    });
+        }
 
-                            /* need to retransmit? */
-                            final int statusCode = response.statusCode();
-                            final boolean isRedirect = isRedirect(statusCode);
-                            final boolean isAuthRetransmit = statusCode == 401 || statusCode == 407;
-                            if (possibleRetransmit
-                                    && (isRedirect || isAuthRetransmit)
-                                    && (maxRetransmits < 0 || performedRetransmits(redirects) < maxRetransmits)) {
-                                ResponseHandler.updateResponseHeaders(response, outMessage, cookies);
+        /**
+         * @param statusCode the status code of a response to a hedged request
+         * @return {@code true} if the given status code should not decide a {@link Hedging.Race}
+         */
+        boolean isFailureStatus(int statusCode) {
+            return statusCode == 502 || statusCode == 504 || ResponseHandler.isServiceNotAvailable(outMessage, statusCode);
+        }
 
-                                try {
-                                    if (isAuthRetransmit) {
-                                        authorize(clientInfo.getConfigKey(), response);
-                                    } else if (isRedirect) {
-                                        redirect(response);
-                                    } else {
-                                        throw new IllegalStateException("Either authorize or retransmit should be true");
-                                    }
-                                } catch (IOException e) {
-                                    sink.setException((IOException) e);
-                                    mode.responseReady(new Result<>(ResponseEvent.prepare(body, response, sink), e));
-                                } catch (Exception e) {
-                                    final IOException ioe = new IOException(e);
-                                    sink.setException(ioe);
-                                    mode.responseReady(new Result<>(ResponseEvent.prepare(body, response, sink), ioe));
-                                }
-                                return;
-                            } else {
-                                if (!possibleRetransmit && isRedirect) {
-                                    final String qKey = QuarkusCxfUtils.quoteCongurationKeyIfNeeded(clientInfo.getConfigKey());
-                                    final IOException ioe = new IOException(
-                                            "Received redirection status " + statusCode
-                                                    + " from " + url + " by client " + qKey
-                                                    + " but following redirects is not enabled for this client."
-                                                    + " You may want to set quarkus.cxf.client." + qKey
-                                                    + ".auto-redirect = true");
-                                    sink.setException(ioe);
-                                    mode.responseReady(new Result<>(ResponseEvent.prepare(body, response, sink), ioe));
-                                    return;
-                                }
-                                if (possibleRetransmit && isRedirect && maxRetransmits >= 0
-                                        && maxRetransmits <= performedRetransmits(redirects)) {
-                                    final String qKey = QuarkusCxfUtils.quoteCongurationKeyIfNeeded(clientInfo.getConfigKey());
-                                    final IOException ioe = new IOException("Received redirection status " +
-                                            statusCode + " from " + redirects.get(redirects.size() - 1)
-                                            + " by client " + qKey + ", but already performed maximum"
-                                            + " number " + maxRetransmits
-                                            + " of allowed retransmits; you may want to"
-                                            + " increase quarkus.cxf.client." + qKey + ".max-retransmits. Visited URIs: "
-                                            + redirects.stream().map(URI::toString).collect(Collectors.joining(" -> ")));
-                                    sink.setException(ioe);
-                                    mode.responseReady(new Result<>(ResponseEvent.prepare(body, response, sink), ioe));
-                                    return;
-                                }
-                                /* No retransmit */
-                                /* Pass the body back to CXF */
-                                // log.trace("Staring pipe");
-                                response.pipeTo(sink)
-                                        .timeout(mode.timeoutSpec.remainingReceiveTimeout(), TimeUnit.MILLISECONDS)
-                                        .recover(e -> mode.timeoutSpec.mapTimeoutException(e,
-                                                "Timeout waiting %d ms to receive response body from %s"))
-                                        .onFailure(e -> {
-                                            sink.setException(e);
-                                            //log.trace("Pipe failed", e);
-                                        });
-                                // .onSuccess(v -> log.trace("Pipe finished"));
-                            }
+        /**
+         * Pass the given response or failure to {@link #mode}, following redirects or authentication challenges if
+         * needed.
+         *
+         * @param ar the outcome of waiting for the response headers
+         */
+        private void processResponse(AsyncResult<HttpClientResponse> ar) {
+            final InputStreamWriteStream sink = new InputStreamWriteStream(context, mode.timeoutSpec, 2);
+            final HttpClientResponse response = ar.result();
+            if (ar.succeeded()) {
+
+                /* need to retransmit? */
+                final int statusCode = response.statusCode();
+                final boolean isRedirect = isRedirect(statusCode);
+                final boolean isAuthRetransmit = statusCode == 401 || statusCode == 407;
+                if (possibleRetransmit
+                        && (isRedirect || isAuthRetransmit)
+                        && (maxRetransmits < 0 || performedRetransmits(redirects) < maxRetransmits)) {
+                    ResponseHandler.copyResponseHeaders(response, outMessage, cookies);
+
+                    try {
+                        if (isAuthRetransmit) {
+                            authorize(clientInfo.getConfigKey(), response);
+                        } else if (isRedirect) {
+                            redirect(response);
                         } else {
-                            sink.setException(ar.cause());
+                            throw new IllegalStateException("Either authorize or retransmit should be true");
                         }
-                        mode.responseReady(new Result<>(ResponseEvent.prepare(body, response, sink), ar.cause()));
-                    });
+                    } catch (IOException e) {
+                        sink.setException((IOException) e);
+                        mode.responseReady(new Result<>(ResponseEvent.prepare(body, response, sink), e));
+                    } catch (Exception e) {
+                        final IOException ioe = new IOException(e);
+                        sink.setException(ioe);
+                        mode.responseReady(new Result<>(ResponseEvent.prepare(body, response, sink), ioe));
+                    }
+                    return;
+                } else {
+                    if (!possibleRetransmit && isRedirect) {
+                        final String qKey = QuarkusCxfUtils.quoteCongurationKeyIfNeeded(clientInfo.getConfigKey());
+                        final IOException ioe = new IOException(
+                                "Received redirection status " + statusCode
+                                        + " from " + url + " by client " + qKey
+                                        + " but following redirects is not enabled for this client."
+                                        + " You may want to set quarkus.cxf.client." + qKey
+                                        + ".auto-redirect = true");
+                        sink.setException(ioe);
+                        mode.responseReady(new Result<>(ResponseEvent.prepare(body, response, sink), ioe));
+                        return;
+                    }
+                    if (possibleRetransmit && isRedirect && maxRetransmits >= 0
+                            && maxRetransmits <= performedRetransmits(redirects)) {
+                        final String qKey = QuarkusCxfUtils.quoteCongurationKeyIfNeeded(clientInfo.getConfigKey());
+                        final IOException ioe = new IOException("Received redirection status " +
+                                statusCode + " from " + redirects.get(redirects.size() - 1)
+                                + " by client " + qKey + ", but already performed maximum"
+                                + " number " + maxRetransmits
+                                + " of allowed retransmits; you may want to"
+                                + " increase quarkus.cxf.client." + qKey + ".max-retransmits. Visited URIs: "
+                                + redirects.stream().map(URI::toString).collect(Collectors.joining(" -> ")));
+                        sink.setException(ioe);
+                        mode.responseReady(new Result<>(ResponseEvent.prepare(body, response, sink), ioe));
+                        return;
+                    }
+                    /* No retransmit */
+                    final String key = statusCode == 200 ? cacheKey : null;
+                    if (mode.isNonBlocking()) {
+                        /*
+                         * We cannot let CXF read from the sink while the body is still coming
+                         * because that would block the event loop. So we pass the body once it is complete.
+                         */
+                        body(response, clientInfo.getEventLoopMaxResponseSize())
+                                .timeout(mode.timeoutSpec.remainingReceiveTimeout(), TimeUnit.MILLISECONDS)
+                                .recover(e -> mode.timeoutSpec.mapTimeoutException(e,
+                                        "Timeout waiting %d ms to receive response body from %s"))
+                                .onComplete(bodyAr -> {
+                                    if (bodyAr.succeeded()) {
+                                        if (key != null) {
+                                            responseCache.put(key, ResponseHead.of(response).copy(),
+                                                    bodyAr.result().getBytes());
+                                        }
+                                        sink.end(bodyAr.result());
+                                    } else {
+                                        sink.setException(bodyAr.cause());
+                                    }
+                                    mode.responseReady(
+                                            new Result<>(ResponseEvent.prepare(body, response, sink), null));
+                                });
+                        return;
+                    }
+                    /* Pass the body back to CXF */
+                    // log.trace("Staring pipe");
+                    final WriteStream<Buffer> dest = key != null
+                            /* Copy the body for the cache while streaming it unless it is too large for the cache */
+                            ? new CopyingWriteStream(sink, responseCache.getMaxEntryBytes(),
+                                    b -> responseCache.put(key, ResponseHead.of(response).copy(), b.getBytes()))
+                            : sink;
+                    response.pipeTo(dest)
+                            .timeout(mode.timeoutSpec.remainingReceiveTimeout(), TimeUnit.MILLISECONDS)
+                            .recover(e -> mode.timeoutSpec.mapTimeoutException(e,
+                                    "Timeout waiting %d ms to receive response body from %s"))
+                            .onFailure(e -> {
+                                sink.setException(e);
+                                //log.trace("Pipe failed", e);
+                            });
+                    // .onSuccess(v -> log.trace("Pipe finished"));
+                }
+            } else {
+                sink.setException(ar.cause());
+            }
+            mode.responseReady(new Result<>(ResponseEvent.prepare(body, response, sink), ar.cause()));
+        }
+
+        /**
+         * Aggregate the body of the given {@code response}.
+         *
+         * @param response the response whose body should be aggregated
+         * @param maxSize the maximum number of bytes to aggregate or {@code -1} for no limit
+         * @return a {@link Future} completed with the whole body or failed with an {@link IOException} if the body is
+         *         larger than {@code maxSize}
+         */
+        Future<Buffer> body(HttpClientResponse response, long maxSize) {
+            if (maxSize < 0) {
+                return response.body();
+            }
+            final String contentLength = response.getHeader(HttpHeaders.CONTENT_LENGTH);
+            if (contentLength != null) {
+                try {
+                    if (Long.parseLong(contentLength) > maxSize) {
+                        response.request().reset();
+                        return Future.failedFuture(responseTooLarge(maxSize));
+                    }
+                } catch (NumberFormatException e) {
+                    /* Let the aggregation below enforce the limit */
+                }
+            }
+            final Promise<Buffer> promise = Promise.promise();
+            final Buffer result = Buffer.buffer();
+            response.exceptionHandler(promise::tryFail);
+            response.handler(chunk -> {
+                if (result.length() + chunk.length() > maxSize) {
+                    response.handler(null);
+                    response.request().reset();
+                    promise.tryFail(responseTooLarge(maxSize));
+                } else {
+                    result.appendBuffer(chunk);
+                }
+            });
+            response.endHandler(v -> promise.tryComplete(result));
+            return promise.future();
+        }
+
+        IOException responseTooLarge(long maxSize) {
+            return new IOException("Response body from " + url + " received by client "
+                    + QuarkusCxfUtils.quoteCongurationKeyIfNeeded(clientInfo.getConfigKey())
+                    + " is larger than " + maxSize
+                    + " bytes; you may want to increase quarkus.cxf.client.event-loop-max-response-size");
         }
 
         private void redirect(final HttpClientResponse response) throws IOException {
@@ -795,18 +1236,21 @@ public class VertxHttpClientHTTPConduit extends HTTPConduit {
                     options.removeHeader(CONTENT_LENGTH);
                 }
 
-                final HttpClient client = clientPool.getClient(clientInfo, version, tlsConfiguration, proxyConfiguration);
-
                 // Should not be necessary, because we copy from the original requestOptions
                 // setProtocolHeaders(outMessage, options, userAgent);
 
-                return client.request(requestOptionsCustomizer.apply(options))
+                return clientPool.request(clientInfo, null, version, tlsConfiguration, proxyConfiguration,
+                        requestOptionsCustomizer.apply(options))
                         .compose(req -> {
-                            prepareResponse(req);
-                            return storedBody.pipeTo(req).compose(v -> Future.succeededFuture(req));
+                            handleResponse(req.response(), null, false);
+                            return storedBody.pipeTo(req)
+                                    .andThen(ar -> clientPool.recordReplay(clientInfo.getConfigKey(),
+                                            ar.succeeded() ? contentLength : -1L))
+                                    .compose(v -> Future.succeededFuture(req));
                         });
             })
                     .onFailure(t -> {
+                        discardBody();
                         lock.lock();
                         try {
                             request = Result.failure(t);
@@ -904,6 +1348,8 @@ public class VertxHttpClientHTTPConduit extends HTTPConduit {
             final HttpAuthHeader authHeader = new HttpAuthHeader(authHeaderVal);
             final String realm = authHeader.getRealm();
             detectAuthorizationLoop(configKey, outMessage, currentURI, realm);
+            /* The cache key does not cover the challenge-specific Authorization header, so do not cache */
+            cacheKey = null;
             AuthorizationPolicy effectiveAthPolicy = getEffectiveAuthPolicy(outMessage, authorizationPolicy);
             String authorizationToken = authSupplier.getAuthorization(
                     effectiveAthPolicy, currentURI, outMessage, authHeader.getFullHeader());
@@ -1123,6 +1569,14 @@ public class VertxHttpClientHTTPConduit extends HTTPConduit {
 
             protected abstract void awaitResponse() throws IOException;
 
+            /**
+             * @return {@code true} if this {@link Mode} is used on the event loop where we must not block;
+             *         {@code false} otherwise
+             */
+            protected boolean isNonBlocking() {
+                return false;
+            }
+
             static class Sync extends Mode {
                 private final ReentrantLock lock;
                 private final Condition responseReceived;
@@ -1203,10 +1657,35 @@ public class VertxHttpClientHTTPConduit extends HTTPConduit {
 
             static class Async extends Mode {
                 private final Message outMessage;
+                private final ClientDispatch dispatch;
+                private final boolean nonBlocking;
+                /*
+                 * Runs tasks with the MicroProfile context (request context, security identity, tracing, ...) of the
+                 * thread that issued the call; null unless we dispatch to virtual threads
+                 */
+                private final Executor callerContext;
 
-                Async(TimeoutSpec timeoutSpec, IOEHandler<ResponseEvent> responseHandler, Message outMessage) {
+                Async(TimeoutSpec timeoutSpec, IOEHandler<ResponseEvent> responseHandler, Message outMessage,
+                        ClientDispatch dispatch, boolean nonBlocking) {
                     super(timeoutSpec, responseHandler);
                     this.outMessage = outMessage;
+                    this.dispatch = dispatch;
+                    this.nonBlocking = nonBlocking;
+                    this.callerContext = !nonBlocking && dispatch == ClientDispatch.VIRTUAL_THREAD
+                            ? captureContext()
+                            : null;
+                }
+
+                static Executor captureContext() {
+                    final InstanceHandle<ThreadContext> threadContextInst = Arc.container().instance(ThreadContext.class);
+                    return threadContextInst.isAvailable()
+                            ? threadContextInst.get().currentContextExecutor()
+                            : Runnable::run;
+                }
+
+                @Override
+                protected boolean isNonBlocking() {
+                    return nonBlocking;
                 }
 
                 @Override
@@ -1234,12 +1713,8 @@ public class VertxHttpClientHTTPConduit extends HTTPConduit {
 
                 @Override
                 protected void responseReady(Result<ResponseEvent> response) {
-                    // dispatch on worker thread
-                    final InstanceHandle<ManagedExecutor> managedExecutorInst = Arc.container().instance(ManagedExecutor.class);
-                    if (!managedExecutorInst.isAvailable()) {
-                        throw new IllegalStateException(ManagedExecutor.class.getName() + " not available in Arc");
-                    }
-                    managedExecutorInst.get().execute(() -> {
+                    // dispatch on worker or virtual thread unless we are in non-blocking mode
+                    executor().execute(() -> {
                         if (response.succeeded()) {
                             try {
                                 responseHandler.handle(response.result());
@@ -1257,6 +1732,27 @@ public class VertxHttpClientHTTPConduit extends HTTPConduit {
                     /* Nothing to do in async mode because we dispatch the response via responseReady */
                 }
 
+                Executor executor() {
+                    if (nonBlocking) {
+                        /* The whole response body is available already, so we can process it on the event loop */
+                        return Runnable::run;
+                    }
+                    if (dispatch == ClientDispatch.VIRTUAL_THREAD) {
+                        /*
+                         * Unlike ManagedExecutor, the virtual thread executor does not propagate the MicroProfile
+                         * context, so we apply the one captured when the call was issued
+                         */
+                        final Executor virtualThreads = VirtualThreadsRecorder.getCurrent();
+                        final Executor context = callerContext;
+                        return task -> virtualThreads.execute(() -> context.execute(task));
+                    }
+                    final InstanceHandle<ManagedExecutor> managedExecutorInst = Arc.container().instance(ManagedExecutor.class);
+                    if (!managedExecutorInst.isAvailable()) {
+                        throw new IllegalStateException(ManagedExecutor.class.getName() + " not available in Arc");
+                    }
+                    return managedExecutorInst.get();
+                }
+
             }
         }
 
@@ -1352,13 +1848,57 @@ public class VertxHttpClientHTTPConduit extends HTTPConduit {
         }
     }
 
-    static record ResponseEvent(HttpClientResponse response, InputStream responseBodyInputStream) {
+    static record ResponseEvent(ResponseHead head, InputStream responseBodyInputStream) {
         public static ResponseEvent prepare(Future<StoredBody> body, HttpClientResponse response,
                 InputStream responseBodyInputStream) {
             if (body != null) {
                 body.compose(b -> b.discard());
             }
-            return new ResponseEvent(response, responseBodyInputStream);
+            return new ResponseEvent(ResponseHead.of(response), responseBodyInputStream);
+        }
+
+        /**
+         * @param cached the response to replay
+         * @return a new {@link ResponseEvent} reading from the given {@link ResponseCache.CachedResponse} without
+         *         any network access
+         */
+        public static ResponseEvent cached(ResponseCache.CachedResponse cached) {
+            return new ResponseEvent(cached.head(), new ByteArrayInputStream(cached.body()));
+        }
+    }
+
+    /**
+     * The status line and headers of a response.
+     *
+     * @param statusCode the HTTP status code
+     * @param statusMessage the HTTP status message
+     * @param absoluteURI the URI of the request
+     * @param headers the response headers
+     */
+    static record ResponseHead(int statusCode, String statusMessage, String absoluteURI, MultiMap headers) {
+
+        /**
+         * @param response the response to read from or {@code null}
+         * @return a new {@link ResponseHead} backed by the headers of the given {@code response} or {@code null} if
+         *         {@code response} is {@code null}
+         */
+        static ResponseHead of(HttpClientResponse response) {
+            if (response == null) {
+                return null;
+            }
+            return new ResponseHead(
+                    response.statusCode(),
+                    response.statusMessage(),
+                    response.request().absoluteURI(),
+                    response.headers());
+        }
+
+        /**
+         * @return a new {@link ResponseHead} with a copy of {@link #headers} so that it can outlive the response
+         */
+        ResponseHead copy() {
+            return new ResponseHead(statusCode, statusMessage, absoluteURI,
+                    MultiMap.caseInsensitiveMultiMap().addAll(headers));
         }
     }
 
@@ -1397,9 +1937,9 @@ public class VertxHttpClientHTTPConduit extends HTTPConduit {
 
         @Override
         public void handle(ResponseEvent responseEvent) throws IOException {
-            final HttpClientResponse response = responseEvent.response;
+            final ResponseHead response = responseEvent.head;
             final Exchange exchange = outMessage.getExchange();
-            final URI uri = URI.create(response.request().absoluteURI());
+            final URI uri = URI.create(response.absoluteURI());
             final int responseCode = doProcessResponseCode(uri, response, exchange, outMessage);
 
             InputStream in = null;
@@ -1407,7 +1947,7 @@ public class VertxHttpClientHTTPConduit extends HTTPConduit {
 
             Message inMessage = new MessageImpl();
             inMessage.setExchange(exchange);
-            updateResponseHeaders(response, inMessage, cookies);
+            updateResponseHeaders(response.headers(), inMessage, cookies);
             inMessage.put(Message.RESPONSE_CODE, responseCode);
             if (MessageUtils.getContextualBoolean(outMessage, SET_HTTP_RESPONSE_MESSAGE, false)) {
                 inMessage.put(HTTP_RESPONSE_MESSAGE, response.statusMessage());
@@ -1473,15 +2013,12 @@ public class VertxHttpClientHTTPConduit extends HTTPConduit {
 
         }
 
-        static int doProcessResponseCode(URI uri, HttpClientResponse response, Exchange exchange, Message outMessage)
+        static int doProcessResponseCode(URI uri, ResponseHead response, Exchange exchange, Message outMessage)
                 throws IOException {
             final int rc = response.statusCode();
             if (exchange != null) {
                 exchange.put(Message.RESPONSE_CODE, rc);
-                final Collection<Integer> serviceNotAvailableOnHttpStatusCodes = MessageUtils
-                        .getContextualIntegers(outMessage, SERVICE_NOT_AVAILABLE_ON_HTTP_STATUS_CODES,
-                                DEFAULT_SERVICE_NOT_AVAILABLE_ON_HTTP_STATUS_CODES);
-                if (serviceNotAvailableOnHttpStatusCodes.contains(rc)) {
+                if (isServiceNotAvailable(outMessage, rc)) {
                     exchange.put("org.apache.cxf.transport.service_not_available", true);
                 }
             }
@@ -1501,13 +2038,46 @@ public class VertxHttpClientHTTPConduit extends HTTPConduit {
             return rc;
         }
 
-        static void updateResponseHeaders(HttpClientResponse response, Message inMessage, Cookies cookies) {
-            Headers h = new Headers(inMessage);
-            inMessage.put(Message.CONTENT_TYPE, readHeaders(response, h));
+        static boolean isServiceNotAvailable(Message outMessage, int rc) {
+            final Collection<Integer> serviceNotAvailableOnHttpStatusCodes = MessageUtils
+                    .getContextualIntegers(outMessage, SERVICE_NOT_AVAILABLE_ON_HTTP_STATUS_CODES,
+                            DEFAULT_SERVICE_NOT_AVAILABLE_ON_HTTP_STATUS_CODES);
+            return serviceNotAvailableOnHttpStatusCodes.contains(rc);
+        }
+
+        /**
+         * Expose the given response {@code headers} as {@link Message#PROTOCOL_HEADERS} of the given
+         * {@code inMessage} through a {@link ResponseHeaders} view, without copying them. The {@code cookies} are
+         * updated only if the response sets some.
+         *
+         * @param headers the response headers
+         * @param inMessage the message to set the headers on; must not have any {@link Message#PROTOCOL_HEADERS} yet
+         * @param cookies the {@link Cookies} to update
+         */
+        static void updateResponseHeaders(MultiMap headers, Message inMessage, Cookies cookies) {
+            inMessage.put(Message.PROTOCOL_HEADERS, new ResponseHeaders(headers));
+            inMessage.put(Message.CONTENT_TYPE, headers.get(HttpHeaders.CONTENT_TYPE));
+            if (headers.contains(HttpHeaders.SET_COOKIE)) {
+                /* Our ResponseHeaders is kept by Headers because it is not a HashMap */
+                cookies.readFromHeaders(new Headers(inMessage));
+            }
+        }
+
+        /**
+         * Copy the headers of the given {@code response} to the {@link Message#PROTOCOL_HEADERS} of the given
+         * {@code message} that may contain some headers already.
+         *
+         * @param response the response whose headers should be read
+         * @param message the message to add the headers to
+         * @param cookies the {@link Cookies} to update
+         */
+        static void copyResponseHeaders(HttpClientResponse response, Message message, Cookies cookies) {
+            Headers h = new Headers(message);
+            message.put(Message.CONTENT_TYPE, readHeaders(response, h));
             cookies.readFromHeaders(h);
         }
 
-        static InputStream getPartialResponse(HttpClientResponse response, InputStream responseBodyInputStream) {
+        static InputStream getPartialResponse(ResponseHead response, InputStream responseBodyInputStream) {
             InputStream in = null;
             int responseCode = response.statusCode();
             if (responseCode == 202 || responseCode == 200) {
@@ -1589,44 +2159,112 @@ public class VertxHttpClientHTTPConduit extends HTTPConduit {
 
     }
 
+    /**
+     * A {@link WriteStream} passing all data to a delegate while copying it up to the given limit. The copy is passed
+     * to {@code onEnd} after the delegate was ended successfully, unless the limit was exceeded.
+     */
+    static class CopyingWriteStream implements WriteStream<Buffer> {
+        private final WriteStream<Buffer> delegate;
+        private final long maxSize;
+        private final Handler<Buffer> onEnd;
+        /* null once maxSize was exceeded; read and written from the producer thread */
+        private Buffer copy = Buffer.buffer();
+
+        CopyingWriteStream(WriteStream<Buffer> delegate, long maxSize, Handler<Buffer> onEnd) {
+            this.delegate = delegate;
+            this.maxSize = maxSize;
+            this.onEnd = onEnd;
+        }
+
+        private void copy(Buffer data) {
+            final Buffer c = copy;
+            if (c != null) {
+                if (c.length() + data.length() > maxSize) {
+                    copy = null;
+                } else {
+                    c.appendBuffer(data);
+                }
+            }
+        }
+
+        @Override
+        public WriteStream<Buffer> exceptionHandler(Handler<Throwable> handler) {
+            delegate.exceptionHandler(handler);
+            return this;
+        }
+
+        @Override
+        public Future<Void> write(Buffer data) {
+            copy(data);
+            return delegate.write(data);
+        }
+
+        @Override
+        public void write(Buffer data, Handler<AsyncResult<Void>> handler) {
+            copy(data);
+            delegate.write(data, handler);
+        }
+
+        @Override
+        public void end(Handler<AsyncResult<Void>> handler) {
+            delegate.end(ar -> {
+                final Buffer c = copy;
+                if (ar.succeeded() && c != null) {
+                    onEnd.handle(c);
+                }
+                if (handler != null) {
+                    handler.handle(ar);
+                }
+            });
+        }
+
+        @Override
+        public WriteStream<Buffer> setWriteQueueMaxSize(int maxSize) {
+            delegate.setWriteQueueMaxSize(maxSize);
+            return this;
+        }
+
+        @Override
+        public boolean writeQueueFull() {
+            return delegate.writeQueueFull();
+        }
+
+        @Override
+        public WriteStream<Buffer> drainHandler(Handler<Void> handler) {
+            delegate.drainHandler(handler);
+            return this;
+        }
+    }
+
     static class InputStreamWriteStream extends InputStream implements WriteStream<Buffer> {
 
         private static final Buffer END = new ErrorBuffer();
 
         private final TimeoutSpec timeoutSpec;
-        private final ReentrantLock lock = new ReentrantLock();
-        private final Condition queueChange = lock.newCondition();
         private final ContextInternal context;
 
         /*
          * Written from the producer thread, read from the consumer thread
-         * All read or write operations must be protected by lock
+         * Lock-free, see SpscBufferQueue for the threading constraints
          */
-        private final Queue<Buffer> queue;
-        private int maxQueueSize;
+        private final SpscBufferQueue queue;
+        private volatile int maxQueueSize;
 
-        /*
-         * Written from the consumer thread, read from the producer thread
-         * All read or write operations must be protected by lock
-         */
-        private TimeoutIOException timeoutException;
+        /* Written from the consumer thread, read from the producer thread */
+        private volatile TimeoutIOException timeoutException;
 
         /* Read and written from the consumer thread */
         private Buffer readBuffer;
         private int readPosition = 0;
-        // private int bytesRead = 0;
-        // private int readCounter = 0;
 
         /* Read and written from the producer thread */
-        // private int bytesWritten = 0;
-        // private int writeCounter = 0;
         private Handler<Void> drainHandler;
 
         public InputStreamWriteStream(ContextInternal context, TimeoutSpec timeoutSpec, int queueSize) {
             this.context = context;
             this.timeoutSpec = timeoutSpec;
             setWriteQueueMaxSize(queueSize);
-            this.queue = new ArrayDeque<>(queueSize);
+            this.queue = new SpscBufferQueue(queueSize);
         }
 
         /* WriteStream methods */
@@ -1644,69 +2282,23 @@ public class VertxHttpClientHTTPConduit extends HTTPConduit {
 
         @Override
         public void write(Buffer data, Handler<AsyncResult<Void>> handler) {
-            Throwable cause = null;
-            final ReentrantLock lock = this.lock;
-            lock.lock();
-            try {
-                if ((cause = timeoutException) != null) {
-                    handler.handle(Future.failedFuture(cause));
-                    return;
-                }
-                // bytesWritten += data.length();
-                // writeCounter++;
-                // log.tracef("Write #%d: %d bytes; %d total; queue size before %d", writeCounter, data.length(), bytesWritten,
-                // queue.size());
-                queue.offer(data);
-                queueChange.signal();
-            } catch (Throwable e) {
-                if (e instanceof InterruptedException) {
-                    Thread.currentThread().interrupt();
-                }
-                queue.offer(new ErrorBuffer(e));
-                queueChange.signal();
-                cause = e;
-            } finally {
-                lock.unlock();
-            }
-            if (cause != null) {
-                handler.handle(Future.failedFuture(cause));
-            } else {
-                handler.handle(Future.succeededFuture());
-            }
+            offer(data, handler);
         }
 
         @Override
         public void end(Handler<AsyncResult<Void>> handler) {
-            // log.trace("Ending writes");
             drainHandler = null;
-            Throwable cause = null;
-            final ReentrantLock lock = this.lock;
-            lock.lock();
-            try {
-                if ((cause = timeoutException) != null) {
-                    handler.handle(Future.failedFuture(cause));
-                    return;
-                }
-                // log.tracef("Ending writes, got %d bytes in %d writes; queue size before %d", bytesWritten, writeCounter,
-                // queue.size());
-                queue.offer(END);
-                queueChange.signal();
-            } catch (Throwable e) {
-                if (e instanceof InterruptedException) {
-                    Thread.currentThread().interrupt();
-                }
+            offer(END, handler);
+        }
 
-                queue.offer(new ErrorBuffer(e));
-                queueChange.signal();
-                cause = e;
-            } finally {
-                lock.unlock();
-            }
+        private void offer(Buffer data, Handler<AsyncResult<Void>> handler) {
+            final TimeoutIOException cause = timeoutException;
             if (cause != null) {
                 handler.handle(Future.failedFuture(cause));
-            } else {
-                handler.handle(Future.succeededFuture());
+                return;
             }
+            queue.offer(data);
+            handler.handle(Future.succeededFuture());
         }
 
         @Override
@@ -1714,40 +2306,17 @@ public class VertxHttpClientHTTPConduit extends HTTPConduit {
             if (maxSize < 1) {
                 throw new IllegalArgumentException("maxSize must be >= 1");
             }
-            final ReentrantLock lock = this.lock;
-            lock.lock();
-            try {
-                this.maxQueueSize = maxSize;
-            } finally {
-                lock.unlock();
-            }
+            this.maxQueueSize = maxSize;
             return this;
         }
 
         @Override
         public boolean writeQueueFull() {
-            final ReentrantLock lock = this.lock;
-            lock.lock();
-            try {
-                return writeQueueFullInternal();
-            } finally {
-                lock.unlock();
-            }
-        }
-
-        /**
-         * Must be called under {@link #lock}.
-         *
-         * @return
-         */
-        private boolean writeQueueFullInternal() {
-            assert lock.isHeldByCurrentThread();
             return queue.size() >= maxQueueSize;
         }
 
         @Override
         public WriteStream<Buffer> drainHandler(Handler<Void> handler) {
-            // log.tracef("drainHandler %s", drainHandler);
             this.drainHandler = handler;
             return this;
         }
@@ -1846,34 +2415,10 @@ public class VertxHttpClientHTTPConduit extends HTTPConduit {
 
         @Override
         public int available() throws IOException {
-            Buffer rb = takeBuffer(false);
+            final Buffer rb = takeBuffer(false);
             if (rb != null) {
-                int result = rb.length() - readPosition;
-
-                final List<Buffer> queueCopy;
-                final ReentrantLock lock = this.lock;
-                lock.lock();
-                try {
-                    queueCopy = new ArrayList<>(queue);
-                } finally {
-                    lock.unlock();
-                }
-                final int len = queueCopy.size();
-                for (int i = 0; i < len; i++) {
-                    final Buffer b = queueCopy.get(i);
-                    if (b instanceof ErrorBuffer) {
-                        /*
-                         * Either at END or there is some exception passed via an ErrorBuffer
-                         * There is no point in iterating further
-                         */
-                        break;
-                    }
-                    if (rb != b) {
-                        /* Skip the buffer returned by takeBuffer() above */
-                        result += b.length();
-                    }
-                }
-                return result;
+                /* ErrorBuffers are not counted by queue.bytes() so we do not need to care for them here */
+                return (int) Math.min(Integer.MAX_VALUE, rb.length() - readPosition + queue.bytes());
             }
             return 0;
         }
@@ -1890,32 +2435,21 @@ public class VertxHttpClientHTTPConduit extends HTTPConduit {
             if (rb == null || readPosition >= rb.length()) {
                 // log.info("Buffer is null or empty");
 
-                final ReentrantLock lock = this.lock;
-                final boolean writeQueueFull;
-                // final int qSize;
-                try {
-                    lock.lockInterruptibly();
-                    if (blockingAwaitBuffer) {
-                        while ((readBuffer = rb = queue.poll()) == null) {
-                            // log.infof("Awaiting a buffer at queue size %d", queue.size());
-                            if (!queueChange.await(timeoutSpec.remainingReceiveTimeout(),
-                                    TimeUnit.MILLISECONDS)) {
-                                timeoutSpec.throwTimeoutException(e -> timeoutException = e,
-                                        "Timeout waiting %d ms to receive response body from %s");
-                            }
+                if (blockingAwaitBuffer) {
+                    try {
+                        while ((readBuffer = rb = queue.poll(timeoutSpec.remainingReceiveTimeout(),
+                                TimeUnit.MILLISECONDS)) == null) {
+                            timeoutSpec.throwTimeoutException(e -> timeoutException = e,
+                                    "Timeout waiting %d ms to receive response body from %s");
                         }
-                    } else {
-                        readBuffer = rb = queue.poll();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IOException(e);
                     }
-                    writeQueueFull = writeQueueFullInternal();
-                    // qSize = queue.size();
-                    // log.tracef("%s unblock the producer at queue size %d", (writeQueueFull ? "May not" : "May"), queue.size());
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    throw new IOException(e);
-                } finally {
-                    lock.unlock();
+                } else {
+                    readBuffer = rb = queue.poll();
                 }
+                final boolean writeQueueFull = writeQueueFull();
                 if (checkEndOrException(rb)) {
                     return null;
                 }
@@ -1951,15 +2485,7 @@ public class VertxHttpClientHTTPConduit extends HTTPConduit {
         }
 
         public void setException(Throwable exception) {
-            // log.trace("Passing an exception", exception);
-            final ReentrantLock lock = this.lock;
-            lock.lock();
-            try {
-                queue.offer(new ErrorBuffer(exception));
-                queueChange.signal();
-            } finally {
-                lock.unlock();
-            }
+            queue.offer(new ErrorBuffer(exception));
         }
 
     }
@@ -10,6 +10,7 @@ import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -38,6 +39,7 @@ import org.apache.cxf.transport.ConduitInitiator;
 import org.apache.cxf.transport.ConduitInitiatorManager;
 import org.apache.cxf.transport.MessageObserver;
 import org.apache.cxf.transport.TransportURIResolver;
+import org.apache.cxf.transport.http.HTTPConduitFactory;
 import org.apache.cxf.wsdl11.CatalogWSDLLocator;
 import org.apache.cxf.wsdl11.ResourceManagerWSDLLocator;
 import org.apache.cxf.wsdl11.WSDLManagerImpl;
@@ -46,9 +48,19 @@ import org.xml.sax.InputSource;
 
 /**
  * Temporary workaround for https://github.com/quarkiverse/quarkus-cxf/issues/1608
+ * <p>
+ * In addition to that, remote WSDL documents are fetched using the {@link HTTPConduitFactory} passed via
+ * {@link #withConduitFactory(HTTPConduitFactory, Supplier)}, so that the client specific HTTP configuration is
+ * honored when fetching the WSDL of a client. See https://github.com/quarkiverse/quarkus-cxf/issues/1264
  */
 public class QuarkusWSDLManager extends WSDLManagerImpl {
 
+    /**
+     * The {@link HTTPConduitFactory} to use for fetching WSDL documents on the current thread. We cannot set it on
+     * the {@link Bus} because the {@link Bus} is shared by all clients, possibly created in parallel.
+     */
+    private static final ThreadLocal<HTTPConduitFactory> conduitFactory = new ThreadLocal<>();
+
     private final ExtensionRegistry registry;
     private XMLStreamReaderWrapper xmlStreamReaderWrapper;
 
@@ -66,6 +78,31 @@ public class QuarkusWSDLManager extends WSDLManagerImpl {
         setBus(b);
     }
 
+    /**
+     * Run the given {@code action} on the current thread, using the given {@link HTTPConduitFactory} for fetching any
+     * WSDL documents over HTTP.
+     *
+     * @param <T> the return type of the {@code action}
+     * @param factory the {@link HTTPConduitFactory} to use for fetching WSDL documents or {@code null} to use the
+     *        {@link HTTPConduitFactory} available through the {@link Bus}
+     * @param action the action to perform
+     * @return the result of the {@code action}
+     * @since 3.38.0
+     */
+    public static <T> T withConduitFactory(HTTPConduitFactory factory, Supplier<T> action) {
+        final HTTPConduitFactory previous = conduitFactory.get();
+        conduitFactory.set(factory);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                conduitFactory.remove();
+            } else {
+                conduitFactory.set(previous);
+            }
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private static <T> T getField(Class<?> cl, Object inst, String fieldName) {
         try {
@@ -233,6 +270,11 @@ public class QuarkusWSDLManager extends WSDLManagerImpl {
                         // set the endpointInfo name which could be used for configuration
                         info.setName(new QName("http://cxf.apache.org", "TransportURIResolver"));
                         info.setAddress(base.toString());
+                        final HTTPConduitFactory factory = conduitFactory.get();
+                        if (factory != null) {
+                            /* Honored by HTTPTransportFactory.findFactory() */
+                            info.setProperty(HTTPConduitFactory.class.getName(), factory);
+                        }
                         Conduit c = ci.getConduit(info, bus);
                         Message message = new MessageImpl();
                         Exchange exch = new ExchangeImpl();
@@ -0,0 +1,60 @@
+package io.quarkiverse.cxf;
+
+import javax.xml.namespace.QName;
+
+import jakarta.jws.WebMethod;
+import jakarta.jws.WebService;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ClientServiceModelCacheTest {
+
+    @Test
+    void get() {
+        final QName serviceName = new QName("http://test.cxf.quarkiverse.io/", "HelloService");
+        final ClientServiceModelCache.Entry entry = ClientServiceModelCache
+                .get(new ClientServiceModelCache.Key(HelloService.class, null, null, serviceName, null));
+
+        /* Equal keys share the entry */
+        Assertions.assertThat(ClientServiceModelCache
+                .get(new ClientServiceModelCache.Key(HelloService.class, null, null,
+                        new QName("http://test.cxf.quarkiverse.io/", "HelloService"), null)))
+                .isSameAs(entry);
+        Assertions.assertThat(entry.getImplementorInfo().getImplementorClass()).isEqualTo(HelloService.class);
+        Assertions.assertThat(entry.getDefinition()).isNull();
+        Assertions.assertThat(entry.getJaxbContext()).isNull();
+
+        /* A different WSDL yields a different entry */
+        Assertions.assertThat(ClientServiceModelCache
+                .get(new ClientServiceModelCache.Key(HelloService.class, "classpath:hello.wsdl", null, serviceName,
+                        null)))
+                .isNotSameAs(entry);
+    }
+
+    @Test
+    void bounded() {
+        ClientServiceModelCache.clear();
+        final QName serviceName = new QName("http://test.cxf.quarkiverse.io/", "HelloService");
+        for (int i = 0; i < ClientServiceModelCache.MAX_ENTRIES + 10; i++) {
+            ClientServiceModelCache.get(new ClientServiceModelCache.Key(HelloService.class, "classpath:hello-" + i + ".wsdl",
+                    null, serviceName, null));
+        }
+        Assertions.assertThat(ClientServiceModelCache.size()).isEqualTo(ClientServiceModelCache.MAX_ENTRIES);
+
+        /* Keys beyond the limit still get an entry, but not a shared one */
+        final ClientServiceModelCache.Key overflow = new ClientServiceModelCache.Key(HelloService.class,
+                "classpath:overflow.wsdl", null, serviceName, null);
+        Assertions.assertThat(ClientServiceModelCache.get(overflow)).isNotNull()
+                .isNotSameAs(ClientServiceModelCache.get(overflow));
+
+        ClientServiceModelCache.clear();
+        Assertions.assertThat(ClientServiceModelCache.size()).isZero();
+    }
+
+    @WebService
+    public interface HelloService {
+        @WebMethod
+        String hello(String person);
+    }
+}
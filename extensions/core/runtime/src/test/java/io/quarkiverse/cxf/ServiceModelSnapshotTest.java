@@ -0,0 +1,93 @@
+package io.quarkiverse.cxf;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.annotation.XmlRootElement;
+
+import org.apache.cxf.common.jaxb.JAXBContextCache;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ServiceModelSnapshotTest {
+
+    @Test
+    void prime() throws JAXBException {
+        final String ns = "http://test.deployment.cxf.quarkiverse.io/";
+        ServiceModelSnapshot.prime(List.of(new ServiceModelSnapshot(
+                "org.acme.Hello",
+                List.of(Greeting.class.getName(), "int", String[].class.getName()),
+                ns)));
+
+        final Set<Class<?>> classes = new LinkedHashSet<>(List.of(Greeting.class, int.class, String[].class));
+        Assertions.assertThat(ServiceModelSnapshot.primed("org.acme.Hello")).isNotNull();
+        /* Found in the cache rather than created again */
+        Assertions.assertThat(JAXBContextCache.getCachedContextAndSchemas(classes, ns, null, null, true).getContext())
+                .isSameAs(ServiceModelSnapshot.primed("org.acme.Hello").getContext());
+    }
+
+    @Test
+    void clear() {
+        ServiceModelSnapshot.prime(List.of(new ServiceModelSnapshot(
+                "org.acme.Cleared",
+                List.of(Greeting.class.getName()),
+                null)));
+        Assertions.assertThat(ServiceModelSnapshot.primed("org.acme.Cleared")).isNotNull();
+        ServiceModelSnapshot.clear();
+        Assertions.assertThat(ServiceModelSnapshot.primed("org.acme.Cleared")).isNull();
+    }
+
+    @Test
+    void missingClass() {
+        /* Must not throw */
+        ServiceModelSnapshot.prime(List.of(new ServiceModelSnapshot(
+                "org.acme.Missing",
+                List.of("org.acme.DoesNotExist"),
+                null)));
+        Assertions.assertThat(ServiceModelSnapshot.primed("org.acme.Missing")).isNull();
+    }
+
+    @Test
+    void contextClassLoader() {
+        final Set<String> loaded = ConcurrentHashMap.newKeySet();
+        final ClassLoader recording = new ClassLoader(getClass().getClassLoader()) {
+            @Override
+            public Class<?> loadClass(String name) throws ClassNotFoundException {
+                loaded.add(name);
+                return super.loadClass(name);
+            }
+        };
+        final Thread currentThread = Thread.currentThread();
+        final ClassLoader oldCl = currentThread.getContextClassLoader();
+        currentThread.setContextClassLoader(recording);
+        try {
+            ServiceModelSnapshot.prime(List.of(
+                    new ServiceModelSnapshot("org.acme.Tccl1", List.of(Greeting.class.getName()), null),
+                    new ServiceModelSnapshot("org.acme.Tccl2", List.of(Greeting.class.getName(), "int"), null),
+                    new ServiceModelSnapshot("org.acme.Tccl3", List.of(Greeting.class.getName(), "long"), null)));
+        } finally {
+            currentThread.setContextClassLoader(oldCl);
+        }
+        /* All snapshots are primed before prime() returns, using the context class loader of the caller */
+        Assertions.assertThat(ServiceModelSnapshot.primed("org.acme.Tccl1")).isNotNull();
+        Assertions.assertThat(ServiceModelSnapshot.primed("org.acme.Tccl2")).isNotNull();
+        Assertions.assertThat(ServiceModelSnapshot.primed("org.acme.Tccl3")).isNotNull();
+        Assertions.assertThat(loaded).contains(Greeting.class.getName());
+    }
+
+    @Test
+    void loadClass() throws ClassNotFoundException {
+        final ClassLoader cl = getClass().getClassLoader();
+        Assertions.assertThat(ServiceModelSnapshot.loadClass("long", cl)).isEqualTo(long.class);
+        Assertions.assertThat(ServiceModelSnapshot.loadClass(String[].class.getName(), cl)).isEqualTo(String[].class);
+        Assertions.assertThat(ServiceModelSnapshot.loadClass(Greeting.class.getName(), cl)).isEqualTo(Greeting.class);
+    }
+
+    @XmlRootElement
+    public static class Greeting {
+        public String text;
+    }
+}
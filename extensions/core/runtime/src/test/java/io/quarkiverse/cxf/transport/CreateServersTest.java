@@ -0,0 +1,79 @@
+package io.quarkiverse.cxf.transport;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.apache.cxf.endpoint.Server;
+import org.apache.cxf.jaxws.JaxWsServerFactoryBean;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkiverse.cxf.transport.CxfHandler.PendingEndpoint;
+
+public class CreateServersTest {
+
+    @Test
+    void destroyCreatedServersOnFailure() {
+        final List<String> destroyed = new ArrayList<>();
+        final List<PendingEndpoint> pendingEndpoints = List.of(
+                pendingEndpoint(() -> server("first", destroyed)),
+                pendingEndpoint(() -> server("second", destroyed)),
+                pendingEndpoint(() -> {
+                    throw new IllegalStateException("third failed");
+                }),
+                pendingEndpoint(() -> server("fourth", destroyed)));
+
+        Assertions.assertThatThrownBy(() -> CxfHandler.createServers(pendingEndpoints))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("third failed");
+        /* The fourth was never created */
+        Assertions.assertThat(destroyed).containsExactly("first", "second");
+    }
+
+    @Test
+    void suppressDestroyFailures() {
+        final IllegalStateException cause = new IllegalStateException("cause");
+        final List<String> destroyed = new ArrayList<>();
+        CxfHandler.destroy(List.of(server("first", destroyed), failingServer(), server("third", destroyed)), cause);
+        Assertions.assertThat(destroyed).containsExactly("first", "third");
+        Assertions.assertThat(cause.getSuppressed()).hasSize(1);
+        Assertions.assertThat(cause.getSuppressed()[0]).hasMessage("destroy failed");
+    }
+
+    static PendingEndpoint pendingEndpoint(Supplier<Server> create) {
+        return new PendingEndpoint(null, new JaxWsServerFactoryBean() {
+            @Override
+            public Server create() {
+                return create.get();
+            }
+        }, null);
+    }
+
+    static Server server(String name, List<String> destroyed) {
+        return (Server) Proxy.newProxyInstance(
+                CreateServersTest.class.getClassLoader(),
+                new Class<?>[] { Server.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "destroy":
+                            destroyed.add(name);
+                            return null;
+                        case "toString":
+                            return name;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    static Server failingServer() {
+        return (Server) Proxy.newProxyInstance(
+                CreateServersTest.class.getClassLoader(),
+                new Class<?>[] { Server.class },
+                (proxy, method, args) -> {
+                    throw new IllegalStateException(method.getName() + " failed");
+                });
+    }
+}
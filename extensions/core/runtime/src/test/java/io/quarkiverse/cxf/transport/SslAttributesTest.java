@@ -0,0 +1,101 @@
+package io.quarkiverse.cxf.transport;
+
+import java.lang.reflect.Proxy;
+import java.security.PublicKey;
+import java.security.cert.Certificate;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.net.ssl.SSLPeerUnverifiedException;
+import javax.net.ssl.SSLSession;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkiverse.cxf.transport.VertxHttpServletRequest.SslAttributes;
+
+public class SslAttributesTest {
+
+    @Test
+    void peerCertificatesCopied() {
+        final Certificate[] chain = { new TestCertificate("leaf"), new TestCertificate("root") };
+        final Certificate[] expected = chain.clone();
+        final AtomicInteger lookups = new AtomicInteger();
+        final SslAttributes ssl = new SslAttributes(sslSession(() -> {
+            lookups.incrementAndGet();
+            return chain;
+        }));
+
+        final Certificate[] first = ssl.peerCertificates();
+        Assertions.assertThat(first).containsExactly(expected);
+
+        /* A caller modifying the returned array must not affect other requests of the same session */
+        first[0] = new TestCertificate("forged");
+        final Certificate[] second = ssl.peerCertificates();
+        Assertions.assertThat(second).isNotSameAs(first).containsExactly(expected);
+
+        Assertions.assertThat(ssl.hasPeerCertificates()).isTrue();
+        /* Resolved only once per session */
+        Assertions.assertThat(lookups.get()).isEqualTo(1);
+    }
+
+    @Test
+    void peerUnverified() {
+        final SslAttributes ssl = new SslAttributes(sslSession(() -> {
+            throw new SSLPeerUnverifiedException("unverified");
+        }));
+        Assertions.assertThat(ssl.peerCertificates()).isNull();
+        Assertions.assertThat(ssl.hasPeerCertificates()).isFalse();
+    }
+
+    static SSLSession sslSession(PeerCertificates peerCertificates) {
+        return (SSLSession) Proxy.newProxyInstance(
+                SslAttributesTest.class.getClassLoader(),
+                new Class<?>[] { SSLSession.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getCipherSuite":
+                            return "TLS_AES_128_GCM_SHA256";
+                        case "getPeerCertificates":
+                            return peerCertificates.get();
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    interface PeerCertificates {
+        Certificate[] get() throws SSLPeerUnverifiedException;
+    }
+
+    static class TestCertificate extends Certificate {
+        private final String name;
+
+        TestCertificate(String name) {
+            super("X.509");
+            this.name = name;
+        }
+
+        @Override
+        public byte[] getEncoded() {
+            return name.getBytes();
+        }
+
+        @Override
+        public void verify(PublicKey key) {
+        }
+
+        @Override
+        public void verify(PublicKey key, String sigProvider) {
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+
+        @Override
+        public PublicKey getPublicKey() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package io.quarkiverse.cxf.vertx.http.client;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.Deflater;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkiverse.cxf.vertx.http.client.BodyRecorder.Chunk;
+import io.quarkiverse.cxf.vertx.http.client.BodyRecorder.CompressedBodyWriter;
+
+public class CompressedBodyWriterTest {
+
+    @Test
+    void inflate() throws IOException {
+        final byte[] data = "<soap:Envelope/>".repeat(10_000).getBytes(StandardCharsets.UTF_8);
+        final byte[] compressed = deflate(data);
+        Assertions.assertThat(compressed.length).isLessThan(data.length / 2);
+
+        final List<Chunk> chunks = CompressedBodyWriter.inflate(compressed, compressed.length, data.length);
+        Assertions.assertThat(chunks).hasSize(3);
+        Assertions.assertThat(chunks.get(0).buffer().length()).isEqualTo(CompressedBodyWriter.INFLATED_CHUNK_SIZE);
+        Assertions.assertThat(chunks.get(1).buffer().length()).isEqualTo(CompressedBodyWriter.INFLATED_CHUNK_SIZE);
+
+        final byte[] actual = new byte[data.length];
+        int offset = 0;
+        for (Chunk chunk : chunks) {
+            final byte[] bytes = chunk.buffer().getBytes();
+            System.arraycopy(bytes, 0, actual, offset, bytes.length);
+            offset += bytes.length;
+        }
+        Assertions.assertThat(actual).isEqualTo(data);
+    }
+
+    @Test
+    void inflateTruncated() {
+        final byte[] data = "<soap:Envelope/>".repeat(1_000).getBytes(StandardCharsets.UTF_8);
+        final byte[] compressed = deflate(data);
+        Assertions.assertThatThrownBy(() -> CompressedBodyWriter.inflate(compressed, compressed.length, data.length + 1))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Unexpected end of compressed request body");
+    }
+
+    static byte[] deflate(byte[] data) {
+        final Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            byte[] out = new byte[data.length + 64];
+            int len = 0;
+            while (!deflater.finished()) {
+                if (len == out.length) {
+                    out = Arrays.copyOf(out, out.length << 1);
+                }
+                len += deflater.deflate(out, len, out.length - len);
+            }
+            return Arrays.copyOf(out, len);
+        } finally {
+            deflater.end();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package io.quarkiverse.cxf.vertx.http.client;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkiverse.cxf.vertx.http.client.BodyRecorder.DiskStoredBody;
+import io.quarkiverse.cxf.vertx.http.client.BodyRecorder.Mapping;
+
+public class DiskStoredBodyTest {
+
+    @Test
+    void map() throws IOException {
+        final int size = DiskStoredBody.MAPPED_CHUNK_SIZE * 2 + 42;
+        final byte[] data = new byte[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = (byte) i;
+        }
+        final Path file = Files.createTempFile("qcxf-DiskStoredBodyTest-", ".bin");
+        try {
+            Files.write(file, data);
+            final Mapping mapping = DiskStoredBody.map(file);
+            final List<ByteBuffer> chunks = mapping.chunks();
+            Assertions.assertThat(chunks).hasSize(3);
+            Assertions.assertThat(chunks.get(0).remaining()).isEqualTo(DiskStoredBody.MAPPED_CHUNK_SIZE);
+            Assertions.assertThat(chunks.get(1).remaining()).isEqualTo(DiskStoredBody.MAPPED_CHUNK_SIZE);
+            Assertions.assertThat(chunks.get(2).remaining()).isEqualTo(42);
+
+            final byte[] actual = new byte[size];
+            int offset = 0;
+            for (ByteBuffer chunk : chunks) {
+                final int len = chunk.remaining();
+                chunk.get(actual, offset, len);
+                offset += len;
+            }
+            Assertions.assertThat(actual).isEqualTo(data);
+
+            /* Released right away and only once */
+            mapping.unmap();
+            mapping.unmap();
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void mapEmpty() throws IOException {
+        final Path file = Files.createTempFile("qcxf-DiskStoredBodyTest-", ".bin");
+        try {
+            final Mapping mapping = DiskStoredBody.map(file);
+            Assertions.assertThat(mapping.chunks()).isEmpty();
+            mapping.unmap();
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+}
@@ -0,0 +1,165 @@
+package io.quarkiverse.cxf.vertx.http.client;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkiverse.cxf.vertx.http.client.Hedging.LatencyHistogram;
+import io.quarkiverse.cxf.vertx.http.client.Hedging.Race;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpClientResponse;
+
+public class HedgingTest {
+
+    @Test
+    void histogramBuckets() {
+        for (long v : new long[] { 0, 1, 3, 4, 5, 7, 8, 100, 1_000, 123_456, 60_000_000, Long.MAX_VALUE }) {
+            final int i = LatencyHistogram.index(v);
+            Assertions.assertThat(LatencyHistogram.upperBound(i)).isGreaterThan(v == Long.MAX_VALUE ? 0 : v);
+            if (i > 0) {
+                Assertions.assertThat(LatencyHistogram.upperBound(i - 1)).isLessThanOrEqualTo(v);
+            }
+        }
+    }
+
+    @Test
+    void percentile() {
+        final LatencyHistogram h = new LatencyHistogram();
+        Assertions.assertThat(h.percentile(95)).isEqualTo(0);
+        for (int i = 1; i <= 100; i++) {
+            h.record(i * 1000);
+        }
+        /* Four buckets per power of two make the estimate at most 25% higher */
+        Assertions.assertThat(h.percentile(95)).isBetween(95_000L, 95_000L * 5 / 4);
+        Assertions.assertThat(h.percentile(50)).isBetween(50_000L, 50_000L * 5 / 4);
+    }
+
+    @Test
+    void decay() {
+        final LatencyHistogram h = new LatencyHistogram();
+        for (int i = 0; i < LatencyHistogram.DECAY_THRESHOLD; i++) {
+            h.record(1000);
+        }
+        Assertions.assertThat(h.count()).isEqualTo(LatencyHistogram.DECAY_THRESHOLD / 2);
+    }
+
+    @Test
+    void delayAndBudget() {
+        final Hedging hedging = new Hedging(List.of("lookup"), 90, Duration.ofMillis(100), Duration.ofMillis(5), 0.1);
+        Assertions.assertThat(hedging.getOperation("update")).isNull();
+        final Hedging.Operation op = hedging.getOperation("lookup");
+        Assertions.assertThat(op.delayMillis()).isEqualTo(100);
+
+        for (int i = 0; i < Hedging.MIN_SAMPLES; i++) {
+            op.started();
+            op.latencies().record(10_000);
+        }
+        Assertions.assertThat(op.delayMillis()).isBetween(10L, 13L);
+
+        /* 100 requests and budget 0.1 */
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertThat(op.tryHedge()).isTrue();
+        }
+        Assertions.assertThat(op.tryHedge()).isFalse();
+        Assertions.assertThat(op.getHedges()).isEqualTo(10);
+    }
+
+    @Test
+    void failureStatusDoesNotDecideRace() {
+        final List<String> events = new ArrayList<>();
+        final Race race = new Race();
+        final HttpClientRequest primary = request("primary", events);
+        final HttpClientRequest hedge = request("hedge", events);
+        race.primary(primary);
+        Assertions.assertThat(race.startHedge()).isTrue();
+        Assertions.assertThat(race.hedge(hedge)).isTrue();
+
+        /* The primary responds with 503 first: held and paused */
+        Assertions.assertThat(race.accept(false, Future.succeededFuture(response(primary, events)), true)).isNull();
+        Assertions.assertThat(race.isOpen()).isTrue();
+        Assertions.assertThat(events).containsExactly("primary paused");
+
+        /* The hedge succeeds and wins; the held primary gets reset */
+        final AsyncResult<HttpClientResponse> ok = Future.succeededFuture(response(hedge, events));
+        Assertions.assertThat(race.accept(true, ok, false)).isSameAs(ok);
+        Assertions.assertThat(race.isLoser(false)).isTrue();
+        Assertions.assertThat(events).containsExactly("primary paused", "primary reset");
+    }
+
+    @Test
+    void heldResponsePassedOnIfOtherFails() {
+        final List<String> events = new ArrayList<>();
+        final Race race = new Race();
+        final HttpClientRequest primary = request("primary", events);
+        final HttpClientRequest hedge = request("hedge", events);
+        race.primary(primary);
+        race.startHedge();
+        race.hedge(hedge);
+
+        final HttpClientResponse unavailable = response(hedge, events);
+        Assertions.assertThat(race.accept(true, Future.succeededFuture(unavailable), true)).isNull();
+
+        /* The primary fails; the 503 is more useful than the exception */
+        final AsyncResult<HttpClientResponse> result = race.accept(false, Future.failedFuture(new IOException("boom")),
+                false);
+        Assertions.assertThat(result.succeeded()).isTrue();
+        Assertions.assertThat(result.result()).isSameAs(unavailable);
+        Assertions.assertThat(race.isLoser(false)).isTrue();
+        Assertions.assertThat(events).containsExactly("hedge paused");
+    }
+
+    @Test
+    void lateHedgeNotResetByRace() {
+        final List<String> events = new ArrayList<>();
+        final Race race = new Race();
+        final HttpClientRequest primary = request("primary", events);
+        race.primary(primary);
+        race.startHedge();
+        race.accept(false, Future.succeededFuture(response(primary, events)), false);
+
+        /* The caller is responsible for resetting the late duplicate */
+        Assertions.assertThat(race.hedge(request("hedge", events))).isFalse();
+        Assertions.assertThat(events).isEmpty();
+    }
+
+    static HttpClientRequest request(String name, List<String> events) {
+        return (HttpClientRequest) Proxy.newProxyInstance(
+                HedgingTest.class.getClassLoader(),
+                new Class<?>[] { HttpClientRequest.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "reset":
+                            events.add(name + " reset");
+                            return true;
+                        case "toString":
+                            return name;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    static HttpClientResponse response(HttpClientRequest request, List<String> events) {
+        return (HttpClientResponse) Proxy.newProxyInstance(
+                HedgingTest.class.getClassLoader(),
+                new Class<?>[] { HttpClientResponse.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "pause":
+                            events.add(request + " paused");
+                            return proxy;
+                        case "request":
+                            return request;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
@@ -329,4 +329,47 @@ public class InputStreamWriteStreamTest {
         }
 
     }
+
+    @Test
+    void availableCountsQueuedBytes() throws IOException {
+        ContextInternal ctx = (ContextInternal) Vertx.vertx().getOrCreateContext();
+        try (InputStreamWriteStream ws = new InputStreamWriteStream(ctx, timeoutSpec(), 2)) {
+            ws.write(Buffer.buffer("abcd"));
+            ws.write(Buffer.buffer("efgh"));
+            Assertions.assertThat(ws.writeQueueFull()).isTrue();
+            ws.write(Buffer.buffer("ijkl"));
+            ws.end();
+            Assertions.assertThat(ws.available()).isEqualTo(12);
+            Assertions.assertThat(ws.read(new byte[6])).isEqualTo(6);
+            Assertions.assertThat(ws.available()).isEqualTo(6);
+            Assertions.assertThat(ws.read(new byte[6])).isEqualTo(6);
+            /* Only END left in the queue */
+            Assertions.assertThat(ws.writeQueueFull()).isFalse();
+            Assertions.assertThat(ws.available()).isEqualTo(0);
+            Assertions.assertThat(ws.read(new byte[6])).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    void concurrentWriteRead() throws Exception {
+        ContextInternal ctx = (ContextInternal) Vertx.vertx().getOrCreateContext();
+        final int count = 100_000;
+        try (InputStreamWriteStream ws = new InputStreamWriteStream(ctx, timeoutSpec(), 4)) {
+            Thread producer = new Thread(() -> {
+                for (int i = 0; i < count; i++) {
+                    ws.write(Buffer.buffer(new byte[] { (byte) i }));
+                }
+                ws.end();
+            }, "test-producer");
+            producer.start();
+
+            int expected = 0;
+            int b;
+            while ((b = ws.read()) >= 0) {
+                Assertions.assertThat(b).isEqualTo(expected++ & 0xFF);
+            }
+            Assertions.assertThat(expected).isEqualTo(count);
+            producer.join(5000);
+        }
+    }
 }
@@ -0,0 +1,150 @@
+package io.quarkiverse.cxf.vertx.http.client;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkiverse.cxf.CxfClientConfig.ResponseCacheEviction;
+import io.quarkiverse.cxf.vertx.http.client.VertxHttpClientHTTPConduit.ResponseHead;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+
+public class ResponseCacheTest {
+    private static final long TTL = TimeUnit.MINUTES.toNanos(1);
+
+    @Test
+    void key() {
+        final URI uri = URI.create("http://localhost:8081/services/hello");
+        final MultiMap noHeaders = MultiMap.caseInsensitiveMultiMap();
+        final String key = ResponseCache.key(uri, noHeaders, Buffer.buffer("<foo/>"));
+        Assertions.assertThat(key).isEqualTo(ResponseCache.key(uri, noHeaders, Buffer.buffer("<foo/>")));
+        Assertions.assertThat(key).isNotEqualTo(ResponseCache.key(uri, noHeaders, Buffer.buffer("<bar/>")));
+        Assertions.assertThat(key)
+                .isNotEqualTo(ResponseCache.key(URI.create("http://localhost:8082/services/hello"), noHeaders,
+                        Buffer.buffer("<foo/>")));
+    }
+
+    @Test
+    void keyCoversPrincipal() {
+        final URI uri = URI.create("http://localhost:8081/services/hello");
+        final Buffer body = Buffer.buffer("<foo/>");
+        final String anonymous = ResponseCache.key(uri, MultiMap.caseInsensitiveMultiMap(), body);
+        final String joe = ResponseCache.key(uri,
+                MultiMap.caseInsensitiveMultiMap().add("authorization", "Basic am9lOnBhc3M="), body);
+        final String jane = ResponseCache.key(uri,
+                MultiMap.caseInsensitiveMultiMap().add("Authorization", "Basic amFuZTpwYXNz"), body);
+        final String session = ResponseCache.key(uri,
+                MultiMap.caseInsensitiveMultiMap().add("Cookie", "JSESSIONID=1234"), body);
+        Assertions.assertThat(List.of(anonymous, joe, jane, session)).doesNotHaveDuplicates();
+
+        /* Other headers do not matter */
+        Assertions.assertThat(ResponseCache.key(uri,
+                MultiMap.caseInsensitiveMultiMap().add("traceparent", "00-0af7651916cd43dd8448eb211c80319c-01"), body))
+                .isEqualTo(anonymous);
+    }
+
+    @Test
+    void expiry() {
+        final ResponseCache cache = new ResponseCache(TTL, 10, 1024, 1024, ResponseCacheEviction.LRU);
+        cache.put("a", head(), new byte[] { 1, 2, 3 });
+
+        final long now = System.nanoTime();
+        Assertions.assertThat(cache.get("a", now).body()).containsExactly(1, 2, 3);
+        Assertions.assertThat(cache.get("a", now + TTL + 1)).isNull();
+        Assertions.assertThat(cache.get("a", now)).isNull();
+        Assertions.assertThat(cache.getStats()).isEqualTo(new ResponseCache.Stats(1, 2, 0, 0, 0));
+    }
+
+    @Test
+    void lru() {
+        final ResponseCache cache = new ResponseCache(TTL, 2, 1024, 1024, ResponseCacheEviction.LRU);
+        cache.put("a", head(), new byte[1]);
+        cache.put("b", head(), new byte[1]);
+        /* Make b the least recently used one */
+        Assertions.assertThat(cache.get("a")).isNotNull();
+        cache.put("c", head(), new byte[1]);
+
+        Assertions.assertThat(cache.get("b")).isNull();
+        Assertions.assertThat(cache.get("a")).isNotNull();
+        Assertions.assertThat(cache.get("c")).isNotNull();
+        Assertions.assertThat(cache.getStats().evictions()).isEqualTo(1);
+    }
+
+    @Test
+    void maxSize() {
+        final ResponseCache cache = new ResponseCache(TTL, 10, 10, 10, ResponseCacheEviction.LRU);
+        cache.put("a", head(), new byte[4]);
+        cache.put("b", head(), new byte[4]);
+        cache.put("c", head(), new byte[4]);
+        /* Too big */
+        cache.put("d", head(), new byte[11]);
+
+        Assertions.assertThat(cache.get("a")).isNull();
+        Assertions.assertThat(cache.get("d")).isNull();
+        final ResponseCache.Stats stats = cache.getStats();
+        Assertions.assertThat(stats.entries()).isEqualTo(2);
+        Assertions.assertThat(stats.bytes()).isEqualTo(8);
+    }
+
+    @Test
+    void maxEntrySize() {
+        /* Each entry can have at most 4 bytes, all entries together at most 10 */
+        final ResponseCache cache = new ResponseCache(TTL, 10, 4, 10, ResponseCacheEviction.LRU);
+        Assertions.assertThat(cache.getMaxEntryBytes()).isEqualTo(4);
+        cache.put("a", head(), new byte[4]);
+        /* Too big for a single entry although the total size limit would permit it */
+        cache.put("b", head(), new byte[5]);
+
+        Assertions.assertThat(cache.get("a")).isNotNull();
+        Assertions.assertThat(cache.get("b")).isNull();
+        Assertions.assertThat(cache.getStats().evictions()).isEqualTo(0);
+
+        /* The entry size limit cannot exceed the total size limit */
+        Assertions.assertThat(new ResponseCache(TTL, 10, 100, 10, ResponseCacheEviction.LRU).getMaxEntryBytes())
+                .isEqualTo(10);
+    }
+
+    @Test
+    void wTinyLfuKeepsFrequentEntries() {
+        /* A window of one entry and a main area of three entries */
+        final ResponseCache cache = new ResponseCache(TTL, 4, 1024, 1024, ResponseCacheEviction.W_TINY_LFU);
+        for (String key : new String[] { "hot1", "hot2", "hot3" }) {
+            cache.put(key, head(), new byte[1]);
+            for (int i = 0; i < 5; i++) {
+                cache.get(key);
+            }
+        }
+        /* A scan of one-off requests must not flush the frequently requested entries */
+        for (int i = 0; i < 20; i++) {
+            cache.put("cold" + i, head(), new byte[1]);
+        }
+
+        Assertions.assertThat(cache.get("hot1")).isNotNull();
+        Assertions.assertThat(cache.get("hot2")).isNotNull();
+        Assertions.assertThat(cache.get("hot3")).isNotNull();
+        Assertions.assertThat(cache.get("cold0")).isNull();
+        Assertions.assertThat(cache.get("cold19")).isNotNull();
+        Assertions.assertThat(cache.getStats().entries()).isEqualTo(4);
+    }
+
+    @Test
+    void lruFlushedByScan() {
+        final ResponseCache cache = new ResponseCache(TTL, 4, 1024, 1024, ResponseCacheEviction.LRU);
+        cache.put("hot1", head(), new byte[1]);
+        for (int i = 0; i < 5; i++) {
+            cache.get("hot1");
+        }
+        for (int i = 0; i < 20; i++) {
+            cache.put("cold" + i, head(), new byte[1]);
+        }
+        Assertions.assertThat(cache.get("hot1")).isNull();
+    }
+
+    static ResponseHead head() {
+        return new ResponseHead(200, "OK", "http://localhost:8081/services/hello",
+                MultiMap.caseInsensitiveMultiMap().add("Content-Type", "text/xml"));
+    }
+}
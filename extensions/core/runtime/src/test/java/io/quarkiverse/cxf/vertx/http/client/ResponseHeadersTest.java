@@ -0,0 +1,80 @@
+package io.quarkiverse.cxf.vertx.http.client;
+
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.MultiMap;
+
+public class ResponseHeadersTest {
+
+    @Test
+    void lookupsDoNotMaterialize() {
+        final ResponseHeaders headers = new ResponseHeaders(headers());
+
+        Assertions.assertThat(headers.get("content-type")).containsExactly("text/xml");
+        Assertions.assertThat(headers.get("X-Foo")).containsExactly("foo1", "foo2");
+        Assertions.assertThat(headers.get("X-Bar")).isNull();
+        Assertions.assertThat(headers.get(42)).isNull();
+        Assertions.assertThat(headers.containsKey("CONTENT-TYPE")).isTrue();
+        Assertions.assertThat(headers.containsKey("X-Bar")).isFalse();
+        Assertions.assertThat(headers.size()).isEqualTo(2);
+        Assertions.assertThat(headers.isEmpty()).isFalse();
+        Assertions.assertThat(headers.isMaterialized()).isFalse();
+    }
+
+    @Test
+    void iterationMaterializes() {
+        final ResponseHeaders headers = new ResponseHeaders(headers());
+
+        Assertions.assertThat(headers.keySet()).containsExactly("Content-Type", "x-foo");
+        Assertions.assertThat(headers.isMaterialized()).isTrue();
+        Assertions.assertThat(headers.get("X-FOO")).containsExactly("foo1", "foo2");
+    }
+
+    @Test
+    void writesMaterialize() {
+        final MultiMap multiMap = headers();
+        final ResponseHeaders headers = new ResponseHeaders(multiMap);
+
+        headers.put("X-Bar", List.of("bar"));
+        Assertions.assertThat(headers.isMaterialized()).isTrue();
+        Assertions.assertThat(headers.get("x-bar")).containsExactly("bar");
+        Assertions.assertThat(headers.remove("x-foo")).containsExactly("foo1", "foo2");
+        Assertions.assertThat(headers).containsOnlyKeys("Content-Type", "X-Bar");
+
+        /* The underlying MultiMap stays untouched */
+        Assertions.assertThat(multiMap.contains("X-Bar")).isFalse();
+        Assertions.assertThat(multiMap.getAll("X-Foo")).containsExactly("foo1", "foo2");
+    }
+
+    @Test
+    void lookupResultsAreWrittenThrough() {
+        final MultiMap multiMap = headers();
+        final ResponseHeaders headers = new ResponseHeaders(multiMap);
+
+        final List<String> foo = headers.get("x-foo");
+        /* Repeated lookups of the same header return the same list */
+        Assertions.assertThat(headers.get("X-FOO")).isSameAs(foo);
+        foo.add("foo3");
+        Assertions.assertThat(headers.isMaterialized()).isFalse();
+        Assertions.assertThat(headers.get("X-Foo")).containsExactly("foo1", "foo2", "foo3");
+
+        /* The modification survives materialization */
+        Assertions.assertThat(headers.entrySet()).hasSize(2);
+        Assertions.assertThat(headers.isMaterialized()).isTrue();
+        Assertions.assertThat(headers.get("x-foo")).isSameAs(foo).containsExactly("foo1", "foo2", "foo3");
+        Assertions.assertThat(headers.keySet()).containsExactly("Content-Type", "x-foo");
+
+        /* The underlying MultiMap stays untouched */
+        Assertions.assertThat(multiMap.getAll("X-Foo")).containsExactly("foo1", "foo2");
+    }
+
+    static MultiMap headers() {
+        return MultiMap.caseInsensitiveMultiMap()
+                .add("Content-Type", "text/xml")
+                .add("x-foo", "foo1")
+                .add("X-Foo", "foo2");
+    }
+}
@@ -11,12 +11,19 @@ import org.apache.cxf.feature.Feature;
 import org.apache.cxf.jaxws.JaxWsProxyFactoryBean;
 import org.apache.cxf.jaxws.JaxWsServerFactoryBean;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
 import io.quarkiverse.cxf.CXFClientInfo;
 import io.quarkiverse.cxf.CXFServletInfo;
 import io.quarkiverse.cxf.CxfClientProducer.ClientFactoryCustomizer;
 import io.quarkiverse.cxf.metrics.CxfMetricsConfig.ClientsConfig;
 import io.quarkiverse.cxf.metrics.CxfMetricsConfig.EndpointsConfig;
 import io.quarkiverse.cxf.transport.CxfHandler.EndpointFactoryCustomizer;
+import io.quarkiverse.cxf.vertx.http.client.HttpClientPool;
+import io.quarkiverse.cxf.vertx.http.client.TempStore;
 
 @ApplicationScoped
 public class MetricsCustomizer implements ClientFactoryCustomizer, EndpointFactoryCustomizer {
@@ -25,11 +32,17 @@ public class MetricsCustomizer implements ClientFactoryCustomizer, EndpointFacto
     @Inject
     CxfMetricsConfig config;
 
+    @Inject
+    HttpClientPool httpClientPool;
+
     private QuarkusCxfMetricsFeature feature;
 
     @PostConstruct
     void init() {
         this.feature = new QuarkusCxfMetricsFeature(config.metrics().tagsCustomizers());
+        if (config.metrics().enabledFor().enabledForClients()) {
+            registerHttpClientPoolMeters();
+        }
     }
 
     @Override
@@ -42,10 +55,115 @@ public class MetricsCustomizer implements ClientFactoryCustomizer, EndpointFacto
                     || !clients.containsKey(key)
                     || clients.get(key).metrics().enabled()) {
                 addFeatureIfNeeded(factory.getFeatures());
+                if (key != null) {
+                    registerReplayMeters(key);
+                    registerResponseCacheMeters(key, cxfClientInfo.getVertxConfig().responseCache().keySet());
+                }
             }
         }
     }
 
+    /**
+     * Register the meters reporting the statistics of {@link HttpClientPool} and of the temporary files of the
+     * retransmit cache. Registering the same meters again has no effect.
+     */
+    void registerHttpClientPoolMeters() {
+        final MeterRegistry registry = Metrics.globalRegistry;
+        final HttpClientPool pool = httpClientPool;
+        Gauge
+                .builder("cxf.client.pool.clients", pool, p -> p.getStats().liveClients())
+                .description("The number of distinct Vert.x HTTP clients currently in the pool")
+                .register(registry);
+        Gauge
+                .builder("cxf.client.pool.connections", pool, p -> p.getStats().openConnections())
+                .description("The number of open connections over all pooled Vert.x HTTP clients")
+                .register(registry);
+        Gauge
+                .builder("cxf.client.pool.requests.in.flight", pool, p -> p.getStats().inFlightRequests())
+                .description("The number of requests in flight over all pooled Vert.x HTTP clients")
+                .register(registry);
+        FunctionCounter
+                .builder("cxf.client.pool.evictions", pool, p -> p.getStats().evictions())
+                .description("The number of Vert.x HTTP clients evicted from the pool")
+                .register(registry);
+        Gauge
+                .builder("cxf.client.retransmit.cache.files", () -> TempStore.getStats().files())
+                .description("The number of temporary files holding request bodies for retransmission")
+                .register(registry);
+        Gauge
+                .builder("cxf.client.retransmit.cache.bytes", () -> TempStore.getStats().bytes())
+                .description("The size of the temporary files holding request bodies for retransmission")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    /**
+     * Register the meters reporting the request body replays of the given client. Registering the same meters again
+     * has no effect.
+     *
+     * @param configKey the client config key
+     */
+    void registerReplayMeters(String configKey) {
+        final MeterRegistry registry = Metrics.globalRegistry;
+        final HttpClientPool pool = httpClientPool;
+        final Tags tags = Tags.of("client", configKey);
+        FunctionCounter
+                .builder("cxf.client.request.replays", pool, p -> p.getReplayStats(configKey).replays())
+                .description("The number of request bodies replayed from the retransmit cache")
+                .tags(tags)
+                .register(registry);
+        FunctionCounter
+                .builder("cxf.client.request.replay.bytes", pool, p -> p.getReplayStats(configKey).bytesReplayed())
+                .description("The number of bytes sent by request body replays")
+                .baseUnit("bytes")
+                .tags(tags)
+                .register(registry);
+        FunctionCounter
+                .builder("cxf.client.request.replay.failures", pool, p -> p.getReplayStats(configKey).failures())
+                .description("The number of request body replays that failed")
+                .tags(tags)
+                .register(registry);
+    }
+
+    /**
+     * Register the meters reporting the statistics of the response caches of the given client. Registering the
+     * same meters again has no effect.
+     *
+     * @param configKey the client config key
+     * @param operationNames the names of the operations having a response cache
+     */
+    void registerResponseCacheMeters(String configKey, Iterable<String> operationNames) {
+        final MeterRegistry registry = Metrics.globalRegistry;
+        final HttpClientPool pool = httpClientPool;
+        for (String operationName : operationNames) {
+            final Tags tags = Tags.of("client", configKey, "operation", operationName);
+            FunctionCounter
+                    .builder("cxf.client.response.cache.hits", pool,
+                            p -> p.getResponseCacheStats(configKey, operationName).hits())
+                    .description("The number of responses served from the cache")
+                    .tags(tags)
+                    .register(registry);
+            FunctionCounter
+                    .builder("cxf.client.response.cache.misses", pool,
+                            p -> p.getResponseCacheStats(configKey, operationName).misses())
+                    .description("The number of requests not found in the cache")
+                    .tags(tags)
+                    .register(registry);
+            FunctionCounter
+                    .builder("cxf.client.response.cache.evictions", pool,
+                            p -> p.getResponseCacheStats(configKey, operationName).evictions())
+                    .description("The number of responses evicted because the cache was full")
+                    .tags(tags)
+                    .register(registry);
+            Gauge
+                    .builder("cxf.client.response.cache.entries", pool,
+                            p -> p.getResponseCacheStats(configKey, operationName).entries())
+                    .description("The number of responses currently in the cache")
+                    .tags(tags)
+                    .register(registry);
+        }
+    }
+
     @Override
     public void customize(CXFServletInfo servletInfo, JaxWsServerFactoryBean factory) {
         if (config.metrics().enabledFor().enabledForServices()) {
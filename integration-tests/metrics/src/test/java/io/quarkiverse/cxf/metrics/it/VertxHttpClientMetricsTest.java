@@ -66,6 +66,18 @@ public class VertxHttpClientMetricsTest {
          */
         Assertions.assertThat(getMetrics().get("http.client.active.connections;clientName=vertxCalculator"))
                 .isEqualTo(9.0f);
+
+        /* The statistics of the pool of Vert.x HttpClients are exported too */
+        final Map<String, Object> metrics = getMetrics();
+        Assertions.assertThat((Float) metrics.get("cxf.client.pool.clients")).isGreaterThanOrEqualTo(1.0f);
+        Assertions.assertThat((Float) metrics.get("cxf.client.pool.connections")).isGreaterThanOrEqualTo(9.0f);
+        Assertions.assertThat(metrics.get("cxf.client.pool.requests.in.flight")).isNotNull();
+        Assertions.assertThat(metrics.get("cxf.client.pool.evictions")).isNotNull();
+        Assertions.assertThat(metrics.get("cxf.client.retransmit.cache.files")).isNotNull();
+        Assertions.assertThat(metrics.get("cxf.client.retransmit.cache.bytes")).isNotNull();
+        /* No redirects or authentication challenges here, so nothing was replayed */
+        Assertions.assertThat(metrics.get("cxf.client.request.replays;client=vertxCalculator")).isEqualTo(0.0f);
+        Assertions.assertThat(metrics.get("cxf.client.request.replay.failures;client=vertxCalculator")).isEqualTo(0.0f);
     }
 
     public static Map<String, Object> getMetrics() {